@@ -0,0 +1,61 @@
+package com.hartwig.oncoact.batch;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.function.Function;
+
+import com.google.common.collect.Lists;
+import com.hartwig.oncoact.util.TsvReader;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reads the tab-separated manifest of a batch run. Every non-blank line after the header is one entry, the values of the requested
+ * columns are handed to the entry factory in the order in which the columns were requested.
+ */
+public final class BatchManifestFile {
+
+    private BatchManifestFile() {
+    }
+
+    @NotNull
+    public static <T> List<T> read(@NotNull String manifestTsv, @NotNull List<String> columns,
+            @NotNull Function<List<String>, T> entryFactory) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(manifestTsv), StandardCharsets.UTF_8)) {
+            return read(reader, columns, entryFactory);
+        }
+    }
+
+    @NotNull
+    public static <T> List<T> read(@NotNull BufferedReader manifest, @NotNull List<String> columns,
+            @NotNull Function<List<String>, T> entryFactory) throws IOException {
+        TsvReader reader = TsvReader.withHeader(manifest);
+        if (!reader.columns().containsAll(columns)) {
+            throw new IllegalArgumentException("Wrong column names " + reader.columns() + " are present in batch manifest, expected "
+                    + columns + "!");
+        }
+
+        int[] columnIndices = new int[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            columnIndices[i] = reader.column(columns.get(i));
+        }
+
+        List<T> entries = Lists.newArrayList();
+        while (reader.next()) {
+            if (reader.line().isBlank()) {
+                continue;
+            }
+
+            List<String> values = Lists.newArrayListWithCapacity(columnIndices.length);
+            for (int columnIndex : columnIndices) {
+                values.add(reader.get(columnIndex));
+            }
+            entries.add(entryFactory.apply(values));
+        }
+        return entries;
+    }
+}
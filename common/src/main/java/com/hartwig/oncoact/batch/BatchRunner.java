@@ -0,0 +1,57 @@
+package com.hartwig.oncoact.batch;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import com.google.common.collect.Lists;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Runs one job per batch entry on a fixed thread pool. A failing entry is logged and counted, it does not stop the other entries.
+ */
+public final class BatchRunner {
+
+    private static final Logger LOGGER = LogManager.getLogger(BatchRunner.class);
+
+    public interface Job<T> {
+
+        void run(@NotNull T entry) throws Exception;
+    }
+
+    private BatchRunner() {
+    }
+
+    public static <T> int run(@NotNull List<T> entries, int threads, @NotNull Job<T> job, @NotNull Function<T, String> describer)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = Lists.newArrayListWithCapacity(entries.size());
+            for (T entry : entries) {
+                futures.add(executor.submit(() -> {
+                    job.run(entry);
+                    return null;
+                }));
+            }
+
+            int failedEntries = 0;
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException exception) {
+                    LOGGER.warn("Could not process {}", describer.apply(entries.get(i)), exception.getCause());
+                    failedEntries++;
+                }
+            }
+            return failedEntries;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
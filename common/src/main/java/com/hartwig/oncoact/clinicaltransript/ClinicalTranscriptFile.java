@@ -1,13 +1,10 @@
 package com.hartwig.oncoact.clinicaltransript;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.util.List;
 import java.util.Map;
 
 import com.google.common.collect.Maps;
-import com.hartwig.oncoact.util.CsvFileReader;
+import com.hartwig.oncoact.util.TsvReader;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -20,35 +17,30 @@ public final class ClinicalTranscriptFile {
 
     private static final Logger LOGGER = LogManager.getLogger(ClinicalTranscriptFile.class);
 
-    private static final String SEPARATOR = "\t";
-
     @NotNull
     public static ClinicalTranscriptsModel buildFromTsv(@NotNull String clinicalTranscriptTsv) throws IOException {
-        List<String> lines = Files.readAllLines(new File(clinicalTranscriptTsv).toPath());
-
         Map<String, String> clinicalTranscriptEntries = Maps.newHashMap();
         String columnNameGene = "Gene";
         String columnNameTranscript = "Transcript";
 
-        final Map<String, Integer> fieldIndexMap = CsvFileReader.getHeadersToDelimiter(lines.get(0), SEPARATOR);
-        if (!fieldIndexMap.containsKey(columnNameGene) || !fieldIndexMap.containsKey(columnNameTranscript)) {
-            throw new IllegalArgumentException(
-                    "Wrong column names " + fieldIndexMap.keySet() + " are present in clinical transcripts tsv!");
-        }
-
-        // Skip header
-        for (String line : lines.subList(1, lines.size())) {
-            final String[] parts = line.split(SEPARATOR, -1);
-
-            if (parts.length == 2) {
-                String geneName = parts[fieldIndexMap.get(columnNameGene)];
-                String clinicalTranscript = parts[fieldIndexMap.get(columnNameTranscript)];
-                clinicalTranscriptEntries.put(geneName, clinicalTranscript);
-            } else {
-                LOGGER.warn("Suspicious line detected in clinical transcripts tsv: {}", line);
+        try (TsvReader reader = TsvReader.open(clinicalTranscriptTsv)) {
+            if (!reader.hasColumn(columnNameGene) || !reader.hasColumn(columnNameTranscript)) {
+                throw new IllegalArgumentException("Wrong column names " + reader.columns() + " are present in clinical transcripts tsv!");
+            }
+            int geneIndex = reader.column(columnNameGene);
+            int transcriptIndex = reader.column(columnNameTranscript);
+
+            while (reader.next()) {
+                if (reader.fieldCount() == 2) {
+                    String geneName = reader.get(geneIndex);
+                    String clinicalTranscript = reader.get(transcriptIndex);
+                    clinicalTranscriptEntries.put(geneName, clinicalTranscript);
+                } else {
+                    LOGGER.warn("Suspicious line detected in clinical transcripts tsv: {}", reader.line());
+                }
             }
         }
 
         return new ClinicalTranscriptsModel(clinicalTranscriptEntries);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package com.hartwig.oncoact.copynumber;
+
+import java.util.Arrays;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Length-weighted copy number per chromosome arm for a cohort of samples, stored as one row-major primitive matrix with a row per
+ * sample and a p-arm and q-arm column per chromosome. Arms that are not covered by any segment have a copy number of 0.
+ * Distinct rows can be filled concurrently.
+ */
+public final class ArmCopyNumberMatrix {
+
+    public static final int COLUMN_COUNT = 2 * Chromosome.values().length;
+
+    private final int sampleCount;
+    @NotNull
+    private final double[] values;
+
+    @NotNull
+    public static ArmCopyNumberMatrix create(int sampleCount) {
+        return new ArmCopyNumberMatrix(sampleCount, new double[sampleCount * COLUMN_COUNT]);
+    }
+
+    private ArmCopyNumberMatrix(int sampleCount, @NotNull final double[] values) {
+        this.sampleCount = sampleCount;
+        this.values = values;
+    }
+
+    public static int column(@NotNull Chromosome chromosome, @NotNull ChromosomeArm arm) {
+        switch (arm) {
+            case P_ARM:
+                return 2 * chromosome.ordinal();
+            case Q_ARM:
+                return 2 * chromosome.ordinal() + 1;
+            default:
+                throw new IllegalArgumentException("No copy number column for chromosome arm " + arm);
+        }
+    }
+
+    public int sampleCount() {
+        return sampleCount;
+    }
+
+    public void fillSample(int sample, @NotNull CopyNumberSegments segments, @NotNull RefGenomeCoordinates refGenomeCoordinates) {
+        int offset = sample * COLUMN_COUNT;
+        Arrays.fill(values, offset, offset + COLUMN_COUNT, 0D);
+        CnPerChromosomeFactory.accumulateArmCopyNumbers(segments, refGenomeCoordinates, values, offset);
+    }
+
+    public double copyNumber(int sample, int column) {
+        return values[sample * COLUMN_COUNT + column];
+    }
+
+    public double copyNumber(int sample, @NotNull Chromosome chromosome, @NotNull ChromosomeArm arm) {
+        return copyNumber(sample, column(chromosome, arm));
+    }
+}
@@ -1,10 +1,8 @@
 package com.hartwig.oncoact.copynumber;
 
 import java.util.List;
-import java.util.Map;
 
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
 import com.hartwig.hmftools.datamodel.purple.PurpleCopyNumber;
 
 import org.jetbrains.annotations.NotNull;
@@ -17,78 +15,101 @@ public final class CnPerChromosomeFactory {
     @NotNull
     public static List<CnPerChromosomeArmData> extractCnPerChromosomeArm(@NotNull Iterable<PurpleCopyNumber> copyNumbers,
             @NotNull RefGenomeCoordinates refGenomeCoordinates) {
+        double[] copyNumberPerArm = extractArmCopyNumbers(CopyNumberSegments.fromPurpleCopyNumbers(copyNumbers), refGenomeCoordinates);
+
         List<CnPerChromosomeArmData> cnPerChromosomeArmData = Lists.newArrayList();
-        for (Chromosome chromosome : refGenomeCoordinates.lengths().keySet()) {
-            Map<ChromosomeArm, GenomeRegion> genomeRegion = determineArmRegions(chromosome, refGenomeCoordinates);
-
-            for (Map.Entry<ChromosomeArm, GenomeRegion> entry : genomeRegion.entrySet()) {
-                GenomeRegion arm = entry.getValue();
-
-                double copyNumberArm = 0;
-                for (PurpleCopyNumber purpleCopyNumber : copyNumbers) {
-                    Chromosome copyNumberChromosome = Chromosome.fromString(purpleCopyNumber.chromosome());
-
-                    if (copyNumberChromosome.equals(chromosome) && overlaps(arm, purpleCopyNumber)) {
-                        double copyNumber = purpleCopyNumber.averageTumorCopyNumber();
-                        int totalLengthSegment = bases(purpleCopyNumber);
-                        copyNumberArm += (copyNumber * totalLengthSegment) / bases(arm);
-                    }
-                }
-
-                if (copyNumberArm > 0) {
-                    cnPerChromosomeArmData.add(ImmutableCnPerChromosomeArmData.builder()
-                            .chromosome(chromosome)
-                            .chromosomeArm(entry.getKey())
-                            .copyNumber(copyNumberArm)
-                            .build());
-                }
+        for (Chromosome chromosome : Chromosome.values()) {
+            if (refGenomeCoordinates.contains(chromosome)) {
+                addIfPositive(cnPerChromosomeArmData, chromosome, ChromosomeArm.P_ARM, copyNumberPerArm);
+                addIfPositive(cnPerChromosomeArmData, chromosome, ChromosomeArm.Q_ARM, copyNumberPerArm);
             }
         }
 
         return cnPerChromosomeArmData;
     }
 
+    /**
+     * Returns the copy number per chromosome arm, laid out like a row of {@link ArmCopyNumberMatrix}.
+     */
     @NotNull
-    private static Map<ChromosomeArm, GenomeRegion> determineArmRegions(@NotNull Chromosome chromosome,
+    public static double[] extractArmCopyNumbers(@NotNull CopyNumberSegments segments,
             @NotNull RefGenomeCoordinates refGenomeCoordinates) {
-        int centromerePos = refGenomeCoordinates.centromeres().get(chromosome);
-        int chrLength = refGenomeCoordinates.lengths().get(chromosome);
-
-        Map<ChromosomeArm, GenomeRegion> chromosomeArmGenomeRegionMap = Maps.newHashMap();
-
-        GenomeRegion partBeforeCentromere = createGenomeRegion(chromosome, 1, centromerePos);
-        GenomeRegion partAfterCentromere = createGenomeRegion(chromosome, centromerePos + 1, chrLength);
-
-        if (bases(partBeforeCentromere) < bases(partAfterCentromere)) {
-            chromosomeArmGenomeRegionMap.put(ChromosomeArm.P_ARM, partBeforeCentromere);
-            chromosomeArmGenomeRegionMap.put(ChromosomeArm.Q_ARM, partAfterCentromere);
-        } else {
-            chromosomeArmGenomeRegionMap.put(ChromosomeArm.P_ARM, partAfterCentromere);
-            chromosomeArmGenomeRegionMap.put(ChromosomeArm.Q_ARM, partBeforeCentromere);
-        }
-        return chromosomeArmGenomeRegionMap;
+        double[] copyNumberPerArm = new double[ArmCopyNumberMatrix.COLUMN_COUNT];
+        accumulateArmCopyNumbers(segments, refGenomeCoordinates, copyNumberPerArm, 0);
+        return copyNumberPerArm;
     }
 
     @NotNull
-    private static GenomeRegion createGenomeRegion(@NotNull Chromosome chromosome, int start, int end) {
-        return ImmutableGenomeRegion.builder().chromosome(chromosome).start(start).end(end).build();
+    public static ArmCopyNumberMatrix extractCnPerChromosomeArmMatrix(@NotNull List<CopyNumberSegments> segmentsPerSample,
+            @NotNull RefGenomeCoordinates refGenomeCoordinates) {
+        ArmCopyNumberMatrix matrix = ArmCopyNumberMatrix.create(segmentsPerSample.size());
+        for (int sample = 0; sample < segmentsPerSample.size(); sample++) {
+            matrix.fillSample(sample, segmentsPerSample.get(sample), refGenomeCoordinates);
+        }
+        return matrix;
     }
 
-    private static boolean overlaps(@NotNull GenomeRegion region, @NotNull PurpleCopyNumber purpleCopyNumber) {
-        Chromosome purpleChromosome = Chromosome.fromString(purpleCopyNumber.chromosome());
-        return purpleChromosome == region.chromosome() && purpleCopyNumber.end() > region.start()
-                && purpleCopyNumber.start() < region.end();
+    /**
+     * Adds the length-weighted copy number of every chromosome arm to the target, laid out like a row of {@link ArmCopyNumberMatrix}.
+     * This is a single pass over the segments. Each arm sums its overlapping segments in segment order.
+     */
+    static void accumulateArmCopyNumbers(@NotNull CopyNumberSegments segments, @NotNull RefGenomeCoordinates refGenomeCoordinates,
+            @NotNull double[] target, int offset) {
+        Chromosome[] chromosomes = Chromosome.values();
+        int[] columnBeforeCentromere = new int[chromosomes.length];
+        int[] columnAfterCentromere = new int[chromosomes.length];
+        for (Chromosome chromosome : chromosomes) {
+            if (refGenomeCoordinates.contains(chromosome)) {
+                int centromere = refGenomeCoordinates.centromere(chromosome);
+                int length = refGenomeCoordinates.length(chromosome);
+
+                // The shorter of both parts is the p-arm.
+                boolean pArmBeforeCentromere = bases(1, centromere) < bases(centromere + 1, length);
+                int pArm = offset + ArmCopyNumberMatrix.column(chromosome, ChromosomeArm.P_ARM);
+                int qArm = offset + ArmCopyNumberMatrix.column(chromosome, ChromosomeArm.Q_ARM);
+                columnBeforeCentromere[chromosome.ordinal()] = pArmBeforeCentromere ? pArm : qArm;
+                columnAfterCentromere[chromosome.ordinal()] = pArmBeforeCentromere ? qArm : pArm;
+            }
+        }
+
+        for (int i = 0; i < segments.size(); i++) {
+            Chromosome chromosome = segments.chromosome(i);
+            if (!refGenomeCoordinates.contains(chromosome)) {
+                continue;
+            }
+
+            int start = segments.start(i);
+            int end = segments.end(i);
+            double weightedCopyNumber = segments.copyNumber(i) * bases(start, end);
+
+            int centromere = refGenomeCoordinates.centromere(chromosome);
+            int length = refGenomeCoordinates.length(chromosome);
+            if (overlaps(start, end, 1, centromere)) {
+                target[columnBeforeCentromere[chromosome.ordinal()]] += weightedCopyNumber / bases(1, centromere);
+            }
+            if (overlaps(start, end, centromere + 1, length)) {
+                target[columnAfterCentromere[chromosome.ordinal()]] += weightedCopyNumber / bases(centromere + 1, length);
+            }
+        }
     }
 
-    private static int bases(@NotNull GenomeRegion region) {
-        return bases(region.start(), region.end());
+    private static void addIfPositive(@NotNull List<CnPerChromosomeArmData> cnPerChromosomeArmData, @NotNull Chromosome chromosome,
+            @NotNull ChromosomeArm arm, @NotNull double[] copyNumberPerArm) {
+        double copyNumber = copyNumberPerArm[ArmCopyNumberMatrix.column(chromosome, arm)];
+        if (copyNumber > 0) {
+            cnPerChromosomeArmData.add(ImmutableCnPerChromosomeArmData.builder()
+                    .chromosome(chromosome)
+                    .chromosomeArm(arm)
+                    .copyNumber(copyNumber)
+                    .build());
+        }
     }
 
-    private static int bases(@NotNull PurpleCopyNumber purpleCopyNumber) {
-        return bases(purpleCopyNumber.start(), purpleCopyNumber.end());
+    private static boolean overlaps(int segmentStart, int segmentEnd, int regionStart, int regionEnd) {
+        return segmentEnd > regionStart && segmentStart < regionEnd;
     }
 
     private static int bases(int start, int end) {
         return 1 + end - start;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,135 @@
+package com.hartwig.oncoact.copynumber;
+
+import java.util.Arrays;
+
+import com.google.common.collect.Iterables;
+import com.hartwig.hmftools.datamodel.purple.PurpleCopyNumber;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Copy number segments stored as parallel primitive arrays rather than one object per segment, which keeps the footprint small when
+ * segments of many samples are held at the same time.
+ */
+public final class CopyNumberSegments {
+
+    private static final Chromosome[] CHROMOSOMES = Chromosome.values();
+
+    @NotNull
+    private final byte[] chromosomes;
+    @NotNull
+    private final int[] starts;
+    @NotNull
+    private final int[] ends;
+    @NotNull
+    private final double[] copyNumbers;
+
+    @NotNull
+    public static CopyNumberSegments fromPurpleCopyNumbers(@NotNull Iterable<PurpleCopyNumber> purpleCopyNumbers) {
+        Builder builder = new Builder(Iterables.size(purpleCopyNumbers));
+        for (PurpleCopyNumber purpleCopyNumber : purpleCopyNumbers) {
+            builder.add(purpleCopyNumber.chromosome(),
+                    purpleCopyNumber.start(),
+                    purpleCopyNumber.end(),
+                    purpleCopyNumber.averageTumorCopyNumber());
+        }
+        return builder.build();
+    }
+
+    private CopyNumberSegments(@NotNull final byte[] chromosomes, @NotNull final int[] starts, @NotNull final int[] ends,
+            @NotNull final double[] copyNumbers) {
+        this.chromosomes = chromosomes;
+        this.starts = starts;
+        this.ends = ends;
+        this.copyNumbers = copyNumbers;
+    }
+
+    public int size() {
+        return chromosomes.length;
+    }
+
+    @NotNull
+    public Chromosome chromosome(int index) {
+        return CHROMOSOMES[chromosomes[index]];
+    }
+
+    public int start(int index) {
+        return starts[index];
+    }
+
+    public int end(int index) {
+        return ends[index];
+    }
+
+    public double copyNumber(int index) {
+        return copyNumbers[index];
+    }
+
+    /**
+     * Collects segments in the order in which they are added. Segments are expected to be grouped per chromosome, the chromosome name
+     * is only parsed when it differs from the previous segment.
+     */
+    public static final class Builder {
+
+        private static final int DEFAULT_CAPACITY = 256;
+
+        @NotNull
+        private byte[] chromosomes;
+        @NotNull
+        private int[] starts;
+        @NotNull
+        private int[] ends;
+        @NotNull
+        private double[] copyNumbers;
+        private int size = 0;
+
+        @Nullable
+        private String previousChromosomeName;
+        @Nullable
+        private Chromosome previousChromosome;
+
+        public Builder() {
+            this(DEFAULT_CAPACITY);
+        }
+
+        public Builder(int expectedSize) {
+            int capacity = Math.max(1, expectedSize);
+            this.chromosomes = new byte[capacity];
+            this.starts = new int[capacity];
+            this.ends = new int[capacity];
+            this.copyNumbers = new double[capacity];
+        }
+
+        @NotNull
+        public Builder add(@NotNull String chromosomeName, int start, int end, double copyNumber) {
+            if (!chromosomeName.equals(previousChromosomeName)) {
+                previousChromosome = Chromosome.fromString(chromosomeName);
+                previousChromosomeName = chromosomeName;
+            }
+
+            if (size == chromosomes.length) {
+                int capacity = 2 * size;
+                chromosomes = Arrays.copyOf(chromosomes, capacity);
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+                copyNumbers = Arrays.copyOf(copyNumbers, capacity);
+            }
+
+            chromosomes[size] = (byte) previousChromosome.ordinal();
+            starts[size] = start;
+            ends[size] = end;
+            copyNumbers[size] = copyNumber;
+            size++;
+            return this;
+        }
+
+        @NotNull
+        public CopyNumberSegments build() {
+            return new CopyNumberSegments(Arrays.copyOf(chromosomes, size),
+                    Arrays.copyOf(starts, size),
+                    Arrays.copyOf(ends, size),
+                    Arrays.copyOf(copyNumbers, size));
+        }
+    }
+}
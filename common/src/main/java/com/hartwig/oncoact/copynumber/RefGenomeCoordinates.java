@@ -1,13 +1,16 @@
 package com.hartwig.oncoact.copynumber;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.List;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
-import com.google.common.collect.Maps;
+import com.hartwig.oncoact.util.TsvReader;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -16,16 +19,21 @@ public enum RefGenomeCoordinates {
     COORDS_37(fromResource("lengths.37.tsv"), fromResource("centromeres.37.tsv")),
     COORDS_38(fromResource("lengths.38.tsv"), fromResource("centromeres.38.tsv"));
 
-    private static final String FIELD_SEPARATOR = "\t";
-
+    // Indexed by chromosome ordinal, a length of 0 means the chromosome is absent from the reference genome.
+    @NotNull
+    private final int[] lengthPerChromosome;
+    @NotNull
+    private final int[] centromerePerChromosome;
     @NotNull
     private final Map<Chromosome, Integer> lengths;
     @NotNull
     private final Map<Chromosome, Integer> centromeres;
 
     RefGenomeCoordinates(@NotNull final Map<Chromosome, Integer> lengths, @NotNull final Map<Chromosome, Integer> centromeres) {
-        this.lengths = lengths;
-        this.centromeres = centromeres;
+        this.lengthPerChromosome = toArray(lengths);
+        this.centromerePerChromosome = toArray(centromeres);
+        this.lengths = Collections.unmodifiableMap(lengths);
+        this.centromeres = Collections.unmodifiableMap(centromeres);
     }
 
     @NotNull
@@ -38,28 +46,46 @@ public enum RefGenomeCoordinates {
         return centromeres;
     }
 
+    public boolean contains(@NotNull Chromosome chromosome) {
+        return lengthPerChromosome[chromosome.ordinal()] > 0;
+    }
+
+    public int length(@NotNull Chromosome chromosome) {
+        return lengthPerChromosome[chromosome.ordinal()];
+    }
+
+    public int centromere(@NotNull Chromosome chromosome) {
+        return centromerePerChromosome[chromosome.ordinal()];
+    }
+
     public int length(@NotNull String chromosome) {
         if (!Chromosome.contains(chromosome)) {
             return 0;
         }
 
-        return lengths.get(Chromosome.fromString(chromosome));
+        return length(Chromosome.fromString(chromosome));
     }
 
     @NotNull
-    private static Map<Chromosome, Integer> fromResource(@NotNull String resource) {
-        InputStream inputStream = RefGenomeCoordinates.class.getResourceAsStream("/refgenome/" + resource);
-        return fromLines(new BufferedReader(new InputStreamReader(inputStream)).lines().collect(Collectors.toList()));
+    private static int[] toArray(@NotNull Map<Chromosome, Integer> valuePerChromosome) {
+        int[] values = new int[Chromosome.values().length];
+        for (Map.Entry<Chromosome, Integer> entry : valuePerChromosome.entrySet()) {
+            values[entry.getKey().ordinal()] = entry.getValue();
+        }
+        return values;
     }
 
     @NotNull
-    private static Map<Chromosome, Integer> fromLines(@NotNull List<String> lines) {
-        Map<Chromosome, Integer> result = Maps.newHashMap();
-        for (String line : lines) {
-            String[] values = line.split(FIELD_SEPARATOR);
-            result.put(Chromosome.fromString(values[0]), Integer.valueOf(values[1]));
+    private static Map<Chromosome, Integer> fromResource(@NotNull String resource) {
+        InputStream inputStream = RefGenomeCoordinates.class.getResourceAsStream("/refgenome/" + resource);
+        try (TsvReader reader = TsvReader.withoutHeader(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)))) {
+            Map<Chromosome, Integer> result = new EnumMap<>(Chromosome.class);
+            while (reader.next()) {
+                result.put(Chromosome.fromString(reader.get(0)), reader.getInt(1));
+            }
+            return result;
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Could not read ref genome resource " + resource, exception);
         }
-
-        return result;
     }
 }
@@ -0,0 +1,159 @@
+package com.hartwig.oncoact.copynumber.tools;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hartwig.oncoact.copynumber.ArmCopyNumberMatrix;
+import com.hartwig.oncoact.copynumber.CnPerChromosomeFactory;
+import com.hartwig.oncoact.parser.CliAndPropertyParser;
+
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Exports the copy number per chromosome arm of every ORANGE JSON in a directory as a samples x arms matrix. Files are read in
+ * parallel but rows are written in file order. At most a few samples per thread are kept in memory at any time.
+ */
+public class ArmCopyNumberMatrixApp {
+
+    private static final Logger LOGGER = LogManager.getLogger(ArmCopyNumberMatrixApp.class);
+
+    private static final String ORANGE_JSON_SUFFIX = ".orange.json";
+    private static final String ORANGE_JSON_GZ_SUFFIX = ".orange.json.gz";
+    private static final int SAMPLES_IN_FLIGHT_PER_THREAD = 4;
+
+    public static void main(@NotNull String[] args) throws IOException, InterruptedException {
+        Options options = ArmCopyNumberMatrixConfig.createOptions();
+
+        ArmCopyNumberMatrixConfig config = null;
+        try {
+            config = ArmCopyNumberMatrixConfig.createConfig(new CliAndPropertyParser().parse(options, args));
+        } catch (ParseException exception) {
+            LOGGER.warn(exception);
+            new HelpFormatter().printHelp("Arm copy number matrix", options);
+            System.exit(1);
+        }
+
+        int failedSamples = new ArmCopyNumberMatrixApp(config).run();
+        if (failedSamples > 0) {
+            LOGGER.error("Could not read copy numbers for {} samples", failedSamples);
+            System.exit(1);
+        }
+
+        LOGGER.info("Complete");
+    }
+
+    @NotNull
+    private final ArmCopyNumberMatrixConfig config;
+    @NotNull
+    private final SampleReader sampleReader;
+
+    public ArmCopyNumberMatrixApp(@NotNull final ArmCopyNumberMatrixConfig config) {
+        this(config, ArmCopyNumberMatrixApp::computeRow);
+    }
+
+    @VisibleForTesting
+    ArmCopyNumberMatrixApp(@NotNull final ArmCopyNumberMatrixConfig config, @NotNull final SampleReader sampleReader) {
+        this.config = config;
+        this.sampleReader = sampleReader;
+    }
+
+    public int run() throws IOException, InterruptedException {
+        List<Path> orangeJsons = findOrangeJsons(config.orangeDirectory());
+        LOGGER.info("Computing arm copy numbers for {} ORANGE JSONs using {} threads", orangeJsons.size(), config.threads());
+
+        int maxSamplesInFlight = config.threads() * SAMPLES_IN_FLIGHT_PER_THREAD;
+        ExecutorService executor = Executors.newFixedThreadPool(config.threads());
+        try (ArmCopyNumberMatrixWriter writer = ArmCopyNumberMatrixWriter.open(config.outputTsv(),
+                config.outputBinary(),
+                orangeJsons.size())) {
+            Deque<Future<SampleRow>> inFlight = new ArrayDeque<>();
+            Deque<Path> inFlightPaths = new ArrayDeque<>();
+            int failedSamples = 0;
+            for (Path orangeJson : orangeJsons) {
+                if (inFlight.size() >= maxSamplesInFlight) {
+                    failedSamples += writeNext(writer, inFlight.poll(), inFlightPaths.poll());
+                }
+                inFlight.add(executor.submit(() -> sampleReader.read(orangeJson)));
+                inFlightPaths.add(orangeJson);
+            }
+
+            while (!inFlight.isEmpty()) {
+                failedSamples += writeNext(writer, inFlight.poll(), inFlightPaths.poll());
+            }
+            return failedSamples;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @NotNull
+    static List<Path> findOrangeJsons(@NotNull String orangeDirectory) throws IOException {
+        try (Stream<Path> paths = Files.walk(Paths.get(orangeDirectory))) {
+            return paths.filter(path -> {
+                String fileName = path.getFileName().toString();
+                return fileName.endsWith(ORANGE_JSON_SUFFIX) || fileName.endsWith(ORANGE_JSON_GZ_SUFFIX);
+            }).sorted().collect(Collectors.toList());
+        }
+    }
+
+    @NotNull
+    static SampleRow computeRow(@NotNull Path orangeJson) throws IOException {
+        OrangeCopyNumbers copyNumbers = OrangeCopyNumberReader.read(orangeJson.toString());
+        double[] copyNumberPerArm =
+                CnPerChromosomeFactory.extractArmCopyNumbers(copyNumbers.segments(), copyNumbers.refGenomeCoordinates());
+        return new SampleRow(copyNumbers.sampleId(), copyNumberPerArm);
+    }
+
+    private static int writeNext(@NotNull ArmCopyNumberMatrixWriter writer, @NotNull Future<SampleRow> future, @NotNull Path orangeJson)
+            throws IOException, InterruptedException {
+        try {
+            SampleRow row = future.get();
+            writer.writeSample(row.sampleId, row.copyNumberPerArm);
+            return 0;
+        } catch (ExecutionException exception) {
+            // Keep the matrix rectangular by writing a row of NaN for samples that could not be read.
+            LOGGER.warn("Could not read copy numbers from {}", orangeJson, exception.getCause());
+            double[] missing = new double[ArmCopyNumberMatrix.COLUMN_COUNT];
+            Arrays.fill(missing, Double.NaN);
+            writer.writeSample(orangeJson.getFileName().toString(), missing);
+            return 1;
+        }
+    }
+
+    interface SampleReader {
+
+        @NotNull
+        SampleRow read(@NotNull Path orangeJson) throws IOException;
+    }
+
+    static final class SampleRow {
+
+        @NotNull
+        private final String sampleId;
+        @NotNull
+        private final double[] copyNumberPerArm;
+
+        SampleRow(@NotNull final String sampleId, @NotNull final double[] copyNumberPerArm) {
+            this.sampleId = sampleId;
+            this.copyNumberPerArm = copyNumberPerArm;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.hartwig.oncoact.copynumber.tools;
+
+import java.io.File;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.immutables.value.Value;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+@Value.Immutable
+@Value.Style(passAnnotations = { NotNull.class, Nullable.class })
+public interface ArmCopyNumberMatrixConfig {
+
+    String ORANGE_DIRECTORY = "orange_dir";
+    String OUTPUT_TSV = "output_tsv";
+    String OUTPUT_BINARY = "output_binary";
+    String THREADS = "threads";
+
+    @NotNull
+    static Options createOptions() {
+        Options options = new Options();
+
+        options.addOption(ORANGE_DIRECTORY, true, "Directory that is searched recursively for ORANGE JSON files.");
+        options.addOption(OUTPUT_TSV, true, "Path to write the samples x chromosome arms copy number TSV to.");
+        options.addOption(OUTPUT_BINARY, true, "Optional path to write the matrix in binary form to.");
+        options.addOption(THREADS, true, "Number of ORANGE JSON files to read in parallel (default: number of available processors).");
+
+        return options;
+    }
+
+    @NotNull
+    String orangeDirectory();
+
+    @NotNull
+    String outputTsv();
+
+    @Nullable
+    String outputBinary();
+
+    int threads();
+
+    @NotNull
+    static ArmCopyNumberMatrixConfig createConfig(@NotNull CommandLine cmd) throws ParseException {
+        return ImmutableArmCopyNumberMatrixConfig.builder()
+                .orangeDirectory(nonOptionalDir(cmd, ORANGE_DIRECTORY))
+                .outputTsv(nonOptionalValue(cmd, OUTPUT_TSV))
+                .outputBinary(cmd.getOptionValue(OUTPUT_BINARY))
+                .threads(threads(cmd))
+                .build();
+    }
+
+    @NotNull
+    static String nonOptionalValue(@NotNull CommandLine cmd, @NotNull String param) throws ParseException {
+        String value = cmd.getOptionValue(param);
+        if (value == null) {
+            throw new ParseException("Parameter must be provided: " + param);
+        }
+
+        return value;
+    }
+
+    @NotNull
+    static String nonOptionalDir(@NotNull CommandLine cmd, @NotNull String param) throws ParseException {
+        String value = nonOptionalValue(cmd, param);
+        if (!new File(value).isDirectory()) {
+            throw new ParseException("Parameter '" + param + "' must be an existing directory: " + value);
+        }
+
+        return value;
+    }
+
+    static int threads(@NotNull CommandLine cmd) throws ParseException {
+        if (!cmd.hasOption(THREADS)) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+
+        try {
+            int threads = Integer.parseInt(cmd.getOptionValue(THREADS));
+            if (threads < 1) {
+                throw new ParseException("Parameter '" + THREADS + "' must be at least 1: " + threads);
+            }
+            return threads;
+        } catch (NumberFormatException exception) {
+            throw new ParseException("Parameter '" + THREADS + "' must be an integer: " + cmd.getOptionValue(THREADS));
+        }
+    }
+}
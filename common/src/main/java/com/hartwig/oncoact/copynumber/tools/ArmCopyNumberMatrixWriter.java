@@ -0,0 +1,104 @@
+package com.hartwig.oncoact.copynumber.tools;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+
+import com.hartwig.oncoact.copynumber.ArmCopyNumberMatrix;
+import com.hartwig.oncoact.copynumber.Chromosome;
+import com.hartwig.oncoact.copynumber.ChromosomeArm;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Writes a samples x chromosome arms copy number matrix one sample at a time. The TSV has a sampleId column followed by a column per
+ * arm (1p, 1q, ..., Yq). The optional binary form starts with a header of magic number, format version, sample count, column count
+ * and the column names, followed per sample by its ID and its copy numbers as doubles, all written by {@link DataOutputStream}.
+ */
+public class ArmCopyNumberMatrixWriter implements AutoCloseable {
+
+    public static final int BINARY_MAGIC = 0x41434E4D;
+    public static final int BINARY_VERSION = 1;
+
+    private static final String DELIMITER = "\t";
+    private static final String SAMPLE_ID_COLUMN = "sampleId";
+
+    @NotNull
+    private final Writer tsvWriter;
+    @Nullable
+    private final DataOutputStream binaryOutput;
+
+    @NotNull
+    public static ArmCopyNumberMatrixWriter open(@NotNull String tsvPath, @Nullable String binaryPath, int sampleCount)
+            throws IOException {
+        Writer tsvWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(tsvPath), StandardCharsets.UTF_8));
+        DataOutputStream binaryOutput =
+                binaryPath != null ? new DataOutputStream(new BufferedOutputStream(new FileOutputStream(binaryPath))) : null;
+
+        ArmCopyNumberMatrixWriter writer = new ArmCopyNumberMatrixWriter(tsvWriter, binaryOutput);
+        writer.writeHeader(sampleCount);
+        return writer;
+    }
+
+    private ArmCopyNumberMatrixWriter(@NotNull final Writer tsvWriter, @Nullable final DataOutputStream binaryOutput) {
+        this.tsvWriter = tsvWriter;
+        this.binaryOutput = binaryOutput;
+    }
+
+    @NotNull
+    public static String columnName(int column) {
+        Chromosome chromosome = Chromosome.values()[column / 2];
+        String arm = column == ArmCopyNumberMatrix.column(chromosome, ChromosomeArm.P_ARM) ? "p" : "q";
+        return chromosome.name().substring(1) + arm;
+    }
+
+    public void writeSample(@NotNull String sampleId, @NotNull double[] copyNumberPerArm) throws IOException {
+        StringJoiner line = new StringJoiner(DELIMITER).add(sampleId);
+        for (double copyNumber : copyNumberPerArm) {
+            line.add(String.valueOf(copyNumber));
+        }
+        tsvWriter.write(line + "\n");
+
+        if (binaryOutput != null) {
+            binaryOutput.writeUTF(sampleId);
+            for (double copyNumber : copyNumberPerArm) {
+                binaryOutput.writeDouble(copyNumber);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (Writer tsv = tsvWriter; DataOutputStream binary = binaryOutput) {
+            tsv.flush();
+            if (binary != null) {
+                binary.flush();
+            }
+        }
+    }
+
+    private void writeHeader(int sampleCount) throws IOException {
+        StringJoiner header = new StringJoiner(DELIMITER).add(SAMPLE_ID_COLUMN);
+        for (int column = 0; column < ArmCopyNumberMatrix.COLUMN_COUNT; column++) {
+            header.add(columnName(column));
+        }
+        tsvWriter.write(header + "\n");
+
+        if (binaryOutput != null) {
+            binaryOutput.writeInt(BINARY_MAGIC);
+            binaryOutput.writeInt(BINARY_VERSION);
+            binaryOutput.writeInt(sampleCount);
+            binaryOutput.writeInt(ArmCopyNumberMatrix.COLUMN_COUNT);
+            for (int column = 0; column < ArmCopyNumberMatrix.COLUMN_COUNT; column++) {
+                binaryOutput.writeUTF(columnName(column));
+            }
+        }
+    }
+}
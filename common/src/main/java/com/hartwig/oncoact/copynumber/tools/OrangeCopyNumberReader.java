@@ -0,0 +1,155 @@
+package com.hartwig.oncoact.copynumber.tools;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import com.google.gson.stream.JsonReader;
+import com.hartwig.oncoact.copynumber.CopyNumberSegments;
+import com.hartwig.oncoact.copynumber.RefGenomeCoordinates;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Streams the PURPLE somatic copy numbers out of an ORANGE JSON. All other sections are skipped token by token without being
+ * materialized, so memory use does not depend on how many variants or other records the ORANGE JSON holds.
+ */
+public final class OrangeCopyNumberReader {
+
+    private static final String SAMPLE_ID = "sampleId";
+    private static final String REF_GENOME_VERSION = "refGenomeVersion";
+    private static final String PURPLE = "purple";
+    private static final String ALL_SOMATIC_COPY_NUMBERS = "allSomaticCopyNumbers";
+
+    private static final String CHROMOSOME = "chromosome";
+    private static final String START = "start";
+    private static final String END = "end";
+    private static final String AVERAGE_TUMOR_COPY_NUMBER = "averageTumorCopyNumber";
+
+    private static final String REF_GENOME_VERSION_37 = "V37";
+    private static final String REF_GENOME_VERSION_38 = "V38";
+    private static final String GZIP_EXTENSION = ".gz";
+
+    private OrangeCopyNumberReader() {
+    }
+
+    @NotNull
+    public static OrangeCopyNumbers read(@NotNull String orangeJsonPath) throws IOException {
+        try (JsonReader reader = new JsonReader(new BufferedReader(new InputStreamReader(open(orangeJsonPath), StandardCharsets.UTF_8)))) {
+            // ORANGE writes undefined numbers as NaN, which a strict reader rejects.
+            reader.setLenient(true);
+            return read(reader, orangeJsonPath);
+        }
+    }
+
+    @NotNull
+    static OrangeCopyNumbers read(@NotNull JsonReader reader, @NotNull String source) throws IOException {
+        String sampleId = null;
+        String refGenomeVersion = null;
+        CopyNumberSegments segments = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case SAMPLE_ID:
+                    sampleId = reader.nextString();
+                    break;
+                case REF_GENOME_VERSION:
+                    refGenomeVersion = reader.nextString();
+                    break;
+                case PURPLE:
+                    segments = readPurple(reader);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (sampleId == null || refGenomeVersion == null || segments == null) {
+            throw new IOException("ORANGE JSON lacks sample ID, ref genome version or PURPLE copy numbers: " + source);
+        }
+
+        return ImmutableOrangeCopyNumbers.builder()
+                .sampleId(sampleId)
+                .refGenomeCoordinates(refGenomeCoordinates(refGenomeVersion, source))
+                .segments(segments)
+                .build();
+    }
+
+    @NotNull
+    private static RefGenomeCoordinates refGenomeCoordinates(@NotNull String refGenomeVersion, @NotNull String source) throws IOException {
+        switch (refGenomeVersion) {
+            case REF_GENOME_VERSION_37:
+                return RefGenomeCoordinates.COORDS_37;
+            case REF_GENOME_VERSION_38:
+                return RefGenomeCoordinates.COORDS_38;
+            default:
+                throw new IOException("ORANGE JSON has unknown ref genome version '" + refGenomeVersion + "': " + source);
+        }
+    }
+
+    @NotNull
+    private static CopyNumberSegments readPurple(@NotNull JsonReader reader) throws IOException {
+        CopyNumberSegments.Builder builder = new CopyNumberSegments.Builder();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals(ALL_SOMATIC_COPY_NUMBERS)) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    readCopyNumber(reader, builder);
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return builder.build();
+    }
+
+    private static void readCopyNumber(@NotNull JsonReader reader, @NotNull CopyNumberSegments.Builder builder) throws IOException {
+        String chromosome = null;
+        int start = 0;
+        int end = 0;
+        double averageTumorCopyNumber = 0;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case CHROMOSOME:
+                    chromosome = reader.nextString();
+                    break;
+                case START:
+                    start = reader.nextInt();
+                    break;
+                case END:
+                    end = reader.nextInt();
+                    break;
+                case AVERAGE_TUMOR_COPY_NUMBER:
+                    averageTumorCopyNumber = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (chromosome == null) {
+            throw new IOException("PURPLE copy number without chromosome at " + reader.getPath());
+        }
+        builder.add(chromosome, start, end, averageTumorCopyNumber);
+    }
+
+    @NotNull
+    private static InputStream open(@NotNull String path) throws IOException {
+        InputStream inputStream = new FileInputStream(path);
+        return path.endsWith(GZIP_EXTENSION) ? new GZIPInputStream(inputStream) : inputStream;
+    }
+}
@@ -0,0 +1,22 @@
+package com.hartwig.oncoact.copynumber.tools;
+
+import com.hartwig.oncoact.copynumber.CopyNumberSegments;
+import com.hartwig.oncoact.copynumber.RefGenomeCoordinates;
+
+import org.immutables.value.Value;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+@Value.Immutable
+@Value.Style(passAnnotations = { NotNull.class, Nullable.class })
+public abstract class OrangeCopyNumbers {
+
+    @NotNull
+    public abstract String sampleId();
+
+    @NotNull
+    public abstract RefGenomeCoordinates refGenomeCoordinates();
+
+    @NotNull
+    public abstract CopyNumberSegments segments();
+}
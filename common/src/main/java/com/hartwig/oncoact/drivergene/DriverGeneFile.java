@@ -1,20 +1,16 @@
 package com.hartwig.oncoact.drivergene;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 import com.google.common.collect.Lists;
-import com.hartwig.oncoact.util.CsvFileReader;
+import com.hartwig.oncoact.util.TsvReader;
 
 import org.jetbrains.annotations.NotNull;
 
 public final class DriverGeneFile {
 
-    private static final String DELIMITER = "\t";
     private static final String OTHER_TRANS_DELIM = ";";
 
     private DriverGeneFile() {
@@ -22,54 +18,52 @@ public final class DriverGeneFile {
 
     @NotNull
     public static List<DriverGene> read(@NotNull String filename) throws IOException {
-        return fromLines(Files.readAllLines(new File(filename).toPath()));
+        try (TsvReader reader = TsvReader.open(filename)) {
+            return fromReader(reader);
+        }
     }
 
     @NotNull
-    private static List<DriverGene> fromLines(@NotNull List<String> lines) {
+    private static List<DriverGene> fromReader(@NotNull TsvReader reader) throws IOException {
         List<DriverGene> driverGenes = Lists.newArrayList();
 
-        Map<String, Integer> fields = CsvFileReader.getHeadersToDelimiter(lines.get(0), DELIMITER);
-
-        int geneIndex = fields.get("gene");
-        int missenseIndex = fields.get("reportMissense");
-        int nonsenseIndex = fields.get("reportNonsense");
-        int spliceIndex = fields.get("reportSplice");
-        int deletionIndex = fields.get("reportDeletion");
-        int disruptionIndex = fields.get("reportDisruption");
-        int amplificationIndex = fields.get("reportAmplification");
-        int somaticHotspotIndex = fields.get("reportSomaticHotspot");
-        int likelihoodTypeIndex = fields.get("likelihoodType");
-        int germlineVariantIndex = fields.get("reportGermlineVariant");
-        int germlineHotspotIndex = fields.get("reportGermlineHotspot");
-        int germlineDisruptionIndex = fields.get("reportGermlineDisruption");
-        int altTransIndex = fields.get("additionalReportedTranscripts");
-        int reportPGXIndex = fields.get("reportPGX");
-
-        for (String line : lines.subList(1, lines.size())) {
-            String[] values = line.split(DELIMITER);
+        int geneIndex = reader.column("gene");
+        int missenseIndex = reader.column("reportMissense");
+        int nonsenseIndex = reader.column("reportNonsense");
+        int spliceIndex = reader.column("reportSplice");
+        int deletionIndex = reader.column("reportDeletion");
+        int disruptionIndex = reader.column("reportDisruption");
+        int amplificationIndex = reader.column("reportAmplification");
+        int somaticHotspotIndex = reader.column("reportSomaticHotspot");
+        int likelihoodTypeIndex = reader.column("likelihoodType");
+        int germlineVariantIndex = reader.column("reportGermlineVariant");
+        int germlineHotspotIndex = reader.column("reportGermlineHotspot");
+        int germlineDisruptionIndex = reader.column("reportGermlineDisruption");
+        int altTransIndex = reader.column("additionalReportedTranscripts");
+        int reportPGXIndex = reader.column("reportPGX");
 
-            String otherReportableTranscriptValue = values[altTransIndex];
+        while (reader.next()) {
+            String otherReportableTranscriptValue = reader.get(altTransIndex);
             List<String> otherReportableTranscripts = Lists.newArrayList();
             if (!otherReportableTranscriptValue.isEmpty()) {
                 otherReportableTranscripts.addAll(Arrays.asList(otherReportableTranscriptValue.split(OTHER_TRANS_DELIM)));
             }
 
             driverGenes.add(ImmutableDriverGene.builder()
-                    .gene(values[geneIndex])
-                    .reportMissenseAndInframe(Boolean.parseBoolean(values[missenseIndex]))
-                    .reportNonsenseAndFrameshift(Boolean.parseBoolean(values[nonsenseIndex]))
-                    .reportSplice(Boolean.parseBoolean(values[spliceIndex]))
-                    .reportDeletion(Boolean.parseBoolean(values[deletionIndex]))
-                    .reportDisruption(Boolean.parseBoolean(values[disruptionIndex]))
-                    .reportAmplification(Boolean.parseBoolean(values[amplificationIndex]))
-                    .reportSomaticHotspot(Boolean.parseBoolean(values[somaticHotspotIndex]))
-                    .likelihoodType(DriverCategory.valueOf(values[likelihoodTypeIndex]))
-                    .reportGermlineVariant(GermlineReportingMode.valueOf(values[germlineVariantIndex].toUpperCase()))
-                    .reportGermlineHotspot(GermlineReportingMode.valueOf(values[germlineHotspotIndex].toUpperCase()))
-                    .reportGermlineDisruption(Boolean.parseBoolean(values[germlineDisruptionIndex]))
+                    .gene(reader.get(geneIndex))
+                    .reportMissenseAndInframe(reader.getBoolean(missenseIndex))
+                    .reportNonsenseAndFrameshift(reader.getBoolean(nonsenseIndex))
+                    .reportSplice(reader.getBoolean(spliceIndex))
+                    .reportDeletion(reader.getBoolean(deletionIndex))
+                    .reportDisruption(reader.getBoolean(disruptionIndex))
+                    .reportAmplification(reader.getBoolean(amplificationIndex))
+                    .reportSomaticHotspot(reader.getBoolean(somaticHotspotIndex))
+                    .likelihoodType(DriverCategory.valueOf(reader.get(likelihoodTypeIndex)))
+                    .reportGermlineVariant(GermlineReportingMode.valueOf(reader.get(germlineVariantIndex).toUpperCase()))
+                    .reportGermlineHotspot(GermlineReportingMode.valueOf(reader.get(germlineHotspotIndex).toUpperCase()))
+                    .reportGermlineDisruption(reader.getBoolean(germlineDisruptionIndex))
                     .additionalReportedTranscripts(otherReportableTranscripts)
-                    .reportPGX(Boolean.parseBoolean(values[reportPGXIndex]))
+                    .reportPGX(reader.getBoolean(reportPGXIndex))
                     .build());
         }
 
@@ -1,7 +1,13 @@
 package com.hartwig.oncoact.hla;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.SortedMap;
+
+import com.google.common.collect.Comparators;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
 
 import org.immutables.value.Value;
 import org.jetbrains.annotations.NotNull;
@@ -11,9 +17,30 @@ import org.jetbrains.annotations.Nullable;
 @Value.Style(passAnnotations = { NotNull.class, Nullable.class })
 public abstract class HlaAllelesReportingData {
 
+    private static final Comparator<HlaReporting> BY_GERMLINE_ALLELE =
+            Comparator.comparing(hlaReporting -> hlaReporting.hlaAllele().germlineAllele());
+
+    // HLA alleles per gene, ordered by gene and within each gene by germline allele, which is the order in which they are reported.
     @NotNull
-    public abstract Map<String, List<HlaReporting>> hlaAllelesReporting();
+    @Value.NaturalOrder
+    public abstract SortedMap<String, List<HlaReporting>> hlaAllelesReporting();
 
     @NotNull
     public abstract String hlaQC();
-}
\ No newline at end of file
+
+    @Value.Check
+    @NotNull
+    protected HlaAllelesReportingData normalize() {
+        boolean allelesInOrder =
+                hlaAllelesReporting().values().stream().allMatch(alleles -> Comparators.isInOrder(alleles, BY_GERMLINE_ALLELE));
+        if (allelesInOrder) {
+            return this;
+        }
+
+        SortedMap<String, List<HlaReporting>> sortedAlleles = Maps.newTreeMap();
+        for (Map.Entry<String, List<HlaReporting>> entry : hlaAllelesReporting().entrySet()) {
+            sortedAlleles.put(entry.getKey(), ImmutableList.sortedCopyOf(BY_GERMLINE_ALLELE, entry.getValue()));
+        }
+        return ImmutableHlaAllelesReportingData.copyOf(this).withHlaAllelesReporting(sortedAlleles);
+    }
+}
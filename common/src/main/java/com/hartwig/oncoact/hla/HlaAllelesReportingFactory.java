@@ -2,10 +2,15 @@ package com.hartwig.oncoact.hla;
 
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
-import java.util.*;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
 
-import com.ctc.wstx.util.DataUtil;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.hartwig.hmftools.datamodel.hla.LilacAllele;
@@ -23,85 +28,75 @@ public final class HlaAllelesReportingFactory {
 
     private static final Logger LOGGER = LogManager.getLogger(HlaAllelesReportingFactory.class);
 
-    private static final DecimalFormat SINGLE_DIGIT = new DecimalFormat("#.#", DecimalFormatSymbols.getInstance(Locale.ENGLISH));
+    private static final ThreadLocal<DecimalFormat> SINGLE_DIGIT =
+            ThreadLocal.withInitial(() -> new DecimalFormat("#.#", DecimalFormatSymbols.getInstance(Locale.ENGLISH)));
 
     private HlaAllelesReportingFactory() {
     }
 
     @NotNull
     public static Map<String, List<LilacAllele>> generateLilacMap(@NotNull LilacRecord lilac) {
-        Map<String, List<LilacAllele>> mapLilacReportingAlleles = Maps.newHashMap();
+        Map<String, List<LilacAllele>> allelesPerName = Maps.newTreeMap();
         for (LilacAllele lilacAllele : lilac.alleles()) {
-            if (mapLilacReportingAlleles.containsKey(lilacAllele.allele())) {
-                List<LilacAllele> current = mapLilacReportingAlleles.get(lilacAllele.allele());
-                current.add(lilacAllele);
-                mapLilacReportingAlleles.put(lilacAllele.allele(), current);
-            } else {
-                mapLilacReportingAlleles.put(lilacAllele.allele(), Lists.newArrayList(lilacAllele));
-            }
+            allelesPerName.computeIfAbsent(lilacAllele.allele(), allele -> Lists.newArrayListWithCapacity(2)).add(lilacAllele);
         }
-        return mapLilacReportingAlleles;
+        return allelesPerName;
     }
 
     @NotNull
-    public static HlaAllelesReportingData convertToReportData(@NotNull LilacRecord lilac, boolean containsTumorCells, Set<PurpleQCStatus> purpleQCStatus) {
-        List<HlaReporting> lilacReportingList = Lists.newArrayList();
-
-        Map<String, List<LilacAllele>> mapLilacReportingAlleles = generateLilacMap(lilac);
-
-        for (Map.Entry<String, List<LilacAllele>> keyMap : mapLilacReportingAlleles.entrySet()) {
-            double germlineCopies = 0;
-            double tumorCopies = 0;
-            String mutationString = Strings.EMPTY;
-            if (keyMap.getValue().size() == 1) {
-                germlineCopies = 1;
-                tumorCopies = keyMap.getValue().get(0).tumorCopyNumber();
-                mutationString = mutationString(keyMap.getValue().get(0));
-            } else if (keyMap.getValue().size() == 2) {
-                germlineCopies = 2;
-                tumorCopies = keyMap.getValue().get(0).tumorCopyNumber() + keyMap.getValue().get(1).tumorCopyNumber();
-                //Assume only somatic count is added to one of the 2 alleles
-                mutationString = mutationString(keyMap.getValue().get(0));
-            } else {
-                LOGGER.warn("To many hla alleles of allele '{}'", keyMap.getKey());
-            }
-
-            boolean contamination = purpleQCStatus.contains(PurpleQCStatus.FAIL_CONTAMINATION);
-            boolean failure = purpleQCStatus.contains(PurpleQCStatus.FAIL_NO_TUMOR);
-
-            String interpretation = HLAPresenceInTumor(keyMap.getValue().get(0), mutationString, containsTumorCells);
-            String interpretInterpretation = containsTumorCells ? interpretation : "Unknown";
-
-            if (!contamination) {
-                lilacReportingList.add(ImmutableHlaReporting.builder()
-                        .hlaAllele(ImmutableHlaAllele.builder()
-                                .germlineAllele(keyMap.getValue().get(0).allele())
-                                .gene(extractHLAGene(keyMap.getValue().get(0)))
-                                .build())
-                        .germlineCopies(germlineCopies)
-                        .tumorCopies(containsTumorCells && !failure ? tumorCopies : Double.NaN)
-                        .somaticMutations(!failure ? mutationString : Formats.NA_STRING)
-                        .interpretation(!failure ? interpretInterpretation  : Formats.NA_STRING)
-                        .build());
+    public static HlaAllelesReportingData convertToReportData(@NotNull LilacRecord lilac, boolean containsTumorCells,
+            @NotNull Set<PurpleQCStatus> purpleQCStatus) {
+        boolean contamination = purpleQCStatus.contains(PurpleQCStatus.FAIL_CONTAMINATION);
+        boolean failure = purpleQCStatus.contains(PurpleQCStatus.FAIL_NO_TUMOR);
+
+        // Alleles are visited in allele order, and the gene is derived from the allele prefix, so every gene ends up with its alleles
+        // already in the order in which they are displayed.
+        Map<String, List<HlaReporting>> hlaAllelesPerGene = Maps.newTreeMap();
+        if (!contamination) {
+            for (Map.Entry<String, List<LilacAllele>> keyMap : generateLilacMap(lilac).entrySet()) {
+                HlaReporting hlaReporting = toHlaReporting(keyMap.getKey(), keyMap.getValue(), containsTumorCells, failure);
+                hlaAllelesPerGene.computeIfAbsent(hlaReporting.hlaAllele().gene(), gene -> Lists.newArrayList()).add(hlaReporting);
             }
+        }
 
+        ImmutableSortedMap.Builder<String, List<HlaReporting>> hlaAlleleMap = ImmutableSortedMap.naturalOrder();
+        for (Map.Entry<String, List<HlaReporting>> geneEntry : hlaAllelesPerGene.entrySet()) {
+            hlaAlleleMap.put(geneEntry.getKey(), ImmutableList.copyOf(geneEntry.getValue()));
         }
 
-        Map<String, List<HlaReporting>> hlaAlleleMap = Maps.newHashMap();
+        return ImmutableHlaAllelesReportingData.builder().hlaQC(lilac.qc()).hlaAllelesReporting(hlaAlleleMap.build()).build();
+    }
 
-        for (HlaReporting hlaReporting : lilacReportingList) {
-            if (hlaAlleleMap.containsKey(hlaReporting.hlaAllele().gene())) {
-                List<HlaReporting> current = hlaAlleleMap.get(hlaReporting.hlaAllele().gene());
-                current.add(hlaReporting);
-                hlaAlleleMap.put(hlaReporting.hlaAllele().gene(), current);
-            } else {
-                hlaAlleleMap.put(hlaReporting.hlaAllele().gene(), Lists.newArrayList(hlaReporting));
-            }
+    @NotNull
+    private static HlaReporting toHlaReporting(@NotNull String allele, @NotNull List<LilacAllele> lilacAlleles, boolean containsTumorCells,
+            boolean failure) {
+        LilacAllele firstAllele = lilacAlleles.get(0);
+
+        double germlineCopies = 0;
+        double tumorCopies = 0;
+        String mutationString = Strings.EMPTY;
+        if (lilacAlleles.size() == 1) {
+            germlineCopies = 1;
+            tumorCopies = firstAllele.tumorCopyNumber();
+            mutationString = mutationString(firstAllele);
+        } else if (lilacAlleles.size() == 2) {
+            germlineCopies = 2;
+            tumorCopies = firstAllele.tumorCopyNumber() + lilacAlleles.get(1).tumorCopyNumber();
+            //Assume only somatic count is added to one of the 2 alleles
+            mutationString = mutationString(firstAllele);
+        } else {
+            LOGGER.warn("To many hla alleles of allele '{}'", allele);
         }
 
-        return ImmutableHlaAllelesReportingData.builder()
-                .hlaQC(lilac.qc())
-                .hlaAllelesReporting(hlaAlleleMap)
+        String interpretation = HLAPresenceInTumor(firstAllele, mutationString, containsTumorCells);
+        String interpretInterpretation = containsTumorCells ? interpretation : "Unknown";
+
+        return ImmutableHlaReporting.builder()
+                .hlaAllele(ImmutableHlaAllele.builder().germlineAllele(firstAllele.allele()).gene(extractHLAGene(firstAllele)).build())
+                .germlineCopies(germlineCopies)
+                .tumorCopies(containsTumorCells && !failure ? tumorCopies : Double.NaN)
+                .somaticMutations(!failure ? mutationString : Formats.NA_STRING)
+                .interpretation(!failure ? interpretInterpretation : Formats.NA_STRING)
                 .build();
     }
 
@@ -123,21 +118,22 @@ public final class HlaAllelesReportingFactory {
     @NotNull
     @VisibleForTesting
     static String mutationString(@NotNull LilacAllele allele) {
+        DecimalFormat singleDigit = SINGLE_DIGIT.get();
         StringJoiner joiner = new StringJoiner(", ");
         if (Doubles.positive(allele.somaticMissense())) {
-            joiner.add(SINGLE_DIGIT.format(allele.somaticMissense()) + " missense");
+            joiner.add(singleDigit.format(allele.somaticMissense()) + " missense");
         }
 
         if (Doubles.positive(allele.somaticNonsenseOrFrameshift())) {
-            joiner.add(SINGLE_DIGIT.format(allele.somaticNonsenseOrFrameshift()) + " nonsense or frameshift");
+            joiner.add(singleDigit.format(allele.somaticNonsenseOrFrameshift()) + " nonsense or frameshift");
         }
 
         if (Doubles.positive(allele.somaticSplice())) {
-            joiner.add(SINGLE_DIGIT.format(allele.somaticSplice()) + " splice");
+            joiner.add(singleDigit.format(allele.somaticSplice()) + " splice");
         }
 
         if (Doubles.positive(allele.somaticInframeIndel())) {
-            joiner.add(SINGLE_DIGIT.format(allele.somaticInframeIndel()) + " inframe indel");
+            joiner.add(singleDigit.format(allele.somaticInframeIndel()) + " inframe indel");
         }
 
         String result = joiner.toString();
@@ -147,7 +143,7 @@ public final class HlaAllelesReportingFactory {
     @NotNull
     @VisibleForTesting
     static String HLAPresenceInTumor(@NotNull LilacAllele allele, @NotNull String mutationString, Boolean hasReliablePurity) {
-        double tumorCopies = Double.parseDouble(SINGLE_DIGIT.format(allele.tumorCopyNumber()));
+        double tumorCopies = Double.parseDouble(SINGLE_DIGIT.get().format(allele.tumorCopyNumber()));
         boolean mutation = mutationString.contains("missense") || mutationString.contains("nonsense or frameshift")
                 || mutationString.contains("splice") || mutationString.contains("inframe indel");
         if (hasReliablePurity) {
@@ -4,7 +4,6 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringJoiner;
@@ -13,7 +12,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.hartwig.oncoact.util.ActionabilityIntervation;
-import com.hartwig.oncoact.util.CsvFileReader;
+import com.hartwig.oncoact.util.TsvReader;
 import com.hartwig.serve.datamodel.ClinicalTrial;
 import com.hartwig.serve.datamodel.EvidenceDirection;
 import com.hartwig.serve.datamodel.EvidenceLevel;
@@ -50,11 +49,11 @@ public final class ProtectEvidenceFile {
     @NotNull
     public static List<ProtectEvidence> read(@NotNull String file) throws IOException {
         List<ProtectEvidence> evidence = Lists.newArrayList();
-        List<String> lines = Files.readAllLines(new File(file).toPath());
-
-        Map<String, Integer> fields = CsvFileReader.getHeadersToDelimiter(lines.get(0), FIELD_DELIMITER);
-        for (String line : lines.subList(1, lines.size())) {
-            evidence.add(fromLine(fields, line));
+        try (TsvReader reader = TsvReader.open(file)) {
+            EvidenceColumns columns = new EvidenceColumns(reader);
+            while (reader.next()) {
+                evidence.add(fromLine(reader, columns));
+            }
         }
         return evidence;
     }
@@ -124,67 +123,57 @@ public final class ProtectEvidenceFile {
     }
 
     @NotNull
-    private static ProtectEvidence fromLine(@NotNull Map<String, Integer> fields, @NotNull String line) {
-        String[] values = line.split(FIELD_DELIMITER, -1);
-
-        boolean isClinicalTrial = fields.containsKey("studyNctId") && !values[fields.get("studyNctId")].isEmpty();
-        boolean isTreatment = !isClinicalTrial && fields.containsKey("treatment") && !values[fields.get("treatment")].isEmpty();
+    private static ProtectEvidence fromLine(@NotNull TsvReader reader, @NotNull EvidenceColumns columns) {
+        String studyNctId = optionalValue(reader, columns.studyNctId);
+        String treatmentName = optionalValue(reader, columns.treatment);
+        boolean isClinicalTrial = !studyNctId.isEmpty();
+        boolean isTreatment = !isClinicalTrial && !treatmentName.isEmpty();
 
         Treatment treatment = null;
         ClinicalTrial clinicalTrial = null;
         if (isTreatment) {
+            String drugClasses = optionalValue(reader, columns.treatmentApproachesDrugClass);
+            String therapies = optionalValue(reader, columns.treatmentApproachesTherapy);
             treatment = ImmutableTreatment.builder()
-                    .name(values[fields.get("treatment")])
-                    .treatmentApproachesDrugClass(fields.containsKey("treatmentApproachesDrugClass") && !values[fields.get(
-                            "treatmentApproachesDrugClass")].isEmpty()
-                            ? stringToSet(values[fields.get("treatmentApproachesDrugClass")])
-                            : Sets.newHashSet())
-                    .treatmentApproachesTherapy(
-                            fields.containsKey("treatmentApproachesTherapy") && !values[fields.get("treatmentApproachesTherapy")].isEmpty()
-                                    ? stringToSet(values[fields.get("treatmentApproachesTherapy")])
-                                    : Sets.newHashSet())
+                    .name(treatmentName)
+                    .treatmentApproachesDrugClass(!drugClasses.isEmpty() ? stringToSet(drugClasses) : Sets.newHashSet())
+                    .treatmentApproachesTherapy(!therapies.isEmpty() ? stringToSet(therapies) : Sets.newHashSet())
                     .build();
         } else if (isClinicalTrial) {
+            String countriesOfStudy = optionalValue(reader, columns.countriesOfStudy);
             clinicalTrial = ImmutableClinicalTrial.builder()
-                    .studyNctId(fields.containsKey("studyNctId") && !values[fields.get("studyNctId")].isEmpty()
-                            ? values[fields.get("studyNctId")]
-                            : Strings.EMPTY)
-                    .studyTitle(fields.containsKey("studyTitle") && !values[fields.get("studyTitle")].isEmpty()
-                            ? values[fields.get("studyTitle")]
-                            : Strings.EMPTY)
-                    .studyAcronym(fields.containsKey("studyAcronym") && !values[fields.get("studyAcronym")].isEmpty()
-                            ? emptyToNullString(values[fields.get("studyAcronym")])
-                            : null)
-                    .gender(fields.containsKey("studyGender") && !values[fields.get("studyGender")].isEmpty()
-                            ? emptyToNullString(values[fields.get("studyGender")])
-                            : null)
-                    .countriesOfStudy(fields.containsKey("countriesOfStudy") && !values[fields.get("countriesOfStudy")].isEmpty()
-                            ? stringToSet(values[fields.get("countriesOfStudy")])
-                            : Sets.newHashSet())
-                    .therapyNames(
-                            fields.containsKey("treatment") && !values[fields.get("treatment")].isEmpty() ? stringToSet(values[fields.get(
-                                    "treatment")]) : Sets.newHashSet())
+                    .studyNctId(studyNctId)
+                    .studyTitle(optionalValue(reader, columns.studyTitle))
+                    .studyAcronym(emptyToNullString(optionalValue(reader, columns.studyAcronym)))
+                    .gender(emptyToNullString(optionalValue(reader, columns.studyGender)))
+                    .countriesOfStudy(!countriesOfStudy.isEmpty() ? stringToSet(countriesOfStudy) : Sets.newHashSet())
+                    .therapyNames(!treatmentName.isEmpty() ? stringToSet(treatmentName) : Sets.newHashSet())
                     .build();
         }
 
         return ImmutableProtectEvidence.builder()
-                .gene(emptyToNullString(values[fields.get("gene")]))
-                .transcript(emptyToNullString(values[fields.get("transcript")]))
-                .isCanonical(emptyToNullBoolean(values[fields.get("isCanonical")]))
-                .event(values[fields.get("event")])
-                .eventIsHighDriver(emptyToNullBoolean(values[fields.get("eventIsHighDriver")]))
-                .germline(Boolean.parseBoolean(values[fields.get("germline")]))
-                .reported(Boolean.parseBoolean(values[fields.get("reported")]))
+                .gene(emptyToNullString(reader.get(columns.gene)))
+                .transcript(emptyToNullString(reader.get(columns.transcript)))
+                .isCanonical(emptyToNullBoolean(reader.get(columns.isCanonical)))
+                .event(reader.get(columns.event))
+                .eventIsHighDriver(emptyToNullBoolean(reader.get(columns.eventIsHighDriver)))
+                .germline(reader.getBoolean(columns.germline))
+                .reported(reader.getBoolean(columns.reported))
                 .clinicalTrial(clinicalTrial)
-                .matchGender(emptyToNullBoolean(values[fields.get("matchGender")]))
+                .matchGender(emptyToNullBoolean(reader.get(columns.matchGender)))
                 .treatment(treatment)
-                .onLabel(Boolean.parseBoolean(values[fields.get("onLabel")]))
-                .level(EvidenceLevel.valueOf(values[fields.get("level")]))
-                .direction(EvidenceDirection.valueOf(values[fields.get("direction")]))
-                .sources(stringToSources(values[fields.get("sources")]))
+                .onLabel(reader.getBoolean(columns.onLabel))
+                .level(EvidenceLevel.valueOf(reader.get(columns.level)))
+                .direction(EvidenceDirection.valueOf(reader.get(columns.direction)))
+                .sources(stringToSources(reader.get(columns.sources)))
                 .build();
     }
 
+    @NotNull
+    private static String optionalValue(@NotNull TsvReader reader, int column) {
+        return column != EvidenceColumns.ABSENT ? reader.get(column) : Strings.EMPTY;
+    }
+
     @NotNull
     public static String setToString(@NotNull Set<String> treatmentApproaches) {
         StringJoiner joiner = new StringJoiner(TREATMENT_APPROACH_DELIMITER);
@@ -297,4 +286,58 @@ public final class ProtectEvidenceFile {
     private static Integer NullToInteger(@Nullable String value) {
         return value != null && !value.equals(Strings.EMPTY) ? Integer.valueOf(value) : null;
     }
-}
\ No newline at end of file
+
+    // Column indices are resolved once per file. Study and treatment columns are absent in files written by older versions.
+    private static final class EvidenceColumns {
+
+        private static final int ABSENT = -1;
+
+        private final int gene;
+        private final int transcript;
+        private final int isCanonical;
+        private final int event;
+        private final int eventIsHighDriver;
+        private final int germline;
+        private final int reported;
+        private final int studyNctId;
+        private final int studyTitle;
+        private final int studyAcronym;
+        private final int studyGender;
+        private final int countriesOfStudy;
+        private final int matchGender;
+        private final int treatment;
+        private final int treatmentApproachesDrugClass;
+        private final int treatmentApproachesTherapy;
+        private final int onLabel;
+        private final int level;
+        private final int direction;
+        private final int sources;
+
+        private EvidenceColumns(@NotNull TsvReader reader) {
+            this.gene = reader.column("gene");
+            this.transcript = reader.column("transcript");
+            this.isCanonical = reader.column("isCanonical");
+            this.event = reader.column("event");
+            this.eventIsHighDriver = reader.column("eventIsHighDriver");
+            this.germline = reader.column("germline");
+            this.reported = reader.column("reported");
+            this.studyNctId = optionalColumn(reader, "studyNctId");
+            this.studyTitle = optionalColumn(reader, "studyTitle");
+            this.studyAcronym = optionalColumn(reader, "studyAcronym");
+            this.studyGender = optionalColumn(reader, "studyGender");
+            this.countriesOfStudy = optionalColumn(reader, "countriesOfStudy");
+            this.matchGender = reader.column("matchGender");
+            this.treatment = optionalColumn(reader, "treatment");
+            this.treatmentApproachesDrugClass = optionalColumn(reader, "treatmentApproachesDrugClass");
+            this.treatmentApproachesTherapy = optionalColumn(reader, "treatmentApproachesTherapy");
+            this.onLabel = reader.column("onLabel");
+            this.level = reader.column("level");
+            this.direction = reader.column("direction");
+            this.sources = reader.column("sources");
+        }
+
+        private static int optionalColumn(@NotNull TsvReader reader, @NotNull String name) {
+            return reader.hasColumn(name) ? reader.column(name) : ABSENT;
+        }
+    }
+}
@@ -13,10 +13,12 @@ public final class Formats {
 
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd-MMM-yyyy");
     private static final DateTimeFormatter FILENAME_DT_FORMATTER = DateTimeFormatter.ofPattern("yy-MM-dd");
-    private static final DecimalFormat PERCENTAGE_FORMAT = new DecimalFormat("#'%'");
-    private static final DecimalFormat PERCENTAGE_FORMAT_WITHOUT_PERCENT = new DecimalFormat("#");
-    private static final DecimalFormat PERCENTAGE_FORMAT_WITH_DIGIT =
-            new DecimalFormat("#.#'%'", DecimalFormatSymbols.getInstance(Locale.ENGLISH));
+    // DecimalFormat is not thread-safe, so every thread gets its own instance.
+    private static final ThreadLocal<DecimalFormat> PERCENTAGE_FORMAT = ThreadLocal.withInitial(() -> new DecimalFormat("#'%'"));
+    private static final ThreadLocal<DecimalFormat> PERCENTAGE_FORMAT_WITHOUT_PERCENT =
+            ThreadLocal.withInitial(() -> new DecimalFormat("#"));
+    private static final ThreadLocal<DecimalFormat> PERCENTAGE_FORMAT_WITH_DIGIT =
+            ThreadLocal.withInitial(() -> new DecimalFormat("#.#'%'", DecimalFormatSymbols.getInstance(Locale.ENGLISH)));
     public static final String NONE_STRING = "NONE";
     public static final String NA_STRING = "N/A";
 
@@ -25,22 +27,22 @@ public final class Formats {
 
     @NotNull
     public static String formatPercentageDigit(double percentage) {
-        return PERCENTAGE_FORMAT_WITH_DIGIT.format(percentage * 100);
+        return PERCENTAGE_FORMAT_WITH_DIGIT.get().format(percentage * 100);
     }
 
     @NotNull
     public static String formatPercentageRound(double percentage) {
-        return PERCENTAGE_FORMAT.format(percentage * 100);
+        return PERCENTAGE_FORMAT.get().format(percentage * 100);
     }
 
     @NotNull
     public static String formatPercentageRoundWithoutPercent(double percentage) {
-        return PERCENTAGE_FORMAT_WITHOUT_PERCENT.format(percentage * 100);
+        return PERCENTAGE_FORMAT_WITHOUT_PERCENT.get().format(percentage * 100);
     }
 
     @NotNull
     public static String formatPercentage(double percentage) {
-        return PERCENTAGE_FORMAT.format(percentage);
+        return PERCENTAGE_FORMAT.get().format(percentage);
     }
 
     @NotNull
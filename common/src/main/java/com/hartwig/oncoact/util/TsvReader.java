@@ -0,0 +1,156 @@
+package com.hartwig.oncoact.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Maps;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Streams a tab-separated file one line at a time. Lines are tokenized on the tab character without regular expressions, keeping
+ * empty trailing fields. Header columns are resolved to indices once, after which fields are read by index:
+ * <pre>
+ * try (TsvReader reader = TsvReader.open(path)) {
+ *     int geneColumn = reader.column("gene");
+ *     while (reader.next()) {
+ *         String gene = reader.get(geneColumn);
+ *     }
+ * }
+ * </pre>
+ */
+public final class TsvReader implements Closeable {
+
+    private static final char DELIMITER = '\t';
+    private static final int INITIAL_FIELD_CAPACITY = 16;
+
+    @NotNull
+    private final BufferedReader reader;
+    @NotNull
+    private final Map<String, Integer> columnIndexPerName;
+
+    @NotNull
+    private String[] fields = new String[INITIAL_FIELD_CAPACITY];
+    private int fieldCount = 0;
+    @Nullable
+    private String line;
+
+    @NotNull
+    public static TsvReader open(@NotNull String path) throws IOException {
+        return withHeader(Files.newBufferedReader(Paths.get(path), StandardCharsets.UTF_8));
+    }
+
+    @NotNull
+    public static TsvReader withHeader(@NotNull BufferedReader reader) throws IOException {
+        TsvReader tsvReader = new TsvReader(reader, Maps.newLinkedHashMap());
+        if (tsvReader.next()) {
+            for (int i = 0; i < tsvReader.fieldCount; i++) {
+                tsvReader.columnIndexPerName.put(tsvReader.fields[i], i);
+            }
+        }
+        return tsvReader;
+    }
+
+    @NotNull
+    public static TsvReader withoutHeader(@NotNull BufferedReader reader) {
+        return new TsvReader(reader, Maps.newLinkedHashMap());
+    }
+
+    private TsvReader(@NotNull final BufferedReader reader, @NotNull final Map<String, Integer> columnIndexPerName) {
+        this.reader = reader;
+        this.columnIndexPerName = columnIndexPerName;
+    }
+
+    @NotNull
+    public Set<String> columns() {
+        return Collections.unmodifiableSet(columnIndexPerName.keySet());
+    }
+
+    public boolean hasColumn(@NotNull String name) {
+        return columnIndexPerName.containsKey(name);
+    }
+
+    public int column(@NotNull String name) {
+        Integer index = columnIndexPerName.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("Column '" + name + "' not found in header " + columnIndexPerName.keySet());
+        }
+        return index;
+    }
+
+    /**
+     * Advances to the next line and tokenizes it. Returns false once the end of the input has been reached.
+     */
+    public boolean next() throws IOException {
+        line = reader.readLine();
+        if (line == null) {
+            fieldCount = 0;
+            return false;
+        }
+
+        fieldCount = 0;
+        int start = 0;
+        int end;
+        while ((end = line.indexOf(DELIMITER, start)) >= 0) {
+            addField(line.substring(start, end));
+            start = end + 1;
+        }
+        addField(line.substring(start));
+        return true;
+    }
+
+    @NotNull
+    public String line() {
+        if (line == null) {
+            throw new IllegalStateException("No current line");
+        }
+        return line;
+    }
+
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    @NotNull
+    public String get(int column) {
+        if (column >= fieldCount) {
+            throw new IndexOutOfBoundsException("Column " + column + " does not exist in line: " + line);
+        }
+        return fields[column];
+    }
+
+    @Nullable
+    public String getNullable(int column) {
+        String value = get(column);
+        return value.isEmpty() ? null : value;
+    }
+
+    public boolean getBoolean(int column) {
+        return Boolean.parseBoolean(get(column));
+    }
+
+    public int getInt(int column) {
+        return Integer.parseInt(get(column));
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void addField(@NotNull String field) {
+        if (fieldCount == fields.length) {
+            fields = Arrays.copyOf(fields, 2 * fields.length);
+        }
+        fields[fieldCount++] = field;
+    }
+}
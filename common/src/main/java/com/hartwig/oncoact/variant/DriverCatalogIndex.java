@@ -0,0 +1,60 @@
+package com.hartwig.oncoact.variant;
+
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Maps;
+import com.hartwig.hmftools.datamodel.purple.PurpleDriver;
+import com.hartwig.hmftools.datamodel.purple.PurpleDriverType;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Indexes a driver catalog once so that the canonical and non-canonical driver of a gene can be looked up in constant time.
+ */
+public final class DriverCatalogIndex {
+
+    private static final Set<PurpleDriverType> MUTATION_DRIVER_TYPES =
+            Set.of(PurpleDriverType.MUTATION, PurpleDriverType.GERMLINE_MUTATION);
+
+    @NotNull
+    private final Map<DriverKey, PurpleDriver> driverPerKey;
+    @NotNull
+    private final Map<String, PurpleDriver> nonCanonicalMutationDriverPerGene;
+
+    @NotNull
+    public static DriverCatalogIndex create(@NotNull Iterable<PurpleDriver> drivers) {
+        Map<DriverKey, PurpleDriver> driverPerKey = DriverMap.create(drivers);
+
+        Map<String, PurpleDriver> nonCanonicalMutationDriverPerGene = Maps.newHashMap();
+        for (PurpleDriver driver : drivers) {
+            if (MUTATION_DRIVER_TYPES.contains(driver.driver()) && !driver.isCanonical()) {
+                // Like the driver map, a later driver with the same gene and transcript replaces an earlier one.
+                nonCanonicalMutationDriverPerGene.putIfAbsent(driver.gene(),
+                        driverPerKey.get(DriverKey.create(driver.gene(), driver.transcript())));
+            }
+        }
+
+        return new DriverCatalogIndex(driverPerKey, nonCanonicalMutationDriverPerGene);
+    }
+
+    private DriverCatalogIndex(@NotNull final Map<DriverKey, PurpleDriver> driverPerKey,
+            @NotNull final Map<String, PurpleDriver> nonCanonicalMutationDriverPerGene) {
+        this.driverPerKey = driverPerKey;
+        this.nonCanonicalMutationDriverPerGene = nonCanonicalMutationDriverPerGene;
+    }
+
+    @Nullable
+    public PurpleDriver canonicalDriver(@NotNull String gene, @NotNull String canonicalTranscript) {
+        return driverPerKey.get(DriverKey.create(gene, canonicalTranscript));
+    }
+
+    /**
+     * Returns the first non-canonical mutation driver of the gene in catalog order, or null if the gene has none.
+     */
+    @Nullable
+    public PurpleDriver nonCanonicalDriver(@NotNull String gene) {
+        return nonCanonicalMutationDriverPerGene.get(gene);
+    }
+}
@@ -8,10 +8,9 @@ import java.util.Set;
 import java.util.StringJoiner;
 import java.util.stream.Collectors;
 
-import com.google.common.collect.Lists;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
-import com.hartwig.hmftools.datamodel.purple.ImmutablePurpleVariant;
 import com.hartwig.hmftools.datamodel.purple.PurpleDriver;
 import com.hartwig.hmftools.datamodel.purple.PurpleDriverType;
 import com.hartwig.hmftools.datamodel.purple.PurpleRecord;
@@ -31,8 +30,6 @@ import org.jetbrains.annotations.Nullable;
 public final class ReportableVariantFactory {
 
     private static final Logger LOGGER = LogManager.getLogger(ReportableVariantFactory.class);
-    private static final Set<PurpleDriverType> MUTATION_DRIVER_TYPES =
-            Set.of(PurpleDriverType.MUTATION, PurpleDriverType.GERMLINE_MUTATION);
 
     private ReportableVariantFactory() {
     }
@@ -98,21 +95,20 @@ public final class ReportableVariantFactory {
     private static Set<ReportableVariant> toReportableVariants(@NotNull Iterable<PurpleVariant> variants,
             @NotNull Iterable<PurpleDriver> drivers, @NotNull ReportableVariantSource source,
             @NotNull ClinicalTranscriptsModel clinicalTranscriptsModel) {
-        Map<DriverKey, PurpleDriver> driverMap = DriverMap.create(drivers);
+        DriverCatalogIndex driverIndex = DriverCatalogIndex.create(drivers);
         Set<ReportableVariant> reportableVariants = Sets.newHashSet();
 
         for (PurpleVariant variant : variants) {
 
             if (variant.reported()) {
+                Map<String, PurpleTranscriptImpact> otherImpactPerTranscript = otherImpactPerTranscript(variant);
 
-                PurpleTranscriptImpact purpleTranscriptImpact = variant.otherImpacts()
-                        .stream()
-                        .filter(x -> x.transcript().equals(clinicalTranscriptsModel.findCanonicalTranscriptForGene(variant.gene())))
-                        .findFirst()
-                        .orElse(null);
+                String clinicalTranscript = clinicalTranscriptsModel.findCanonicalTranscriptForGene(variant.gene());
+                PurpleTranscriptImpact purpleTranscriptImpact =
+                        clinicalTranscript != null ? otherImpactPerTranscript.get(clinicalTranscript) : null;
                 ImmutableReportableVariant.Builder builder = fromVariant(variant, source);
 
-                PurpleDriver canonicalDriver = findCanonicalEntryForVariant(driverMap, variant);
+                PurpleDriver canonicalDriver = driverIndex.canonicalDriver(variant.gene(), variant.canonicalImpact().transcript());
                 if (canonicalDriver != null) {
                     reportableVariants.add(builder.driverLikelihood(
                                     source == ReportableVariantSource.GERMLINE_ONLY ? null : canonicalDriver.driverLikelihood())
@@ -120,77 +116,54 @@ public final class ReportableVariantFactory {
                             .isCanonical(true)
                             .otherImpactClinical(purpleTranscriptImpact)
                             .build());
+                } else {
+                    LOGGER.warn("No canonical entry found in driver catalog for gene {}", variant.gene());
                 }
 
-                PurpleDriver nonCanonicalDriver = findNonCanonicalEntryForVariant(driverMap, variant);
-                if (nonCanonicalDriver != null) {
-                    for (PurpleTranscriptImpact transcriptImpact : variant.otherImpacts()) {
-                        if (transcriptImpact.transcript().equals(nonCanonicalDriver.transcript())) {
-                            reportableVariants.add(builder.driverLikelihood(
-                                            source == ReportableVariantSource.GERMLINE_ONLY ? null : nonCanonicalDriver.driverLikelihood())
-                                    .transcript(nonCanonicalDriver.transcript())
-                                    .isCanonical(false)
-                                    .otherImpactClinical(null)
-                                    .canonicalHgvsCodingImpact(transcriptImpact.hgvsCodingImpact())
-                                    .canonicalHgvsProteinImpact(transcriptImpact.hgvsProteinImpact())
-                                    .canonicalEffect(EventGenerator.concat(transcriptImpact.effects()))
-                                    .canonicalCodingEffect(transcriptImpact.codingEffect())
-                                    .build());
-                        }
-                    }
+                PurpleDriver nonCanonicalDriver = driverIndex.nonCanonicalDriver(variant.gene());
+                PurpleTranscriptImpact transcriptImpact =
+                        nonCanonicalDriver != null ? otherImpactPerTranscript.get(nonCanonicalDriver.transcript()) : null;
+                if (transcriptImpact != null) {
+                    reportableVariants.add(builder.driverLikelihood(
+                                    source == ReportableVariantSource.GERMLINE_ONLY ? null : nonCanonicalDriver.driverLikelihood())
+                            .transcript(nonCanonicalDriver.transcript())
+                            .isCanonical(false)
+                            .otherImpactClinical(null)
+                            .canonicalHgvsCodingImpact(transcriptImpact.hgvsCodingImpact())
+                            .canonicalHgvsProteinImpact(transcriptImpact.hgvsProteinImpact())
+                            .canonicalEffect(EventGenerator.concat(transcriptImpact.effects()))
+                            .canonicalCodingEffect(transcriptImpact.codingEffect())
+                            .build());
                 }
             }
         }
         return reportableVariants;
     }
 
-    @Nullable
-    private static PurpleDriver findCanonicalEntryForVariant(@NotNull Map<DriverKey, PurpleDriver> entries,
-            @NotNull PurpleVariant variant) {
-        assert variant.reported();
-
-        String canonicalTranscript = variant.canonicalImpact().transcript();
-        for (PurpleDriver driver : entries.values()) {
-            if (variant.gene().equals(driver.gene()) && driver.transcript().equals(canonicalTranscript)) {
-                return entries.get(DriverKey.create(variant.gene(), canonicalTranscript));
-            }
-        }
-
-        LOGGER.warn("No canonical entry found in driver catalog for gene {}", variant.gene());
-        return null;
-    }
-
-    @Nullable
-    private static PurpleDriver findNonCanonicalEntryForVariant(@NotNull Map<DriverKey, PurpleDriver> entries,
-            @NotNull PurpleVariant variant) {
-        assert variant.reported();
-
-        for (PurpleDriver driver : entries.values()) {
-            if (MUTATION_DRIVER_TYPES.contains(driver.driver()) && !driver.isCanonical()) {
-                return entries.get(DriverKey.create(variant.gene(), driver.transcript()));
-            }
+    @NotNull
+    private static Map<String, PurpleTranscriptImpact> otherImpactPerTranscript(@NotNull PurpleVariant variant) {
+        Map<String, PurpleTranscriptImpact> impactPerTranscript = Maps.newHashMapWithExpectedSize(variant.otherImpacts().size());
+        for (PurpleTranscriptImpact impact : variant.otherImpacts()) {
+            impactPerTranscript.putIfAbsent(impact.transcript(), impact);
         }
-
-        return null;
+        return impactPerTranscript;
     }
 
     @NotNull
-    public static List<PurpleVariant> mergeAllVariantLists(@NotNull Iterable<PurpleVariant> list1,
+    public static Iterable<PurpleVariant> mergeAllVariantLists(@NotNull Iterable<PurpleVariant> list1,
             @Nullable Iterable<PurpleVariant> list2) {
+        return mergeAllVariantLists(list1, list2, false);
+    }
 
-        List<PurpleVariant> result = Lists.newArrayList();
-
-        for (PurpleVariant variant : list1) {
-            result.add(ImmutablePurpleVariant.builder().from(variant).build());
-        }
-
-        if (list2 != null) {
-            for (PurpleVariant variant : list2) {
-                result.add(ImmutablePurpleVariant.builder().from(variant).build());
-            }
-        }
-
-        return result;
+    /**
+     * Returns a lazy view over both variant lists, without copying the (immutable) variants. When unreportedOnly is set, reported
+     * variants are skipped while iterating.
+     */
+    @NotNull
+    public static Iterable<PurpleVariant> mergeAllVariantLists(@NotNull Iterable<PurpleVariant> list1,
+            @Nullable Iterable<PurpleVariant> list2, boolean unreportedOnly) {
+        Iterable<PurpleVariant> merged = list2 != null ? Iterables.concat(list1, list2) : list1;
+        return unreportedOnly ? Iterables.filter(merged, variant -> !variant.reported()) : Iterables.unmodifiableIterable(merged);
     }
 
     @NotNull
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Set;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import com.hartwig.oncoact.drivergene.DriverGene;
 import com.hartwig.hmftools.datamodel.linx.LinxBreakend;
 import com.hartwig.hmftools.datamodel.linx.LinxFusion;
@@ -34,57 +35,48 @@ public final class WildTypeFactory {
             @NotNull Collection<ReportableVariant> reportableSomaticVariants, @NotNull Collection<PurpleGainLoss> reportableSomaticGainsLosses,
             @NotNull Collection<LinxFusion> reportableFusions, @NotNull Collection<HomozygousDisruption> homozygousDisruptions,
             @NotNull Collection<LinxBreakend> reportableBreakends, @NotNull Collection<DriverGene> driverGenes) {
-        List<WildTypeGene> wildTypeGenes = Lists.newArrayList();
+        Set<String> alteredGenes = genesWithReportableAlteration(reportableGermlineVariants,
+                reportableSomaticVariants,
+                reportableSomaticGainsLosses,
+                reportableFusions,
+                homozygousDisruptions,
+                reportableBreakends);
 
+        List<WildTypeGene> wildTypeGenes = Lists.newArrayList();
         for (DriverGene driverGene : driverGenes) {
-            boolean hasSomaticVariant = false;
-            for (ReportableVariant somaticVariant : reportableSomaticVariants) {
-                if (driverGene.gene().equals(somaticVariant.gene())) {
-                    hasSomaticVariant = true;
-                }
-            }
-
-            boolean hasGermlineVariant = false;
-            for (ReportableVariant germlineVariant : reportableGermlineVariants) {
-                if (driverGene.gene().equals(germlineVariant.gene())) {
-                    hasGermlineVariant = true;
-                }
-            }
-
-            boolean hasSomaticGainLoss = false;
-            for (PurpleGainLoss gainLoss : reportableSomaticGainsLosses) {
-                if (driverGene.gene().equals(gainLoss.gene())) {
-                    hasSomaticGainLoss = true;
-                }
-            }
-
-            boolean hasFusion = false;
-            for (LinxFusion fusion : reportableFusions) {
-                if (driverGene.gene().equals(fusion.geneStart()) || driverGene.gene().equals(fusion.geneEnd())) {
-                    hasFusion = true;
-                }
-            }
-
-            boolean hasHomozygousDisruption = false;
-            for (HomozygousDisruption homozygousDisruption : homozygousDisruptions) {
-                if (driverGene.gene().equals(homozygousDisruption.gene())) {
-                    hasFusion = true;
-                }
-            }
-
-            boolean hasBreakend = false;
-            for (LinxBreakend breakend : reportableBreakends) {
-                if (driverGene.gene().equals(breakend.gene())) {
-                    hasBreakend = true;
-                }
-            }
-
-            if (!hasSomaticVariant && !hasGermlineVariant && !hasSomaticGainLoss && !hasFusion && !hasHomozygousDisruption
-                    && !hasBreakend) {
+            if (!alteredGenes.contains(driverGene.gene())) {
                 wildTypeGenes.add(ImmutableWildTypeGene.builder().gene(driverGene.gene()).build());
             }
         }
 
         return wildTypeGenes;
     }
-}
\ No newline at end of file
+
+    @NotNull
+    static Set<String> genesWithReportableAlteration(@NotNull Collection<ReportableVariant> reportableGermlineVariants,
+            @NotNull Collection<ReportableVariant> reportableSomaticVariants,
+            @NotNull Collection<PurpleGainLoss> reportableSomaticGainsLosses, @NotNull Collection<LinxFusion> reportableFusions,
+            @NotNull Collection<HomozygousDisruption> homozygousDisruptions, @NotNull Collection<LinxBreakend> reportableBreakends) {
+        Set<String> alteredGenes = Sets.newHashSet();
+        for (ReportableVariant somaticVariant : reportableSomaticVariants) {
+            alteredGenes.add(somaticVariant.gene());
+        }
+        for (ReportableVariant germlineVariant : reportableGermlineVariants) {
+            alteredGenes.add(germlineVariant.gene());
+        }
+        for (PurpleGainLoss gainLoss : reportableSomaticGainsLosses) {
+            alteredGenes.add(gainLoss.gene());
+        }
+        for (LinxFusion fusion : reportableFusions) {
+            alteredGenes.add(fusion.geneStart());
+            alteredGenes.add(fusion.geneEnd());
+        }
+        for (HomozygousDisruption homozygousDisruption : homozygousDisruptions) {
+            alteredGenes.add(homozygousDisruption.gene());
+        }
+        for (LinxBreakend breakend : reportableBreakends) {
+            alteredGenes.add(breakend.gene());
+        }
+        return alteredGenes;
+    }
+}
@@ -0,0 +1,44 @@
+package com.hartwig.oncoact.batch;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+public class BatchManifestFileTest {
+
+    @Test
+    public void canReadRequestedColumnsInRequestedOrder() throws IOException {
+        String manifest = "output_dir\tsample\torange_json\n/out/1\tS1\t/in/1.json\n\n/out/2\tS2\t/in/2.json\n";
+
+        List<List<String>> entries = read(manifest, ImmutableList.of("orange_json", "output_dir"));
+
+        assertEquals(2, entries.size());
+        assertEquals(ImmutableList.of("/in/1.json", "/out/1"), entries.get(0));
+        assertEquals(ImmutableList.of("/in/2.json", "/out/2"), entries.get(1));
+    }
+
+    @Test
+    public void canReadEmptyValues() throws IOException {
+        List<List<String>> entries = read("orange_json\toutput_dir\n/in/1.json\t\n", ImmutableList.of("orange_json", "output_dir"));
+
+        assertEquals(ImmutableList.of(ImmutableList.of("/in/1.json", "")), entries);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void crashOnMissingColumn() throws IOException {
+        read("orange_json\n/in/1.json\n", ImmutableList.of("orange_json", "output_dir"));
+    }
+
+    @NotNull
+    private static List<List<String>> read(@NotNull String manifest, @NotNull List<String> columns) throws IOException {
+        return BatchManifestFile.read(new BufferedReader(new StringReader(manifest)), columns, values -> values);
+    }
+}
@@ -0,0 +1,38 @@
+package com.hartwig.oncoact.batch;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import org.junit.Test;
+
+public class BatchRunnerTest {
+
+    @Test
+    public void canContinueAfterFailingEntry() throws InterruptedException {
+        List<String> entries = ImmutableList.of("S1", "S2", "S3", "S4");
+        Set<String> processed = ConcurrentHashMap.newKeySet();
+
+        int failedEntries = BatchRunner.run(entries, 2, entry -> {
+            if (entry.equals("S2")) {
+                throw new IOException("Could not read " + entry);
+            }
+            processed.add(entry);
+        }, entry -> entry);
+
+        assertEquals(1, failedEntries);
+        assertEquals(ImmutableSet.of("S1", "S3", "S4"), processed);
+    }
+
+    @Test
+    public void canRunWithoutEntries() throws InterruptedException {
+        assertEquals(0, BatchRunner.run(ImmutableList.<String>of(), 1, entry -> {
+        }, entry -> entry));
+    }
+}
@@ -0,0 +1,64 @@
+package com.hartwig.oncoact.copynumber;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import com.google.common.collect.Lists;
+import com.hartwig.hmftools.datamodel.purple.PurpleCopyNumber;
+import com.hartwig.oncoact.orange.purple.TestPurpleFactory;
+
+import org.junit.Test;
+
+public class ArmCopyNumberMatrixTest {
+
+    private static final double EPSILON = 1.0E-10;
+
+    @Test
+    public void canComputeArmCopyNumbersForCohort() {
+        List<PurpleCopyNumber> sample1 = Lists.newArrayList();
+        sample1.add(TestPurpleFactory.copyNumberBuilder().chromosome("1").start(1).end(123035434).averageTumorCopyNumber(2D).build());
+        sample1.add(TestPurpleFactory.copyNumberBuilder()
+                .chromosome("1")
+                .start(123035435)
+                .end(249250621)
+                .averageTumorCopyNumber(3D)
+                .build());
+
+        List<PurpleCopyNumber> sample2 = Lists.newArrayList();
+        sample2.add(TestPurpleFactory.copyNumberBuilder().chromosome("chrX").start(1).end(60132012).averageTumorCopyNumber(4D).build());
+
+        List<CopyNumberSegments> segments =
+                Lists.newArrayList(CopyNumberSegments.fromPurpleCopyNumbers(sample1), CopyNumberSegments.fromPurpleCopyNumbers(sample2));
+        ArmCopyNumberMatrix matrix = CnPerChromosomeFactory.extractCnPerChromosomeArmMatrix(segments, RefGenomeCoordinates.COORDS_37);
+
+        assertEquals(2, matrix.sampleCount());
+        for (CnPerChromosomeArmData data : CnPerChromosomeFactory.extractCnPerChromosomeArm(sample1, RefGenomeCoordinates.COORDS_37)) {
+            assertEquals(data.copyNumber(), matrix.copyNumber(0, data.chromosome(), data.chromosomeArm()), EPSILON);
+        }
+        assertEquals(0D, matrix.copyNumber(0, Chromosome._X, ChromosomeArm.P_ARM), EPSILON);
+        assertEquals(4D, matrix.copyNumber(1, Chromosome._X, ChromosomeArm.P_ARM), EPSILON);
+        assertEquals(0D, matrix.copyNumber(1, Chromosome._1, ChromosomeArm.Q_ARM), EPSILON);
+    }
+
+    @Test
+    public void canStoreSegmentsInPrimitiveArrays() {
+        List<PurpleCopyNumber> copyNumbers = Lists.newArrayList();
+        copyNumbers.add(TestPurpleFactory.copyNumberBuilder().chromosome("chr2").start(10).end(20).averageTumorCopyNumber(1.5).build());
+        copyNumbers.add(TestPurpleFactory.copyNumberBuilder().chromosome("Y").start(30).end(40).averageTumorCopyNumber(0.5).build());
+
+        CopyNumberSegments segments = CopyNumberSegments.fromPurpleCopyNumbers(copyNumbers);
+
+        assertEquals(2, segments.size());
+        assertEquals(Chromosome._2, segments.chromosome(0));
+        assertEquals(10, segments.start(0));
+        assertEquals(20, segments.end(0));
+        assertEquals(1.5, segments.copyNumber(0), EPSILON);
+        assertEquals(Chromosome._Y, segments.chromosome(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void crashOnCentromereColumn() {
+        ArmCopyNumberMatrix.column(Chromosome._1, ChromosomeArm.CENTROMERE);
+    }
+}
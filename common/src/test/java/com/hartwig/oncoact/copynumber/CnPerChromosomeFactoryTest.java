@@ -46,6 +46,29 @@ public class CnPerChromosomeFactoryTest {
         assertEquals(5.35312, cnPerChromosomeArmData2.copyNumber(), EPSILON);
     }
 
+    @Test
+    public void canDetermineCnPerChromosomeArmInSinglePassOverMultipleChromosomes() {
+        List<PurpleCopyNumber> copyNumbers = Lists.newArrayList();
+        // Chromosome 2: 1-93826171-243199373, chromosome X: 1-60132012-155270560
+        copyNumbers.add(TestPurpleFactory.copyNumberBuilder()
+                .chromosome("chr2")
+                .start(1)
+                .end(243199373)
+                .averageTumorCopyNumber(2D)
+                .build());
+        copyNumbers.add(TestPurpleFactory.copyNumberBuilder().chromosome("X").start(1).end(60132012).averageTumorCopyNumber(4D).build());
+
+        List<CnPerChromosomeArmData> cnPerChromosomeArm =
+                CnPerChromosomeFactory.extractCnPerChromosomeArm(copyNumbers, RefGenomeCoordinates.COORDS_37);
+
+        assertEquals(3, cnPerChromosomeArm.size());
+        assertEquals(Chromosome._2, cnPerChromosomeArm.get(0).chromosome());
+        assertEquals(ChromosomeArm.P_ARM, cnPerChromosomeArm.get(0).chromosomeArm());
+        assertEquals(5.18404, cnPerChromosomeArm.get(0).copyNumber(), EPSILON);
+        assertEquals(3.25627, findByChromosomeAndArm(cnPerChromosomeArm, Chromosome._2, ChromosomeArm.Q_ARM).copyNumber(), EPSILON);
+        assertEquals(4D, findByChromosomeAndArm(cnPerChromosomeArm, Chromosome._X, ChromosomeArm.P_ARM).copyNumber(), EPSILON);
+    }
+
     @NotNull
     private static CnPerChromosomeArmData findByChromosomeAndArm(@NotNull List<CnPerChromosomeArmData> dataList,
             @NotNull Chromosome chromosome, @NotNull ChromosomeArm arm) {
@@ -0,0 +1,123 @@
+package com.hartwig.oncoact.copynumber.tools;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.hartwig.oncoact.copynumber.ArmCopyNumberMatrix;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+public class ArmCopyNumberMatrixAppTest {
+
+    private static final String VALID_ORANGE_JSON = "{\"sampleId\":\"%s\",\"refGenomeVersion\":\"V37\","
+            + "\"purple\":{\"allSomaticCopyNumbers\":["
+            + "{\"chromosome\":\"1\",\"start\":1,\"end\":249250621,\"averageTumorCopyNumber\":2.0}]}}";
+
+    @Test
+    public void writesNanRowForUnreadableSampleInFileOrder() throws IOException, InterruptedException {
+        Path orangeDir = Files.createTempDirectory("orange");
+        write(orangeDir.resolve("a.orange.json"), String.format(VALID_ORANGE_JSON, "sampleA"));
+        write(orangeDir.resolve("b.orange.json"), "{\"sampleId\":");
+        write(orangeDir.resolve("c.orange.json"), String.format(VALID_ORANGE_JSON, "sampleC"));
+        Path outputTsv = orangeDir.resolve("matrix.tsv");
+
+        int failedSamples = new ArmCopyNumberMatrixApp(config(orangeDir, outputTsv, 1)).run();
+
+        assertEquals(1, failedSamples);
+        List<String> lines = Files.readAllLines(outputTsv, StandardCharsets.UTF_8);
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(1).startsWith("sampleA\t2.0\t2.0\t"));
+
+        String[] missing = lines.get(2).split("\t");
+        assertEquals("b.orange.json", missing[0]);
+        assertEquals(1 + ArmCopyNumberMatrix.COLUMN_COUNT, missing.length);
+        for (int i = 1; i < missing.length; i++) {
+            assertEquals("NaN", missing[i]);
+        }
+        assertTrue(lines.get(3).startsWith("sampleC\t"));
+    }
+
+    @Test
+    public void boundsSamplesInFlight() throws Exception {
+        int threads = 2;
+        int maxSamplesInFlight = 8;
+        int sampleCount = 20;
+
+        Path orangeDir = Files.createTempDirectory("orange");
+        for (int i = 0; i < sampleCount; i++) {
+            write(orangeDir.resolve(String.format("sample%02d.orange.json", i)), "");
+        }
+
+        CountDownLatch firstSampleReleased = new CountDownLatch(1);
+        AtomicInteger samplesRead = new AtomicInteger();
+        ArmCopyNumberMatrixApp.SampleReader sampleReader = orangeJson -> {
+            String fileName = orangeJson.getFileName().toString();
+            samplesRead.incrementAndGet();
+            if (fileName.startsWith("sample00")) {
+                awaitUninterruptibly(firstSampleReleased);
+            }
+            return new ArmCopyNumberMatrixApp.SampleRow(fileName, new double[ArmCopyNumberMatrix.COLUMN_COUNT]);
+        };
+
+        Path outputTsv = orangeDir.resolve("matrix.tsv");
+        ArmCopyNumberMatrixApp app = new ArmCopyNumberMatrixApp(config(orangeDir, outputTsv, threads), sampleReader);
+        ExecutorService runner = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> run = runner.submit(app::run);
+
+            // While the first sample is blocked, no more samples than the bound may be submitted.
+            long deadline = System.currentTimeMillis() + 10000;
+            while (samplesRead.get() < maxSamplesInFlight && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(200);
+            assertEquals(maxSamplesInFlight, samplesRead.get());
+
+            firstSampleReleased.countDown();
+            assertEquals(0, (int) run.get(10, TimeUnit.SECONDS));
+        } finally {
+            firstSampleReleased.countDown();
+            runner.shutdownNow();
+        }
+
+        assertEquals(sampleCount, samplesRead.get());
+        List<String> lines = Files.readAllLines(outputTsv, StandardCharsets.UTF_8);
+        assertEquals(1 + sampleCount, lines.size());
+        assertTrue(lines.get(1).startsWith("sample00.orange.json\t"));
+        assertTrue(lines.get(sampleCount).startsWith("sample19.orange.json\t"));
+    }
+
+    @NotNull
+    private static ArmCopyNumberMatrixConfig config(@NotNull Path orangeDir, @NotNull Path outputTsv, int threads) {
+        return ImmutableArmCopyNumberMatrixConfig.builder()
+                .orangeDirectory(orangeDir.toString())
+                .outputTsv(outputTsv.toString())
+                .threads(threads)
+                .build();
+    }
+
+    private static void write(@NotNull Path path, @NotNull String content) throws IOException {
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void awaitUninterruptibly(@NotNull CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
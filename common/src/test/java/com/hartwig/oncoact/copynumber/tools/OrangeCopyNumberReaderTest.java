@@ -0,0 +1,79 @@
+package com.hartwig.oncoact.copynumber.tools;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.google.gson.stream.JsonReader;
+import com.hartwig.oncoact.copynumber.Chromosome;
+import com.hartwig.oncoact.copynumber.CopyNumberSegments;
+import com.hartwig.oncoact.copynumber.RefGenomeCoordinates;
+
+import org.junit.Test;
+
+public class OrangeCopyNumberReaderTest {
+
+    private static final double EPSILON = 1.0E-10;
+
+    @Test
+    public void canReadOnlyPurpleCopyNumbers() throws IOException {
+        String json = "{\"sampleId\":\"sample\",\"experimentDate\":\"2023-01-01\",\"refGenomeVersion\":\"V38\","
+                + "\"linx\":{\"allSomaticStructuralVariants\":[{\"svId\":1}]},"
+                + "\"purple\":{\"fit\":{\"purity\":0.5},\"allSomaticVariants\":[{\"gene\":\"BRAF\"}],"
+                + "\"allSomaticCopyNumbers\":["
+                + "{\"chromosome\":\"chr1\",\"start\":1,\"end\":100,\"averageTumorCopyNumber\":2.5,\"minStart\":1},"
+                + "{\"chromosome\":\"chrX\",\"start\":101,\"end\":200,\"averageTumorCopyNumber\":1.0}]}}";
+
+        OrangeCopyNumbers copyNumbers = OrangeCopyNumberReader.read(new JsonReader(new StringReader(json)), "test");
+
+        assertEquals("sample", copyNumbers.sampleId());
+        assertEquals(RefGenomeCoordinates.COORDS_38, copyNumbers.refGenomeCoordinates());
+
+        CopyNumberSegments segments = copyNumbers.segments();
+        assertEquals(2, segments.size());
+        assertEquals(Chromosome._1, segments.chromosome(0));
+        assertEquals(1, segments.start(0));
+        assertEquals(100, segments.end(0));
+        assertEquals(2.5, segments.copyNumber(0), EPSILON);
+        assertEquals(Chromosome._X, segments.chromosome(1));
+    }
+
+    @Test
+    public void canReadOrangeJsonWithNaNValues() throws IOException {
+        String json = "{\"sampleId\":\"sample\",\"refGenomeVersion\":\"V37\",\"purple\":{\"fit\":{\"ploidy\":NaN},"
+                + "\"allSomaticCopyNumbers\":[{\"chromosome\":\"1\",\"start\":1,\"end\":100,\"averageTumorCopyNumber\":NaN}]}}";
+        Path orangeJson = Files.createTempFile("sample", ".orange.json");
+        Files.write(orangeJson, json.getBytes(StandardCharsets.UTF_8));
+
+        OrangeCopyNumbers copyNumbers = OrangeCopyNumberReader.read(orangeJson.toString());
+        Files.delete(orangeJson);
+
+        assertEquals(RefGenomeCoordinates.COORDS_37, copyNumbers.refGenomeCoordinates());
+        assertEquals(1, copyNumbers.segments().size());
+        assertTrue(Double.isNaN(copyNumbers.segments().copyNumber(0)));
+    }
+
+    @Test(expected = IOException.class)
+    public void crashOnUnknownRefGenomeVersion() throws IOException {
+        String json = "{\"sampleId\":\"sample\",\"refGenomeVersion\":\"HG19\",\"purple\":{\"allSomaticCopyNumbers\":[]}}";
+        OrangeCopyNumberReader.read(new JsonReader(new StringReader(json)), "test");
+    }
+
+    @Test(expected = IOException.class)
+    public void crashOnMissingPurpleSection() throws IOException {
+        String json = "{\"sampleId\":\"sample\",\"refGenomeVersion\":\"V37\"}";
+        OrangeCopyNumberReader.read(new JsonReader(new StringReader(json)), "test");
+    }
+
+    @Test
+    public void canNameMatrixColumns() {
+        assertEquals("1p", ArmCopyNumberMatrixWriter.columnName(0));
+        assertEquals("1q", ArmCopyNumberMatrixWriter.columnName(1));
+        assertEquals("Yq", ArmCopyNumberMatrixWriter.columnName(47));
+    }
+}
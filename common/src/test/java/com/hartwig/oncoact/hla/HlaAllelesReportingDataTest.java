@@ -0,0 +1,49 @@
+package com.hartwig.oncoact.hla;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+public class HlaAllelesReportingDataTest {
+
+    @Test
+    public void ordersAllelesPerGeneByGermlineAllele() {
+        Map<String, List<HlaReporting>> alleles = Maps.newHashMap();
+        alleles.put("HLA-C", Lists.newArrayList(create("HLA-C", "C*07:01"), create("HLA-C", "C*03:04")));
+        alleles.put("HLA-A", Lists.newArrayList(create("HLA-A", "A*01:01")));
+        alleles.put("HLA-B", Lists.newArrayList(create("HLA-B", "B*40:02"), create("HLA-B", "B*08:01")));
+
+        HlaAllelesReportingData data = ImmutableHlaAllelesReportingData.builder().hlaQC("PASS").hlaAllelesReporting(alleles).build();
+
+        assertEquals(Lists.newArrayList("HLA-A", "HLA-B", "HLA-C"), Lists.newArrayList(data.hlaAllelesReporting().keySet()));
+        assertEquals(Lists.newArrayList("B*08:01", "B*40:02"), germlineAlleles(data.hlaAllelesReporting().get("HLA-B")));
+        assertEquals(Lists.newArrayList("C*03:04", "C*07:01"), germlineAlleles(data.hlaAllelesReporting().get("HLA-C")));
+    }
+
+    @NotNull
+    private static HlaReporting create(@NotNull String gene, @NotNull String germlineAllele) {
+        return ImmutableHlaReporting.builder()
+                .hlaAllele(ImmutableHlaAllele.builder().gene(gene).germlineAllele(germlineAllele).build())
+                .germlineCopies(1D)
+                .tumorCopies(1D)
+                .somaticMutations("None")
+                .interpretation("Yes")
+                .build();
+    }
+
+    @NotNull
+    private static List<String> germlineAlleles(@NotNull List<HlaReporting> alleles) {
+        List<String> germlineAlleles = Lists.newArrayList();
+        for (HlaReporting allele : alleles) {
+            germlineAlleles.add(allele.hlaAllele().germlineAllele());
+        }
+        return germlineAlleles;
+    }
+}
@@ -241,6 +241,39 @@ public class HlaAllelesReportingFactoryTest {
         TestCase.assertEquals(lilacReporting5.germlineCopies(), 1D);
     }
 
+    @Test
+    public void canOrderHlaAllelesPerGene() {
+        List<LilacAllele> alleles = Lists.newArrayList();
+        alleles.add(TestLilacFactory.builder().allele("C*16:02").build());
+        alleles.add(TestLilacFactory.builder().allele("B*35:02").build());
+        alleles.add(TestLilacFactory.builder().allele("A*03:01").build());
+        alleles.add(TestLilacFactory.builder().allele("C*10:12").build());
+        alleles.add(TestLilacFactory.builder().allele("B*18:02").build());
+        alleles.add(TestLilacFactory.builder().allele("A*03:01").build());
+        LilacRecord lilac = ImmutableLilacRecord.builder().qc("PASS").alleles(alleles).build();
+
+        assertEquals(Lists.newArrayList("A*03:01", "B*18:02", "B*35:02", "C*10:12", "C*16:02"),
+                Lists.newArrayList(HlaAllelesReportingFactory.generateLilacMap(lilac).keySet()));
+
+        Set<PurpleQCStatus> purpleQCStatus = Sets.newHashSet(PurpleQCStatus.PASS);
+        Map<String, List<HlaReporting>> lilacReporting =
+                HlaAllelesReportingFactory.convertToReportData(lilac, true, purpleQCStatus).hlaAllelesReporting();
+
+        assertEquals(Lists.newArrayList("HLA-A", "HLA-B", "HLA-C"), Lists.newArrayList(lilacReporting.keySet()));
+        assertEquals(Lists.newArrayList("A*03:01"), germlineAlleles(lilacReporting.get("HLA-A")));
+        assertEquals(Lists.newArrayList("B*18:02", "B*35:02"), germlineAlleles(lilacReporting.get("HLA-B")));
+        assertEquals(Lists.newArrayList("C*10:12", "C*16:02"), germlineAlleles(lilacReporting.get("HLA-C")));
+    }
+
+    @NotNull
+    private static List<String> germlineAlleles(@NotNull List<HlaReporting> hlaReportings) {
+        List<String> germlineAlleles = Lists.newArrayList();
+        for (HlaReporting hlaReporting : hlaReportings) {
+            germlineAlleles.add(hlaReporting.hlaAllele().germlineAllele());
+        }
+        return germlineAlleles;
+    }
+
     @NotNull
     private static HlaReporting extractHlaReporting(@NotNull String germlineAllele, @NotNull List<HlaReporting> lilacReportingData) {
         for (HlaReporting hlaReporting : lilacReportingData) {
@@ -0,0 +1,55 @@
+package com.hartwig.oncoact.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+public class TsvReaderTest {
+
+    @Test
+    public void canReadFieldsByResolvedColumn() throws IOException {
+        TsvReader reader = TsvReader.withHeader(new BufferedReader(new StringReader("gene\tcount\treported\nBRAF\t3\ttrue\nKRAS\t\t\n")));
+
+        assertTrue(reader.hasColumn("count"));
+        assertFalse(reader.hasColumn("transcript"));
+        int geneColumn = reader.column("gene");
+        int countColumn = reader.column("count");
+        int reportedColumn = reader.column("reported");
+
+        assertTrue(reader.next());
+        assertEquals("BRAF", reader.get(geneColumn));
+        assertEquals(3, reader.getInt(countColumn));
+        assertTrue(reader.getBoolean(reportedColumn));
+
+        assertTrue(reader.next());
+        assertEquals(3, reader.fieldCount());
+        assertEquals("KRAS", reader.get(geneColumn));
+        assertNull(reader.getNullable(countColumn));
+        assertFalse(reader.getBoolean(reportedColumn));
+
+        assertFalse(reader.next());
+    }
+
+    @Test
+    public void canReadWithoutHeader() throws IOException {
+        TsvReader reader = TsvReader.withoutHeader(new BufferedReader(new StringReader("1\t249250621\n")));
+
+        assertTrue(reader.next());
+        assertEquals("1", reader.get(0));
+        assertEquals(249250621, reader.getInt(1));
+        assertEquals("1\t249250621", reader.line());
+        assertFalse(reader.next());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void crashOnUnknownColumn() throws IOException {
+        TsvReader.withHeader(new BufferedReader(new StringReader("gene\n"))).column("transcript");
+    }
+}
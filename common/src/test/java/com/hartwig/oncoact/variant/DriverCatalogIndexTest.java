@@ -0,0 +1,51 @@
+package com.hartwig.oncoact.variant;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+
+import com.google.common.collect.Lists;
+import com.hartwig.hmftools.datamodel.purple.PurpleDriver;
+import com.hartwig.hmftools.datamodel.purple.PurpleDriverType;
+import com.hartwig.oncoact.orange.purple.TestPurpleFactory;
+
+import org.junit.Test;
+
+public class DriverCatalogIndexTest {
+
+    @Test
+    public void canLookupCanonicalDriversPerGene() {
+        PurpleDriver driver1 = TestPurpleFactory.driverBuilder().gene("gene 1").transcript("transcript 1").build();
+        PurpleDriver driver2 = TestPurpleFactory.driverBuilder().gene("gene 2").transcript("transcript 2").build();
+        DriverCatalogIndex index = DriverCatalogIndex.create(Lists.newArrayList(driver1, driver2));
+
+        assertEquals(driver1, index.canonicalDriver("gene 1", "transcript 1"));
+        assertEquals(driver2, index.canonicalDriver("gene 2", "transcript 2"));
+        assertNull(index.canonicalDriver("gene 1", "transcript 2"));
+    }
+
+    @Test
+    public void canLookupNonCanonicalMutationDriversPerGene() {
+        PurpleDriver canonical = TestPurpleFactory.driverBuilder().gene("gene 1").transcript("transcript 1").build();
+        PurpleDriver nonCanonical1 =
+                TestPurpleFactory.driverBuilder().gene("gene 1").transcript("transcript 2").isCanonical(false).build();
+        PurpleDriver nonCanonical2 =
+                TestPurpleFactory.driverBuilder().gene("gene 1").transcript("transcript 3").isCanonical(false).build();
+        PurpleDriver otherGene = TestPurpleFactory.driverBuilder().gene("gene 2").transcript("transcript 4").isCanonical(false).build();
+        PurpleDriver amplification = TestPurpleFactory.driverBuilder()
+                .gene("gene 3")
+                .transcript("transcript 5")
+                .isCanonical(false)
+                .driver(PurpleDriverType.AMP)
+                .build();
+
+        List<PurpleDriver> drivers = Lists.newArrayList(canonical, otherGene, nonCanonical1, nonCanonical2, amplification);
+        DriverCatalogIndex index = DriverCatalogIndex.create(drivers);
+
+        assertEquals(nonCanonical1, index.nonCanonicalDriver("gene 1"));
+        assertEquals(otherGene, index.nonCanonicalDriver("gene 2"));
+        assertNull(index.nonCanonicalDriver("gene 3"));
+        assertNull(index.nonCanonicalDriver("gene 4"));
+    }
+}
@@ -1,10 +1,15 @@
 package com.hartwig.oncoact.variant;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
+import java.util.List;
 import java.util.Set;
 
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.hartwig.hmftools.datamodel.purple.PurpleCodingEffect;
 import com.hartwig.hmftools.datamodel.purple.PurpleDriver;
@@ -141,6 +146,62 @@ public class ReportableVariantFactoryTest {
         assertEquals(0.6, reportable2.driverLikelihood(), EPSILON);
     }
 
+    @Test
+    public void canResolveNonCanonicalDriversPerGene() {
+        PurpleVariant variant1 = variantWithNonCanonicalImpact("gene 1", "transcript 1", "transcript 1b", "c.246_247delCG", "p.Gly83fs");
+        PurpleVariant variant2 = variantWithNonCanonicalImpact("gene 2", "transcript 2", "transcript 2b", "c.100A>T", "p.Lys34*");
+
+        List<PurpleDriver> drivers = Lists.newArrayList(TestPurpleFactory.driverBuilder()
+                        .gene("gene 1")
+                        .transcript("transcript 1b")
+                        .driverLikelihood(0.6)
+                        .isCanonical(false)
+                        .build(),
+                TestPurpleFactory.driverBuilder().gene("gene 1").transcript("transcript 1").driverLikelihood(0.7).build(),
+                TestPurpleFactory.driverBuilder()
+                        .gene("gene 2")
+                        .transcript("transcript 2b")
+                        .driverLikelihood(0.8)
+                        .isCanonical(false)
+                        .build(),
+                TestPurpleFactory.driverBuilder().gene("gene 2").transcript("transcript 2").driverLikelihood(0.9).build());
+
+        Set<ReportableVariant> reportables = ReportableVariantFactory.toReportableSomaticVariants(Sets.newHashSet(variant1, variant2),
+                drivers,
+                ClinicalTranscriptModelTestFactory.createEmpty());
+
+        assertEquals(4, reportables.size());
+
+        ReportableVariant nonCanonical1 = findByTranscript(reportables, "transcript 1b");
+        assertEquals("gene 1", nonCanonical1.gene());
+        assertFalse(nonCanonical1.isCanonical());
+        assertEquals(0.6, nonCanonical1.driverLikelihood(), EPSILON);
+        assertEquals("c.246_247delCG", nonCanonical1.canonicalHgvsCodingImpact());
+        assertEquals("p.Gly83fs", nonCanonical1.canonicalHgvsProteinImpact());
+
+        ReportableVariant nonCanonical2 = findByTranscript(reportables, "transcript 2b");
+        assertEquals("gene 2", nonCanonical2.gene());
+        assertFalse(nonCanonical2.isCanonical());
+        assertEquals(0.8, nonCanonical2.driverLikelihood(), EPSILON);
+        assertEquals("c.100A>T", nonCanonical2.canonicalHgvsCodingImpact());
+        assertEquals("p.Lys34*", nonCanonical2.canonicalHgvsProteinImpact());
+    }
+
+    @NotNull
+    private static PurpleVariant variantWithNonCanonicalImpact(@NotNull String gene, @NotNull String canonicalTranscript,
+            @NotNull String nonCanonicalTranscript, @NotNull String hgvsCodingImpact, @NotNull String hgvsProteinImpact) {
+        return TestPurpleFactory.variantBuilder()
+                .reported(true)
+                .gene(gene)
+                .canonicalImpact(TestPurpleFactory.transcriptImpactBuilder().transcript(canonicalTranscript).build())
+                .addOtherImpacts(TestPurpleFactory.transcriptImpactBuilder()
+                        .transcript(nonCanonicalTranscript)
+                        .hgvsCodingImpact(hgvsCodingImpact)
+                        .hgvsProteinImpact(hgvsProteinImpact)
+                        .build())
+                .build();
+    }
+
     @NotNull
     private static ReportableVariant findByTranscript(@NotNull Iterable<ReportableVariant> reportables, @NotNull String transcriptToFind) {
         for (ReportableVariant reportable : reportables) {
@@ -151,4 +212,24 @@ public class ReportableVariantFactoryTest {
 
         throw new IllegalStateException("Could not find reportable variant with transcript: " + transcriptToFind);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void canMergeAllVariantListsWithoutCopying() {
+        PurpleVariant reportedSomatic = TestPurpleFactory.variantBuilder().reported(true).gene("gene 1").build();
+        PurpleVariant unreportedSomatic = TestPurpleFactory.variantBuilder().reported(false).gene("gene 2").build();
+        PurpleVariant unreportedGermline = TestPurpleFactory.variantBuilder().reported(false).gene("gene 3").build();
+
+        List<PurpleVariant> somatic = Lists.newArrayList(reportedSomatic, unreportedSomatic);
+        List<PurpleVariant> germline = Lists.newArrayList(unreportedGermline);
+
+        List<PurpleVariant> all = Lists.newArrayList(ReportableVariantFactory.mergeAllVariantLists(somatic, germline));
+        assertEquals(3, all.size());
+        assertSame(reportedSomatic, all.get(0));
+        assertSame(unreportedGermline, all.get(2));
+
+        assertEquals(2, Iterables.size(ReportableVariantFactory.mergeAllVariantLists(somatic, null)));
+
+        List<PurpleVariant> unreported = Lists.newArrayList(ReportableVariantFactory.mergeAllVariantLists(somatic, germline, true));
+        assertEquals(Lists.newArrayList(unreportedSomatic, unreportedGermline), unreported);
+    }
+}
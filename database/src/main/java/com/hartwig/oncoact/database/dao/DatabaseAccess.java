@@ -4,7 +4,9 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.function.BiConsumer;
 
+import com.google.common.collect.Lists;
 import com.hartwig.oncoact.protect.ProtectEvidence;
 
 import org.apache.commons.cli.CommandLine;
@@ -100,5 +102,20 @@ public class DatabaseAccess implements AutoCloseable {
     public void writeProtectEvidence(@NotNull String sample, @NotNull List<ProtectEvidence> evidence) {
         protectDAO.write(sample, evidence);
     }
-}
 
+    /**
+     * Streams PROTECT evidence matching the query to the consumer, one evidence (with all its sources) at a time, grouped per sample.
+     * Note that MySQL only honours the query fetch size when the jdbc url contains "useCursorFetch=true"; without it the driver
+     * buffers the full result set.
+     */
+    public void readProtectEvidence(@NotNull ProtectEvidenceQuery query, @NotNull BiConsumer<String, ProtectEvidence> consumer) {
+        protectDAO.read(query, consumer);
+    }
+
+    @NotNull
+    public List<ProtectEvidence> readProtectEvidence(@NotNull String sample) {
+        List<ProtectEvidence> evidences = Lists.newArrayList();
+        readProtectEvidence(ImmutableProtectEvidenceQuery.builder().addSamples(sample).build(), (s, evidence) -> evidences.add(evidence));
+        return evidences;
+    }
+}
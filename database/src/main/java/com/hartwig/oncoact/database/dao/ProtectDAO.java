@@ -8,16 +8,33 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.function.BiConsumer;
 
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.hartwig.oncoact.protect.EvidenceType;
+import com.hartwig.oncoact.protect.ImmutableKnowledgebaseSource;
+import com.hartwig.oncoact.protect.ImmutableProtectEvidence;
 import com.hartwig.oncoact.protect.KnowledgebaseSource;
 import com.hartwig.oncoact.protect.ProtectEvidence;
 import com.hartwig.oncoact.util.ActionabilityIntervation;
+import com.hartwig.serve.datamodel.ClinicalTrial;
+import com.hartwig.serve.datamodel.EvidenceDirection;
+import com.hartwig.serve.datamodel.EvidenceLevel;
+import com.hartwig.serve.datamodel.ImmutableClinicalTrial;
+import com.hartwig.serve.datamodel.ImmutableTreatment;
+import com.hartwig.serve.datamodel.Knowledgebase;
+import com.hartwig.serve.datamodel.Treatment;
 
+import org.apache.logging.log4j.util.Strings;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jooq.Condition;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
 import org.jooq.InsertValuesStepN;
+import org.jooq.Record;
 
 @SuppressWarnings("rawtypes")
 class ProtectDAO {
@@ -25,6 +42,7 @@ class ProtectDAO {
     private static final int DB_BATCH_INSERT_SIZE = 1000;
 
     private static final String TREATMENT_APPROACH_DELIMITER = ",";
+    private static final String URL_DELIMITER = ",";
 
     @NotNull
     private final DSLContext context;
@@ -121,6 +139,134 @@ class ProtectDAO {
         }
     }
 
+    void read(@NotNull ProtectEvidenceQuery query, @NotNull BiConsumer<String, ProtectEvidence> consumer) {
+        try (Cursor<Record> cursor = context.select()
+                .from(PROTECT)
+                .where(conditions(query))
+                .orderBy(PROTECT.SAMPLEID, PROTECT.ID)
+                .fetchSize(query.fetchSize())
+                .fetchLazy()) {
+            // All sources of one evidence are inserted consecutively, so ordering on (sampleId, id) lets us regroup them on the fly.
+            String currentSample = null;
+            ProtectEvidence currentEvidence = null;
+            Set<KnowledgebaseSource> currentSources = Sets.newHashSet();
+
+            for (Record record : cursor) {
+                String sample = record.get(PROTECT.SAMPLEID);
+                ProtectEvidence evidence = toEvidenceWithoutSources(record);
+
+                if (currentEvidence != null && (!sample.equals(currentSample) || !evidence.equals(currentEvidence))) {
+                    consumer.accept(currentSample, ImmutableProtectEvidence.copyOf(currentEvidence).withSources(currentSources));
+                    currentSources = Sets.newHashSet();
+                }
+
+                currentSample = sample;
+                currentEvidence = evidence;
+                currentSources.add(toSource(record));
+            }
+
+            if (currentEvidence != null) {
+                consumer.accept(currentSample, ImmutableProtectEvidence.copyOf(currentEvidence).withSources(currentSources));
+            }
+        }
+    }
+
+    @NotNull
+    private static List<Condition> conditions(@NotNull ProtectEvidenceQuery query) {
+        List<Condition> conditions = Lists.newArrayList();
+        if (!query.samples().isEmpty()) {
+            conditions.add(PROTECT.SAMPLEID.in(query.samples()));
+        }
+
+        if (!query.genes().isEmpty()) {
+            conditions.add(PROTECT.GENE.in(query.genes()));
+        }
+
+        if (!query.evidenceTypes().isEmpty()) {
+            List<String> evidenceTypes = Lists.newArrayList();
+            for (EvidenceType evidenceType : query.evidenceTypes()) {
+                evidenceTypes.add(evidenceType.toString());
+            }
+            conditions.add(PROTECT.EVIDENCETYPE.in(evidenceTypes));
+        }
+
+        if (!query.levels().isEmpty()) {
+            List<String> levels = Lists.newArrayList();
+            for (EvidenceLevel level : query.levels()) {
+                levels.add(level.toString());
+            }
+            conditions.add(PROTECT.LEVEL.in(levels));
+        }
+
+        if (query.reportedOnly()) {
+            conditions.add(PROTECT.REPORTED.isTrue());
+        }
+        return conditions;
+    }
+
+    @NotNull
+    private static ProtectEvidence toEvidenceWithoutSources(@NotNull Record record) {
+        String therapyName = record.get(PROTECT.TREATMENT);
+        String studyNctId = record.get(PROTECT.STUDYNCTID);
+
+        Treatment treatment = null;
+        ClinicalTrial clinicalTrial = null;
+        if (studyNctId != null) {
+            String studyTitle = record.get(PROTECT.STUDYTITLE);
+            clinicalTrial = ImmutableClinicalTrial.builder()
+                    .studyNctId(studyNctId)
+                    .studyTitle(studyTitle != null ? studyTitle : Strings.EMPTY)
+                    .studyAcronym(record.get(PROTECT.STUDYACRONYM))
+                    .gender(record.get(PROTECT.STUDYGENDER))
+                    .countriesOfStudy(stringToSet(record.get(PROTECT.COUNTRIESOFSTUDY), TREATMENT_APPROACH_DELIMITER))
+                    .therapyNames(stringToSet(therapyName, TREATMENT_APPROACH_DELIMITER))
+                    .build();
+        } else {
+            treatment = ImmutableTreatment.builder()
+                    .name(therapyName)
+                    .treatmentApproachesDrugClass(stringToSet(record.get(PROTECT.TREATMENTAPPROACHESDRUGCLASS),
+                            TREATMENT_APPROACH_DELIMITER))
+                    .treatmentApproachesTherapy(stringToSet(record.get(PROTECT.TREATMENTAPPROACHESTHERAPY), TREATMENT_APPROACH_DELIMITER))
+                    .build();
+        }
+
+        return ImmutableProtectEvidence.builder()
+                .gene(record.get(PROTECT.GENE))
+                .transcript(record.get(PROTECT.TRANSCRIPT))
+                .isCanonical(record.get(PROTECT.ISCANONICAL))
+                .event(record.get(PROTECT.EVENT))
+                .eventIsHighDriver(record.get(PROTECT.EVENTISHIGHDRIVER))
+                .germline(record.get(PROTECT.GERMLINE))
+                .reported(record.get(PROTECT.REPORTED))
+                .clinicalTrial(clinicalTrial)
+                .matchGender(record.get(PROTECT.MATCHGENDER))
+                .treatment(treatment)
+                .onLabel(record.get(PROTECT.ONLABEL))
+                .level(EvidenceLevel.valueOf(record.get(PROTECT.LEVEL)))
+                .direction(EvidenceDirection.valueOf(record.get(PROTECT.DIRECTION)))
+                .build();
+    }
+
+    @NotNull
+    private static KnowledgebaseSource toSource(@NotNull Record record) {
+        return ImmutableKnowledgebaseSource.builder()
+                .name(Knowledgebase.lookupKnowledgebase(record.get(PROTECT.SOURCE)))
+                .sourceEvent(record.get(PROTECT.SOURCEEVENT))
+                .sourceUrls(stringToSet(record.get(PROTECT.SOURCEURLS), URL_DELIMITER))
+                .evidenceType(EvidenceType.valueOf(record.get(PROTECT.EVIDENCETYPE)))
+                .rangeRank(record.get(PROTECT.RANGERANK))
+                .evidenceUrls(stringToSet(record.get(PROTECT.EVIDENCEURLS), URL_DELIMITER))
+                .build();
+    }
+
+    @NotNull
+    private static Set<String> stringToSet(@Nullable String value, @NotNull String delimiter) {
+        if (value == null || value.isEmpty()) {
+            return Sets.newHashSet();
+        }
+        return Sets.newHashSet(value.split(delimiter));
+    }
+
     @Nullable
     private static String setTostring(@NotNull Set<String> treatmentApproaches) {
         StringJoiner joiner = new StringJoiner(TREATMENT_APPROACH_DELIMITER);
@@ -0,0 +1,48 @@
+package com.hartwig.oncoact.database.dao;
+
+import java.util.Set;
+
+import com.hartwig.oncoact.protect.EvidenceType;
+import com.hartwig.serve.datamodel.EvidenceLevel;
+
+import org.immutables.value.Value;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Filters that are pushed down into SQL when reading PROTECT evidence. An empty set means "no restriction" for that column.
+ */
+@Value.Immutable
+@Value.Style(passAnnotations = { NotNull.class, Nullable.class })
+public abstract class ProtectEvidenceQuery {
+
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    @NotNull
+    public abstract Set<String> samples();
+
+    @NotNull
+    public abstract Set<String> genes();
+
+    // Evidence type is stored per source, so this filter restricts the sources that are attached to each evidence.
+    @NotNull
+    public abstract Set<EvidenceType> evidenceTypes();
+
+    @NotNull
+    public abstract Set<EvidenceLevel> levels();
+
+    @Value.Default
+    public boolean reportedOnly() {
+        return false;
+    }
+
+    @Value.Default
+    public int fetchSize() {
+        return DEFAULT_FETCH_SIZE;
+    }
+
+    @NotNull
+    public static ProtectEvidenceQuery all() {
+        return ImmutableProtectEvidenceQuery.builder().build();
+    }
+}
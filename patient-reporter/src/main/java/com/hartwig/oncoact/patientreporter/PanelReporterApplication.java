@@ -10,6 +10,7 @@ import com.hartwig.oncoact.parser.CliAndPropertyParser;
 import com.hartwig.oncoact.patientreporter.cfreport.CFReportWriter;
 import com.hartwig.oncoact.patientreporter.correction.Correction;
 import com.hartwig.oncoact.patientreporter.lama.LamaJson;
+import com.hartwig.oncoact.patientreporter.output.ReportOutputPipeline;
 import com.hartwig.oncoact.patientreporter.panel.PanelFailReport;
 import com.hartwig.oncoact.patientreporter.panel.PanelFailReporter;
 import com.hartwig.oncoact.patientreporter.panel.PanelReporter;
@@ -73,14 +74,21 @@ public class PanelReporterApplication {
         PanelReporter reporter = new PanelReporter(buildBasePanelReportData(config));
         com.hartwig.oncoact.patientreporter.panel.PanelReport report = reporter.run(config.panelVCFname());
 
-        ReportWriter reportWriter = CFReportWriter.createProductionReportWriter();
+        ReportWriter reportWriter = CFReportWriter.createProductionReportWriter(config.compactJson());
         String outputFilePath = generateOutputFilePathForPanelResultReport(config.outputDirReport(), report);
 
-        reportWriter.writePanelAnalysedReport(report, outputFilePath);
+        ReportOutputPipeline pipeline = new ReportOutputPipeline();
+        pipeline.add(() -> reportWriter.writePanelAnalysedReport(report, outputFilePath));
 
         if (!config.onlyCreatePDF()) {
             LOGGER.debug("Updating reporting db and writing report data");
-            reportWriter.writeJsonPanelFile(report, config.outputDirData());
+            pipeline.add(() -> reportWriter.writeJsonPanelFile(report, config.outputDirData()));
+        }
+
+        pipeline.run();
+
+        // Only announce the report in the reporting db once all report files have been written.
+        if (!config.onlyCreatePDF()) {
             new ReportingDb().appendPanelReport(report, config.outputDirData());
         }
     }
@@ -89,14 +97,20 @@ public class PanelReporterApplication {
         PanelFailReporter reporter = new PanelFailReporter(buildBasePanelReportData(config));
         PanelFailReport report = reporter.run(config.panelQcFailReason(), config.sampleFailReasonComment());
 
-        ReportWriter reportWriter = CFReportWriter.createProductionReportWriter();
+        ReportWriter reportWriter = CFReportWriter.createProductionReportWriter(config.compactJson());
         String outputFilePath = generateOutputFilePathForPanelResultReport(config.outputDirReport(), report);
 
-        reportWriter.writePanelQCFailReport(report, outputFilePath);
+        ReportOutputPipeline pipeline = new ReportOutputPipeline();
+        pipeline.add(() -> reportWriter.writePanelQCFailReport(report, outputFilePath));
 
         if (!config.onlyCreatePDF()) {
             LOGGER.debug("Updating reporting db and writing report data");
-            reportWriter.writeJsonPanelFailedFile(report, config.outputDirData());
+            pipeline.add(() -> reportWriter.writeJsonPanelFailedFile(report, config.outputDirData()));
+        }
+
+        pipeline.run();
+
+        if (!config.onlyCreatePDF()) {
             new ReportingDb().appendPanelFailReport(report, config.outputDirData());
         }
     }
@@ -49,6 +49,7 @@ public interface PanelReporterConfig {
     String CORRECTION_JSON = "correction_json";
     String LOG_DEBUG = "log_debug";
     String ONLY_CREATE_PDF = "only_create_pdf";
+    String COMPACT_JSON = "compact_json";
     String PIPELINE_VERSION = "pipeline_version";
     String REPORT_TIME = "report_time";
 
@@ -80,6 +81,7 @@ public interface PanelReporterConfig {
 
         options.addOption(LOG_DEBUG, false, "If provided, set the log level to debug rather than default.");
         options.addOption(ONLY_CREATE_PDF, false, "If provided, just the PDF will be generated and no additional data will be updated.");
+        options.addOption(COMPACT_JSON, false, "If provided, the report data json is written without pretty printing.");
         options.addOption(PIPELINE_VERSION, true, "String of the pipeline version");
         options.addOption(REPORT_TIME, true, "ISO-8601 with millisecond precision (2023-01-01T00:00:00.001). If omitted, defaults to the current time");
 
@@ -120,6 +122,8 @@ public interface PanelReporterConfig {
 
     boolean onlyCreatePDF();
 
+    boolean compactJson();
+
     @NotNull
     String pipelineVersion();
 
@@ -176,6 +180,7 @@ public interface PanelReporterConfig {
                 .diagnosticSiloJson(diagnosticSiloJson)
                 .correctionJson(correctionJson)
                 .onlyCreatePDF(cmd.hasOption(ONLY_CREATE_PDF))
+                .compactJson(cmd.hasOption(COMPACT_JSON))
                 .pipelineVersion(nonOptionalValue(cmd, PIPELINE_VERSION))
                 .reportTime(reportTime)
                 .build();
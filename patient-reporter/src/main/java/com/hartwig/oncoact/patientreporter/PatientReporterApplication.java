@@ -6,6 +6,8 @@ import com.hartwig.oncoact.patientreporter.algo.AnalysedPatientReporter;
 import com.hartwig.oncoact.patientreporter.algo.AnalysedReportData;
 import com.hartwig.oncoact.patientreporter.algo.ImmutableAnalysedPatientReport;
 import com.hartwig.oncoact.patientreporter.cfreport.CFReportWriter;
+import com.hartwig.oncoact.patientreporter.cfreport.ReportViewModel;
+import com.hartwig.oncoact.patientreporter.output.ReportOutputPipeline;
 import com.hartwig.oncoact.patientreporter.qcfail.QCFailReport;
 import com.hartwig.oncoact.patientreporter.qcfail.QCFailReportData;
 import com.hartwig.oncoact.patientreporter.qcfail.QCFailReporter;
@@ -49,9 +51,16 @@ public class PatientReporterApplication {
 
     @NotNull
     private final PatientReporterConfig config;
+    @NotNull
+    private final ReporterResourceCache resourceCache;
 
     public PatientReporterApplication(@NotNull final PatientReporterConfig config) {
+        this(config, new ReporterResourceCache());
+    }
+
+    public PatientReporterApplication(@NotNull final PatientReporterConfig config, @NotNull final ReporterResourceCache resourceCache) {
         this.config = config;
+        this.resourceCache = resourceCache;
     }
 
     public void run() throws IOException {
@@ -66,35 +75,43 @@ public class PatientReporterApplication {
     }
 
     private void generateAnalysedReport() throws IOException {
-        AnalysedReportData reportData = AnalysedReportData.buildFromConfig(config);
+        AnalysedReportData reportData = AnalysedReportData.buildFromConfig(config,
+                resourceCache.germlineReportingModel(config.germlineReportingTsv()),
+                resourceCache.clinicalTranscriptsModel(config.clinicalTranscriptsTsv()));
         AnalysedPatientReporter reporter = new AnalysedPatientReporter(reportData);
 
         AnalysedPatientReport report = reporter.run(config);
+        ReportViewModel viewModel = ReportViewModel.create(report);
 
-        ReportWriter reportWriter = CFReportWriter.createProductionReportWriter();
-
+        ReportWriter reportWriter = CFReportWriter.createProductionReportWriter(config.compactJson());
         String outputFilePath = generateOutputFilePathForPatientReport(config.outputDirReport(), report);
-        reportWriter.writeAnalysedPatientReport(report, outputFilePath);
 
-        if (!config.onlyCreatePDF()) {
+        ReportOutputPipeline pipeline = new ReportOutputPipeline();
+        pipeline.add(() -> reportWriter.writeAnalysedPatientReport(report, viewModel, outputFilePath));
+
+        if (config.onlyCreatePDF()) {
+            pipeline.run();
+        } else {
             LOGGER.debug("Updating reporting db and writing report data");
 
             String technique = "Technique: WGS";
             String platform = "Platform: NovaSeq 6000 (Illumina) WGS analysis, processed using Hartwig MedicalOncoAct® software and "
                     + "reporting (https://www.oncoact.nl/specsheetOncoActWGS). All activities are performed under ISO17025 "
                     + "accreditation (RVA, L633).";
-            report = ImmutableAnalysedPatientReport.builder()
+            AnalysedPatientReport dataReport = ImmutableAnalysedPatientReport.builder()
                     .from(report)
                     .clinicalSummary(
                             technique + "\n" + platform + "\n\n" + report.clinicalSummary() + "The underlying data of these WGS results"
                                     + " can be requested at Hartwig Medical Foundation"
                                     + " (diagnosticsupport@hartwigmedicalfoundation.nl).")
                     .build();
-            reportWriter.writeJsonAnalysedFile(report, config.outputDirData());
 
-            reportWriter.writeXMLAnalysedFile(report, config.outputDirData());
+            pipeline.add(() -> reportWriter.writeJsonAnalysedFile(dataReport, viewModel, config.outputDirData()))
+                    .add(() -> reportWriter.writeXMLAnalysedFile(dataReport, viewModel, config.outputDirData()));
+            pipeline.run();
 
-            new ReportingDb().appendAnalysedReport(report, config.outputDirData());
+            // Only announce the report in the reporting db once all report files have been written.
+            new ReportingDb().appendAnalysedReport(dataReport, config.outputDirData());
         }
     }
 
@@ -102,16 +119,21 @@ public class PatientReporterApplication {
         QCFailReporter reporter = new QCFailReporter(QCFailReportData.buildFromConfig(config));
         QCFailReport report = reporter.run(config);
 
-        ReportWriter reportWriter = CFReportWriter.createProductionReportWriter();
+        ReportWriter reportWriter = CFReportWriter.createProductionReportWriter(config.compactJson());
         String outputFilePath = generateOutputFilePathForPatientReport(config.outputDirReport(), report);
 
-        reportWriter.writeQCFailReport(report, outputFilePath);
+        ReportOutputPipeline pipeline = new ReportOutputPipeline();
+        pipeline.add(() -> reportWriter.writeQCFailReport(report, outputFilePath));
 
         if (!config.onlyCreatePDF()) {
             LOGGER.debug("Updating reporting db and writing report data");
 
-            reportWriter.writeJsonFailedFile(report, config.outputDirData());
+            pipeline.add(() -> reportWriter.writeJsonFailedFile(report, config.outputDirData()));
+        }
 
+        pipeline.run();
+
+        if (!config.onlyCreatePDF()) {
             new ReportingDb().appendQCFailReport(report, config.outputDirReport());
         }
     }
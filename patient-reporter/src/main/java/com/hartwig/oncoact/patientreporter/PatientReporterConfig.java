@@ -61,6 +61,7 @@ public interface PatientReporterConfig {
     // Some additional optional params and flags
     String LOG_DEBUG = "log_debug";
     String ONLY_CREATE_PDF = "only_create_pdf";
+    String COMPACT_JSON = "compact_json";
     String IS_DIAGNOSTIC = "is_diagnostic";
     String PIPELINE_VERSION = "pipeline_version";
     String REPORT_TIME = "report_time";
@@ -101,6 +102,7 @@ public interface PatientReporterConfig {
 
         options.addOption(LOG_DEBUG, false, "If provided, set the log level to debug rather than default.");
         options.addOption(ONLY_CREATE_PDF, false, "If provided, just the PDF will be generated and no additional data will be updated.");
+        options.addOption(COMPACT_JSON, false, "If provided, the report data json is written without pretty printing.");
 
         options.addOption(PIPELINE_VERSION, true, "String of the pipeline version");
         options.addOption(REPORT_TIME, true, "ISO-8601 with millisecond precision (2023-01-01T00:00:00.001). If omitted, defaults to the current time");
@@ -166,6 +168,8 @@ public interface PatientReporterConfig {
 
     boolean onlyCreatePDF();
 
+    boolean compactJson();
+
     @NotNull
     String pipelineVersion();
 
@@ -246,6 +250,7 @@ public interface PatientReporterConfig {
                 .clinicalTranscriptsTsv(clinicalTranscriptsTsv)
                 .correctionJson(correctionJson)
                 .onlyCreatePDF(cmd.hasOption(ONLY_CREATE_PDF))
+                .compactJson(cmd.hasOption(COMPACT_JSON))
                 .pipelineVersion(nonOptionalValue(cmd, PIPELINE_VERSION))
                 .reportTime(reportTime)
                 .build();
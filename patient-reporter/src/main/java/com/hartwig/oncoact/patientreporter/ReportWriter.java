@@ -3,6 +3,7 @@ package com.hartwig.oncoact.patientreporter;
 import java.io.IOException;
 
 import com.hartwig.oncoact.patientreporter.algo.AnalysedPatientReport;
+import com.hartwig.oncoact.patientreporter.cfreport.ReportViewModel;
 import com.hartwig.oncoact.patientreporter.panel.PanelFailReport;
 import com.hartwig.oncoact.patientreporter.panel.PanelReport;
 import com.hartwig.oncoact.patientreporter.qcfail.QCFailReport;
@@ -11,15 +12,18 @@ import org.jetbrains.annotations.NotNull;
 
 public interface ReportWriter {
 
-    void writeAnalysedPatientReport(@NotNull AnalysedPatientReport report, @NotNull String outputFilePath) throws IOException;
+    void writeAnalysedPatientReport(@NotNull AnalysedPatientReport report, @NotNull ReportViewModel viewModel,
+            @NotNull String outputFilePath) throws IOException;
 
     void writeQCFailReport(@NotNull QCFailReport report, @NotNull String outputFilePath) throws IOException;
 
     void writeJsonFailedFile(@NotNull QCFailReport report, @NotNull String outputFilePath) throws IOException;
 
-    void writeJsonAnalysedFile(@NotNull AnalysedPatientReport report, @NotNull String outputFilePath) throws IOException;
+    void writeJsonAnalysedFile(@NotNull AnalysedPatientReport report, @NotNull ReportViewModel viewModel, @NotNull String outputFilePath)
+            throws IOException;
 
-    void writeXMLAnalysedFile(@NotNull AnalysedPatientReport report, @NotNull String outputFilePath) throws IOException;
+    void writeXMLAnalysedFile(@NotNull AnalysedPatientReport report, @NotNull ReportViewModel viewModel, @NotNull String outputFilePath)
+            throws IOException;
 
     void writePanelAnalysedReport(@NotNull PanelReport report, @NotNull String outputFilePath) throws IOException;
 
@@ -7,9 +7,12 @@ import org.jetbrains.annotations.NotNull;
 
 public class ReporterApplication {
     public static final String PANEL = "panel";
+    public static final String BATCH = "batch";
 
-    public static void main(@NotNull String[] args) throws IOException {
-        if (Arrays.asList(args).contains("-" + PANEL)) {
+    public static void main(@NotNull String[] args) throws IOException, InterruptedException {
+        if (Arrays.asList(args).contains("-" + BATCH)) {
+            ReporterBatchApplication.main(args);
+        } else if (Arrays.asList(args).contains("-" + PANEL)) {
             PanelReporterApplication.main(args);
         } else {
             PatientReporterApplication.main(args);
@@ -0,0 +1,100 @@
+package com.hartwig.oncoact.patientreporter;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.hartwig.oncoact.batch.BatchRunner;
+import com.hartwig.oncoact.parser.CliAndPropertyParser;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+public class ReporterBatchApplication {
+
+    private static final Logger LOGGER = LogManager.getLogger(ReporterBatchApplication.class);
+
+    public static void main(@NotNull String[] args) throws IOException, InterruptedException {
+        LOGGER.info("Running patient reporter v{} in batch mode", PatientReporterApplication.VERSION);
+
+        Options options = ReporterBatchConfig.createOptions();
+
+        ReporterBatchConfig config;
+        try {
+            config = ReporterBatchConfig.createConfig(new CliAndPropertyParser().parse(options, args));
+        } catch (ParseException exception) {
+            LOGGER.warn(exception);
+            new HelpFormatter().printHelp("PatientReporter batch", options);
+            throw new IllegalArgumentException("Unexpected error, check inputs");
+        }
+
+        LOGGER.info("Patient reporter batch config is: {}", config);
+        int failedReports = new ReporterBatchApplication(config).run();
+        if (failedReports > 0) {
+            LOGGER.error("Patient reporter failed for {} reports", failedReports);
+            System.exit(1);
+        }
+
+        LOGGER.info("Complete");
+    }
+
+    @NotNull
+    private final ReporterBatchConfig config;
+
+    public ReporterBatchApplication(@NotNull final ReporterBatchConfig config) {
+        this.config = config;
+    }
+
+    public int run() throws IOException, InterruptedException {
+        List<ReporterBatchEntry> entries = ReporterBatchManifestFile.read(config.manifestTsv());
+        LOGGER.info("Generating {} reports using {} threads", entries.size(), config.threads());
+
+        // Every job renders into its own PdfDocument, only read-only resources are shared between the threads.
+        ReporterResourceCache resourceCache = new ReporterResourceCache();
+
+        return BatchRunner.run(entries,
+                config.threads(),
+                entry -> runReport(resourceCache, entry),
+                ReporterBatchEntry::propertiesFile);
+    }
+
+    private static void runReport(@NotNull ReporterResourceCache resourceCache, @NotNull ReporterBatchEntry entry)
+            throws IOException, ParseException {
+        switch (entry.reportType()) {
+            case ANALYSED:
+            case QC_FAIL: {
+                PatientReporterConfig config = PatientReporterConfig.createConfig(parse(PatientReporterConfig.createOptions(), entry));
+                checkReportType(entry, config.qcFail() ? ReporterBatchEntry.ReportType.QC_FAIL : ReporterBatchEntry.ReportType.ANALYSED);
+                new PatientReporterApplication(config, resourceCache).run();
+                break;
+            }
+            case PANEL:
+            case PANEL_QC_FAIL: {
+                PanelReporterConfig config = PanelReporterConfig.createConfig(parse(PanelReporterConfig.createOptions(), entry));
+                checkReportType(entry,
+                        config.panelQcFail() ? ReporterBatchEntry.ReportType.PANEL_QC_FAIL : ReporterBatchEntry.ReportType.PANEL);
+                new PanelReporterApplication(config).run();
+                break;
+            }
+            default:
+                throw new IllegalStateException("Unsupported report type: " + entry.reportType());
+        }
+    }
+
+    @NotNull
+    private static CommandLine parse(@NotNull Options options, @NotNull ReporterBatchEntry entry) throws ParseException {
+        String[] args = new String[] { "-" + CliAndPropertyParser.PROPERTIES_FILE, entry.propertiesFile() };
+        return new CliAndPropertyParser().parse(options, args);
+    }
+
+    private static void checkReportType(@NotNull ReporterBatchEntry entry, @NotNull ReporterBatchEntry.ReportType configuredType) {
+        if (entry.reportType() != configuredType) {
+            throw new IllegalArgumentException(
+                    "Report type " + entry.reportType() + " does not match " + configuredType + " configured in " + entry.propertiesFile());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.hartwig.oncoact.patientreporter;
+
+import static com.hartwig.oncoact.patientreporter.ReporterApplication.BATCH;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.immutables.value.Value;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+@Value.Immutable
+@Value.Style(passAnnotations = { NotNull.class, Nullable.class })
+public interface ReporterBatchConfig {
+
+    String MANIFEST_TSV = "manifest_tsv";
+    String THREADS = "threads";
+
+    @NotNull
+    static Options createOptions() {
+        Options options = new Options();
+
+        options.addOption(BATCH, false, "Flag to go into batch mode");
+        options.addOption(MANIFEST_TSV,
+                true,
+                "Path towards a TSV with a report_type (ANALYSED, QC_FAIL, PANEL or PANEL_QC_FAIL) and properties_file column per report.");
+        options.addOption(THREADS, true, "Number of reports to render in parallel (default: number of available processors).");
+
+        options.addOption(PatientReporterConfig.LOG_DEBUG, false, "If provided, set the log level to debug rather than default.");
+
+        return options;
+    }
+
+    @NotNull
+    String manifestTsv();
+
+    int threads();
+
+    @NotNull
+    static ReporterBatchConfig createConfig(@NotNull CommandLine cmd) throws ParseException {
+        if (cmd.hasOption(PatientReporterConfig.LOG_DEBUG)) {
+            Configurator.setRootLevel(Level.DEBUG);
+        }
+
+        return ImmutableReporterBatchConfig.builder()
+                .manifestTsv(PatientReporterConfig.nonOptionalFile(cmd, MANIFEST_TSV))
+                .threads(threads(cmd))
+                .build();
+    }
+
+    static int threads(@NotNull CommandLine cmd) throws ParseException {
+        if (!cmd.hasOption(THREADS)) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+
+        try {
+            int threads = Integer.parseInt(cmd.getOptionValue(THREADS));
+            if (threads < 1) {
+                throw new ParseException("Parameter '" + THREADS + "' must be at least 1: " + threads);
+            }
+            return threads;
+        } catch (NumberFormatException exception) {
+            throw new ParseException("Parameter '" + THREADS + "' must be an integer: " + cmd.getOptionValue(THREADS));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.hartwig.oncoact.patientreporter;
+
+import org.immutables.value.Value;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+@Value.Immutable
+@Value.Style(passAnnotations = { NotNull.class, Nullable.class })
+public abstract class ReporterBatchEntry {
+
+    public enum ReportType {
+        ANALYSED,
+        QC_FAIL,
+        PANEL,
+        PANEL_QC_FAIL
+    }
+
+    @NotNull
+    public abstract ReportType reportType();
+
+    @NotNull
+    public abstract String propertiesFile();
+}
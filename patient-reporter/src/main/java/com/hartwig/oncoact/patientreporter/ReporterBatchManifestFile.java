@@ -0,0 +1,28 @@
+package com.hartwig.oncoact.patientreporter;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.hartwig.oncoact.batch.BatchManifestFile;
+
+import org.jetbrains.annotations.NotNull;
+
+public final class ReporterBatchManifestFile {
+
+    private static final String REPORT_TYPE = "report_type";
+    private static final String PROPERTIES_FILE = "properties_file";
+
+    private ReporterBatchManifestFile() {
+    }
+
+    @NotNull
+    public static List<ReporterBatchEntry> read(@NotNull String manifestTsv) throws IOException {
+        return BatchManifestFile.read(manifestTsv,
+                ImmutableList.of(REPORT_TYPE, PROPERTIES_FILE),
+                values -> ImmutableReporterBatchEntry.builder()
+                        .reportType(ReporterBatchEntry.ReportType.valueOf(values.get(0)))
+                        .propertiesFile(values.get(1))
+                        .build());
+    }
+}
@@ -0,0 +1,55 @@
+package com.hartwig.oncoact.patientreporter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.hartwig.oncoact.clinicaltransript.ClinicalTranscriptFile;
+import com.hartwig.oncoact.clinicaltransript.ClinicalTranscriptsModel;
+import com.hartwig.oncoact.patientreporter.germline.GermlineReportingFile;
+import com.hartwig.oncoact.patientreporter.germline.GermlineReportingModel;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Read-only reporting resources keyed by the path they were loaded from, so that reports rendered in the same JVM load every
+ * resource file only once. Safe to share between threads.
+ */
+public class ReporterResourceCache {
+
+    @NotNull
+    private final Map<String, GermlineReportingModel> germlineReportingModels = new ConcurrentHashMap<>();
+    @NotNull
+    private final Map<String, ClinicalTranscriptsModel> clinicalTranscriptsModels = new ConcurrentHashMap<>();
+
+    @NotNull
+    public GermlineReportingModel germlineReportingModel(@NotNull String germlineReportingTsv) throws IOException {
+        try {
+            return germlineReportingModels.computeIfAbsent(germlineReportingTsv, tsv -> {
+                try {
+                    return GermlineReportingFile.buildFromTsv(tsv);
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    @NotNull
+    public ClinicalTranscriptsModel clinicalTranscriptsModel(@NotNull String clinicalTranscriptsTsv) throws IOException {
+        try {
+            return clinicalTranscriptsModels.computeIfAbsent(clinicalTranscriptsTsv, tsv -> {
+                try {
+                    return ClinicalTranscriptFile.buildFromTsv(tsv);
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+}
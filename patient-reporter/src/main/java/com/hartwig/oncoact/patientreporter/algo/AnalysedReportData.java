@@ -26,6 +26,12 @@ public interface AnalysedReportData extends ReportData {
         GermlineReportingModel germlineReportingModel = GermlineReportingFile.buildFromTsv(config.germlineReportingTsv());
         ClinicalTranscriptsModel clinicalTranscriptsModel = ClinicalTranscriptFile.buildFromTsv(config.clinicalTranscriptsTsv());
 
+        return buildFromConfig(config, germlineReportingModel, clinicalTranscriptsModel);
+    }
+
+    @NotNull
+    static AnalysedReportData buildFromConfig(@NotNull PatientReporterConfig config, @NotNull GermlineReportingModel germlineReportingModel,
+            @NotNull ClinicalTranscriptsModel clinicalTranscriptsModel) throws IOException {
         return builder().from(QCFailReportData.buildFromConfig(config))
                 .germlineReportingModel(germlineReportingModel)
                 .clinicalTranscriptsModel(clinicalTranscriptsModel)
@@ -152,13 +152,7 @@ public class GenomicAnalyzer {
             @NotNull GermlineReportingModel germlineReportingModel, boolean flagGermlineOnReport) {
         Map<ReportableVariant, Boolean> notifyGermlineStatusPerVariant = Maps.newHashMap();
 
-        Set<String> germlineGenesWithIndependentHits = Sets.newHashSet();
-        for (ReportableVariant variant : reportableVariants) {
-            if ((variant.source() == ReportableVariantSource.GERMLINE || variant.source() == ReportableVariantSource.GERMLINE_ONLY)
-                    && hasOtherGermlineVariantWithDifferentPhaseSet(reportableVariants, variant)) {
-                germlineGenesWithIndependentHits.add(variant.gene());
-            }
-        }
+        Set<String> germlineGenesWithIndependentHits = germlineGenesWithIndependentHits(reportableVariants);
 
         for (ReportableVariant variant : reportableVariants) {
             boolean notify = false;
@@ -171,18 +165,42 @@ public class GenomicAnalyzer {
         return notifyGermlineStatusPerVariant;
     }
 
+    @NotNull
     @VisibleForTesting
-    static boolean hasOtherGermlineVariantWithDifferentPhaseSet(@NotNull List<ReportableVariant> variants,
-            @NotNull ReportableVariant variantToCompareWith) {
-        Integer phaseSetToCompareWith = variantToCompareWith.localPhaseSet();
+    static Set<String> germlineGenesWithIndependentHits(@NotNull List<ReportableVariant> variants) {
+        Map<String, Set<ReportableVariant>> germlineVariantsPerGene = Maps.newHashMap();
         for (ReportableVariant variant : variants) {
-            if (!variant.equals(variantToCompareWith) && variant.gene().equals(variantToCompareWith.gene()) && (
-                    variant.source() == ReportableVariantSource.GERMLINE || variant.source() == ReportableVariantSource.GERMLINE_ONLY) && (
-                    phaseSetToCompareWith == null || !phaseSetToCompareWith.equals(variant.localPhaseSet()))) {
-                return true;
+            if (variant.source() == ReportableVariantSource.GERMLINE || variant.source() == ReportableVariantSource.GERMLINE_ONLY) {
+                germlineVariantsPerGene.computeIfAbsent(variant.gene(), gene -> Sets.newHashSet()).add(variant);
+            }
+        }
+
+        Set<String> germlineGenesWithIndependentHits = Sets.newHashSet();
+        for (Map.Entry<String, Set<ReportableVariant>> entry : germlineVariantsPerGene.entrySet()) {
+            if (hasVariantsInDifferentPhaseSets(entry.getValue())) {
+                germlineGenesWithIndependentHits.add(entry.getKey());
             }
         }
+        return germlineGenesWithIndependentHits;
+    }
+
+    private static boolean hasVariantsInDifferentPhaseSets(@NotNull Set<ReportableVariant> distinctVariants) {
+        if (distinctVariants.size() < 2) {
+            return false;
+        }
 
+        // A variant without phase set is never considered to be in phase with another variant.
+        Integer firstPhaseSet = null;
+        for (ReportableVariant variant : distinctVariants) {
+            Integer phaseSet = variant.localPhaseSet();
+            if (phaseSet == null) {
+                return true;
+            } else if (firstPhaseSet == null) {
+                firstPhaseSet = phaseSet;
+            } else if (!firstPhaseSet.equals(phaseSet)) {
+                return true;
+            }
+        }
         return false;
     }
 }
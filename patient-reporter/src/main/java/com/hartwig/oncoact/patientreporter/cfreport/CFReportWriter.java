@@ -1,17 +1,20 @@
 package com.hartwig.oncoact.patientreporter.cfreport;
 
 import java.io.BufferedWriter;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.Set;
 
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
 import com.hartwig.hmftools.datamodel.purple.PurpleQCStatus;
 import com.hartwig.oncoact.patientreporter.OutputFileUtil;
 import com.hartwig.oncoact.patientreporter.PatientReport;
@@ -33,6 +36,9 @@ import com.hartwig.oncoact.patientreporter.cfreport.chapters.panel.PanelExplanat
 import com.hartwig.oncoact.patientreporter.cfreport.chapters.panel.PanelQCFailChapter;
 import com.hartwig.oncoact.patientreporter.cfreport.chapters.panel.SampleAndDisclaimerChapter;
 import com.hartwig.oncoact.patientreporter.cfreport.chapters.panel.SampleAndDisclaimerChapterFail;
+import com.hartwig.oncoact.patientreporter.output.AtomicFileOutput;
+import com.hartwig.oncoact.patientreporter.output.InMemoryOutput;
+import com.hartwig.oncoact.patientreporter.output.ReportOutput;
 import com.hartwig.oncoact.patientreporter.panel.PanelFailReport;
 import com.hartwig.oncoact.patientreporter.panel.PanelReport;
 import com.hartwig.oncoact.patientreporter.qcfail.QCFailReport;
@@ -54,26 +60,51 @@ public class CFReportWriter implements ReportWriter {
 
     private static final Logger LOGGER = LogManager.getLogger(CFReportWriter.class);
 
-    private final boolean writeToFile;
+    // Gson and configured Jackson writers are thread-safe, so all reports share a single instance of each.
+    private static final Gson COMPACT_GSON = new GsonBuilder().serializeNulls()
+            .serializeSpecialFloatingPointValues()
+            .disableHtmlEscaping()
+            .create();
+    private static final Gson GSON = COMPACT_GSON.newBuilder().setPrettyPrinting().create();
+    private static final ObjectWriter XML_WRITER = createXmlWriter();
+
+    @NotNull
+    private final ReportOutput output;
+    private final boolean compactJson;
 
     @NotNull
     public static CFReportWriter createProductionReportWriter() {
-        return new CFReportWriter(true);
+        return createProductionReportWriter(false);
+    }
+
+    @NotNull
+    public static CFReportWriter createProductionReportWriter(boolean compactJson) {
+        return new CFReportWriter(new AtomicFileOutput(), compactJson);
     }
 
     @VisibleForTesting
     CFReportWriter(final boolean writeToFile) {
-        this.writeToFile = writeToFile;
+        this(writeToFile ? new AtomicFileOutput() : new InMemoryOutput());
+    }
+
+    public CFReportWriter(@NotNull final ReportOutput output) {
+        this(output, false);
+    }
+
+    public CFReportWriter(@NotNull final ReportOutput output, final boolean compactJson) {
+        this.output = output;
+        this.compactJson = compactJson;
     }
 
     @Override
-    public void writeAnalysedPatientReport(@NotNull AnalysedPatientReport report, @NotNull String outputFilePath) throws IOException {
+    public void writeAnalysedPatientReport(@NotNull AnalysedPatientReport report, @NotNull ReportViewModel viewModel,
+            @NotNull String outputFilePath) throws IOException {
         ReportResources reportResources = ReportResources.create();
         ReportChapter[] chapters =
-                new ReportChapter[] { new SummaryChapter(report, reportResources), new ClinicalEvidenceChapter(report, reportResources),
-                        new GenomicAlterationsChapter(report, reportResources), new TumorCharacteristicsChapter(report, reportResources),
-                        new CircosChapter(report, reportResources), new ExplanationChapter(reportResources),
-                        new DetailsAndDisclaimerChapter(report, reportResources) };
+                new ReportChapter[] { new SummaryChapter(report, reportResources), new ClinicalEvidenceChapter(viewModel, reportResources),
+                        new GenomicAlterationsChapter(report, viewModel, reportResources),
+                        new TumorCharacteristicsChapter(report, reportResources), new CircosChapter(report, reportResources),
+                        new ExplanationChapter(reportResources), new DetailsAndDisclaimerChapter(report, reportResources) };
 
         writeReport(reportResources, report, chapters, outputFilePath);
     }
@@ -128,83 +159,68 @@ public class CFReportWriter implements ReportWriter {
         writeReportDataToJson(report, outputFilePath);
     }
 
-    public void writeJsonAnalysedFile(@NotNull AnalysedPatientReport report, @NotNull String outputFilePath) throws IOException {
-        writeReportDataToJson(report, outputFilePath);
+    public void writeJsonAnalysedFile(@NotNull AnalysedPatientReport report, @NotNull ReportViewModel viewModel,
+            @NotNull String outputFilePath) throws IOException {
+        writeReportDataToJson(viewModel.inRenderedOrder(report), outputFilePath);
     }
 
     public void writeReportDataToJson(@NotNull PatientReport report, @NotNull String outputDirData) throws IOException {
-        if (writeToFile) {
-            String outputFileData = outputDirData + File.separator + OutputFileUtil.generateOutputFileName(report) + ".json";
-            BufferedWriter writer = new BufferedWriter(new FileWriter(outputFileData));
-            writer.write(convertToJson(report));
-            writer.close();
-            LOGGER.info(" Created report data json file at {} ", outputFileData);
-        }
+        String outputFileData = outputDirData + File.separator + OutputFileUtil.generateOutputFileName(report) + ".json";
+        writeJson(report, outputFileData);
+        LOGGER.info(" Created report data json file at {} ", outputFileData);
     }
 
-    public void writeXMLAnalysedFile(@NotNull AnalysedPatientReport report, @NotNull String outputFilePath) throws IOException {
-        ReportXML xmlReport = XMLFactory.generateXMLData(report);
+    public void writeXMLAnalysedFile(@NotNull AnalysedPatientReport report, @NotNull ReportViewModel viewModel,
+            @NotNull String outputFilePath) throws IOException {
+        ReportXML xmlReport = XMLFactory.generateXMLData(report, viewModel);
         writeReportDataToXML(xmlReport, outputFilePath, report);
     }
 
     public void writeReportDataToXML(@NotNull ReportXML importWGS, @NotNull String outputDirData, @NotNull PatientReport report)
             throws IOException {
-        if (writeToFile) {
-
-            XmlMapper xmlMapper = new XmlMapper();
-            xmlMapper.configure(ToXmlGenerator.Feature.WRITE_XML_DECLARATION, true);
+        String outputFileData = outputDirData + File.separator + OutputFileUtil.generateOutputFileName(report) + ".xml";
 
-            String outputFileData = outputDirData + File.separator + OutputFileUtil.generateOutputFileName(report) + ".xml";
+        output.write(outputFileData, outputStream -> XML_WRITER.writeValue(outputStream, importWGS));
 
-            xmlMapper.writerWithDefaultPrettyPrinter().writeValue(new File(outputFileData), importWGS);
-
-            LOGGER.info(" Created report data xml file at {} ", outputFileData);
-        }
+        LOGGER.info(" Created report data xml file at {} ", outputFileData);
     }
 
     @VisibleForTesting
     @NotNull
     public String convertToJson(@NotNull PatientReport report) {
-        return new GsonBuilder().serializeNulls()
-                .serializeSpecialFloatingPointValues()
-                .setPrettyPrinting()
-                .disableHtmlEscaping()
-                .create()
-                .toJson(report);
+        return GSON.toJson(report);
     }
 
     private void writeReport(@NotNull ReportResources reportResources, @NotNull PatientReport patientReport,
             @NotNull ReportChapter[] chapters, @NotNull String outputFilePath) throws IOException {
-        Document doc = initializeReport(outputFilePath, writeToFile);
-        PdfDocument pdfDocument = doc.getPdfDocument();
+        output.write(outputFilePath, outputStream -> {
+            Document doc = initializeReport(outputStream);
+            PdfDocument pdfDocument = doc.getPdfDocument();
 
-        PageEventHandler pageEventHandler = new PageEventHandler(patientReport, reportResources);
-        pdfDocument.addEventHandler(PdfDocumentEvent.START_PAGE, pageEventHandler);
+            PageEventHandler pageEventHandler = new PageEventHandler(patientReport, reportResources);
+            pdfDocument.addEventHandler(PdfDocumentEvent.START_PAGE, pageEventHandler);
 
-        for (int i = 0; i < chapters.length; i++) {
-            ReportChapter chapter = chapters[i];
+            for (int i = 0; i < chapters.length; i++) {
+                ReportChapter chapter = chapters[i];
 
-            pageEventHandler.pdfTitle(chapter.pdfTitle());
-            pageEventHandler.chapterTitle(chapter.name());
-            pageEventHandler.resetChapterPageCounter();
-            pageEventHandler.sidebarType(!chapter.isFullWidth());
+                pageEventHandler.pdfTitle(chapter.pdfTitle());
+                pageEventHandler.chapterTitle(chapter.name());
+                pageEventHandler.resetChapterPageCounter();
+                pageEventHandler.sidebarType(!chapter.isFullWidth());
 
-            if (i > 0) {
-                doc.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
+                if (i > 0) {
+                    doc.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
+                }
+                chapter.render(doc);
             }
-            chapter.render(doc);
-        }
 
-        pageEventHandler.writeDynamicTextParts(doc.getPdfDocument());
+            pageEventHandler.writeDynamicTextParts(doc.getPdfDocument());
 
-        doc.close();
-        pdfDocument.close();
+            doc.close();
+            pdfDocument.close();
+        });
 
-        if (writeToFile) {
-            LOGGER.info("Created patient report at {}", outputFilePath);
-        } else {
-            LOGGER.info("Successfully generated in-memory patient report");
-        }
+        LOGGER.info("Created patient report at {}", outputFilePath);
     }
 
     public void writeJsonPanelFile(@NotNull PanelReport report, @NotNull String outputFilePath) throws IOException {
@@ -217,75 +233,70 @@ public class CFReportWriter implements ReportWriter {
 
     public void writeReportDataToJson(@NotNull com.hartwig.oncoact.patientreporter.PanelReport report, @NotNull String outputDirData)
             throws IOException {
-        if (writeToFile) {
-            String outputFileData = outputDirData + File.separator + OutputFileUtil.generateOutputFileName(report) + ".json";
-            BufferedWriter writer = new BufferedWriter(new FileWriter(outputFileData));
-            writer.write(convertToJson(report));
-            writer.close();
-            LOGGER.info(" Created report data json file at {} ", outputFileData);
-        }
+        String outputFileData = outputDirData + File.separator + OutputFileUtil.generateOutputFileName(report) + ".json";
+        writeJson(report, outputFileData);
+        LOGGER.info(" Created report data json file at {} ", outputFileData);
     }
 
     @VisibleForTesting
     @NotNull
     public String convertToJson(@NotNull com.hartwig.oncoact.patientreporter.PanelReport report) {
-        return new GsonBuilder().serializeNulls()
-                .serializeSpecialFloatingPointValues()
-                .setPrettyPrinting()
-                .disableHtmlEscaping()
-                .create()
-                .toJson(report);
+        return GSON.toJson(report);
     }
 
     private void writePanel(@NotNull ReportResources reportResources,
             @NotNull com.hartwig.oncoact.patientreporter.PanelReport patientReport, @NotNull ReportChapter[] chapters,
             @NotNull String outputFilePath) throws IOException {
-        Document doc = initializeReport(outputFilePath, writeToFile);
-        PdfDocument pdfDocument = doc.getPdfDocument();
+        output.write(outputFilePath, outputStream -> {
+            Document doc = initializeReport(outputStream);
+            PdfDocument pdfDocument = doc.getPdfDocument();
 
-        PageEventHandlerPanel pageEventHandler = new PageEventHandlerPanel(patientReport, reportResources);
-        pdfDocument.addEventHandler(PdfDocumentEvent.START_PAGE, pageEventHandler);
+            PageEventHandlerPanel pageEventHandler = new PageEventHandlerPanel(patientReport, reportResources);
+            pdfDocument.addEventHandler(PdfDocumentEvent.START_PAGE, pageEventHandler);
 
-        for (int i = 0; i < chapters.length; i++) {
-            ReportChapter chapter = chapters[i];
+            for (int i = 0; i < chapters.length; i++) {
+                ReportChapter chapter = chapters[i];
 
-            pageEventHandler.pdfTitle(chapter.pdfTitle());
-            pageEventHandler.chapterTitle(chapter.name());
-            pageEventHandler.resetChapterPageCounter();
-            pageEventHandler.sidebarType(!chapter.isFullWidth());
+                pageEventHandler.pdfTitle(chapter.pdfTitle());
+                pageEventHandler.chapterTitle(chapter.name());
+                pageEventHandler.resetChapterPageCounter();
+                pageEventHandler.sidebarType(!chapter.isFullWidth());
 
-            if (i > 0) {
-                doc.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
+                if (i > 0) {
+                    doc.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
+                }
+                chapter.render(doc);
             }
-            chapter.render(doc);
-        }
 
-        pageEventHandler.writeDynamicTextParts(doc.getPdfDocument());
+            pageEventHandler.writeDynamicTextParts(doc.getPdfDocument());
 
-        doc.close();
-        pdfDocument.close();
+            doc.close();
+            pdfDocument.close();
+        });
 
-        if (writeToFile) {
-            LOGGER.info("Created patient report at {}", outputFilePath);
-        } else {
-            LOGGER.info("Successfully generated in-memory patient report");
-        }
+        LOGGER.info("Created patient report at {}", outputFilePath);
     }
 
     @NotNull
-    private static Document initializeReport(@NotNull String outputFilePath, boolean writeToFile) throws IOException {
-        PdfWriter writer;
-        if (writeToFile) {
-            var path = new File(outputFilePath).toPath();
-            Files.deleteIfExists(path);
+    private static ObjectWriter createXmlWriter() {
+        XmlMapper xmlMapper = new XmlMapper();
+        xmlMapper.configure(ToXmlGenerator.Feature.WRITE_XML_DECLARATION, true);
+        return xmlMapper.writerWithDefaultPrettyPrinter();
+    }
 
-            writer = new PdfWriter(outputFilePath);
-        } else {
-            // Write output to output stream where it is effectively ignored.
-            writer = new PdfWriter(new ByteArrayOutputStream());
-        }
+    private void writeJson(@NotNull Object report, @NotNull String outputFileData) throws IOException {
+        // Streams the report straight into the output, rather than building the complete document as a string first.
+        Gson gson = compactJson ? COMPACT_GSON : GSON;
+        output.write(outputFileData, outputStream -> {
+            JsonWriter jsonWriter = gson.newJsonWriter(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+            gson.toJson(report, report.getClass(), jsonWriter);
+            jsonWriter.flush();
+        });
+    }
 
-        PdfDocument pdf = new PdfDocument(writer);
+    @NotNull
+    private static Document initializeReport(@NotNull OutputStream outputStream) {
+        PdfDocument pdf = new PdfDocument(new PdfWriter(outputStream));
         pdf.setDefaultPageSize(PageSize.A4);
         pdf.getDocumentInfo().setTitle(ReportResources.METADATA_TITLE);
         pdf.getDocumentInfo().setAuthor(ReportResources.METADATA_AUTHOR);
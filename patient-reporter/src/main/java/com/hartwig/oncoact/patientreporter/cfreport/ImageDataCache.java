@@ -0,0 +1,61 @@
+package com.hartwig.oncoact.patientreporter.cfreport;
+
+import java.io.File;
+import java.net.MalformedURLException;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.itextpdf.io.image.ImageData;
+import com.itextpdf.io.image.ImageDataFactory;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Decoded report images (logos, signature, plots) shared by all reports rendered in this JVM. An image is decoded again when the size
+ * or modification time of its file changes, so corrected plots are never served from a stale entry. The cache holds at most
+ * {@link #MAX_IMAGES} images, held through soft references so that they can be reclaimed under memory pressure.
+ */
+public final class ImageDataCache {
+
+    static final int MAX_IMAGES = 32;
+
+    private static final Cache<String, CachedImage> IMAGES = CacheBuilder.newBuilder().maximumSize(MAX_IMAGES).softValues().build();
+
+    private ImageDataCache() {
+    }
+
+    @NotNull
+    public static ImageData get(@NotNull String path) throws MalformedURLException {
+        File file = new File(path);
+        long size = file.length();
+        long lastModified = file.lastModified();
+
+        CachedImage cached = IMAGES.getIfPresent(path);
+        if (cached == null || cached.size != size || cached.lastModified != lastModified) {
+            cached = new CachedImage(size, lastModified, ImageDataFactory.create(path));
+            IMAGES.put(path, cached);
+        }
+        return cached.imageData;
+    }
+
+    @VisibleForTesting
+    static long size() {
+        IMAGES.cleanUp();
+        return IMAGES.size();
+    }
+
+    private static final class CachedImage {
+
+        private final long size;
+        private final long lastModified;
+        @NotNull
+        private final ImageData imageData;
+
+        CachedImage(long size, long lastModified, @NotNull ImageData imageData) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.imageData = imageData;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.hartwig.oncoact.patientreporter.cfreport;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.net.MalformedURLException;
+import java.nio.file.Files;
+
+import javax.imageio.ImageIO;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.itextpdf.io.IOException;
+import com.itextpdf.io.image.ImageData;
+import com.itextpdf.io.image.ImageDataFactory;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Plots (circos, CUPPA) resampled to the resolution at which they are printed in the report. The pipeline produces these plots at
+ * a much higher resolution than needed, which makes reports large and slow to write. Resampled plots are cached on the hash of the
+ * source file, so the same plot is only resampled once regardless of where it is read from. The hash is remembered per path, size and
+ * modification time, so a file is only read again once it changes. Both caches are bounded to {@link #MAX_PLOTS} entries and hold the
+ * resampled plots through soft references.
+ */
+public final class PlotImageCache {
+
+    static final int TARGET_DPI = 300;
+    private static final float POINTS_PER_INCH = 72F;
+
+    static final int MAX_PLOTS = 32;
+
+    private static final Cache<String, String> CONTENT_HASH_PER_FILE = CacheBuilder.newBuilder().maximumSize(MAX_PLOTS).build();
+    private static final Cache<String, ImageData> PLOTS = CacheBuilder.newBuilder().maximumSize(MAX_PLOTS).softValues().build();
+
+    private PlotImageCache() {
+    }
+
+    @NotNull
+    public static ImageData get(@NotNull String path, float maxHeight) throws MalformedURLException {
+        File file = new File(path);
+        String fileKey = path + ":" + file.length() + ":" + file.lastModified();
+        int maxPixelHeight = Math.round(maxHeight / POINTS_PER_INCH * TARGET_DPI);
+
+        String contentHash = CONTENT_HASH_PER_FILE.getIfPresent(fileKey);
+        if (contentHash != null) {
+            ImageData cached = PLOTS.getIfPresent(plotKey(contentHash, maxPixelHeight));
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        byte[] source;
+        try {
+            source = Files.readAllBytes(file.toPath());
+        } catch (java.io.IOException exception) {
+            throw new IOException("Failed to read plot image at " + path, exception);
+        }
+
+        contentHash = Hashing.sha256().hashBytes(source).toString();
+        CONTENT_HASH_PER_FILE.put(fileKey, contentHash);
+
+        String key = plotKey(contentHash, maxPixelHeight);
+        ImageData cached = PLOTS.getIfPresent(key);
+        if (cached == null) {
+            cached = resample(source, maxPixelHeight);
+            PLOTS.put(key, cached);
+        }
+        return cached;
+    }
+
+    @VisibleForTesting
+    static long size() {
+        PLOTS.cleanUp();
+        return PLOTS.size();
+    }
+
+    @NotNull
+    private static String plotKey(@NotNull String contentHash, int maxPixelHeight) {
+        return contentHash + ":" + maxPixelHeight;
+    }
+
+    @NotNull
+    private static ImageData resample(@NotNull byte[] source, int maxPixelHeight) throws MalformedURLException {
+        BufferedImage image;
+        try {
+            image = ImageIO.read(new ByteArrayInputStream(source));
+        } catch (java.io.IOException exception) {
+            throw new IOException("Failed to decode plot image", exception);
+        }
+
+        if (image == null || image.getHeight() <= maxPixelHeight) {
+            // Not a format ImageIO can resample, or already small enough: embed as-is.
+            return ImageDataFactory.create(source);
+        }
+
+        int width = Math.max(1, Math.round((float) image.getWidth() * maxPixelHeight / image.getHeight()));
+        BufferedImage scaled = scaleDown(image, width, maxPixelHeight);
+
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(scaled, "png", encoded);
+        } catch (java.io.IOException exception) {
+            throw new IOException("Failed to encode resampled plot image", exception);
+        }
+        return ImageDataFactory.create(encoded.toByteArray());
+    }
+
+    @NotNull
+    private static BufferedImage scaleDown(@NotNull BufferedImage image, int targetWidth, int targetHeight) {
+        int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        // Halve the image until close to the target size, a single bicubic step loses thin lines when shrinking by large factors.
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage step = new BufferedImage(width, height, type);
+            Graphics2D graphics = step.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(current, 0, 0, width, height, null);
+            graphics.dispose();
+
+            current = step;
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+}
@@ -1,9 +1,14 @@
 package com.hartwig.oncoact.patientreporter.cfreport;
 
 import java.io.IOException;
+import java.net.MalformedURLException;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.Locale;
+import java.util.Map;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Maps;
 
 import com.hartwig.oncoact.patientreporter.PatientReporterApplication;
 import com.itextpdf.io.font.FontProgram;
@@ -12,6 +17,7 @@ import com.itextpdf.io.font.PdfEncodings;
 import com.itextpdf.kernel.colors.DeviceRgb;
 import com.itextpdf.kernel.font.PdfFont;
 import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.pdf.xobject.PdfImageXObject;
 import com.itextpdf.layout.Style;
 
 import org.jetbrains.annotations.NotNull;
@@ -68,9 +74,13 @@ public final class ReportResources {
 
     public static final float BODY_TEXT_LEADING = 10F;
 
+    private static final float FONT_SIZE_DECREMENT = 0.1F;
+
     private final PdfFont fontRegular;
     private final PdfFont fontBold;
     private final PdfFont fontIcon;
+    private final Map<String, PdfImageXObject> imagesPerPath = Maps.newHashMap();
+    private final Map<PdfFont, Map<String, Integer>> glyphWidthsPerFont = Maps.newHashMap();
 
     private ReportResources(@NotNull PdfFont fontRegular, @NotNull PdfFont fontBold, @NotNull PdfFont fontIcon) {
         this.fontRegular = fontRegular;
@@ -79,25 +89,36 @@ public final class ReportResources {
     }
 
     public static ReportResources create() {
-        return new ReportResources(createFontFromProgram(loadFontProgram(FONT_REGULAR_PATH)),
-                createFontFromProgram(loadFontProgram(FONT_BOLD_PATH)),
-                createFontFromProgram(loadFontProgram(ICON_FONT_PATH)));
+        return new ReportResources(createFontFromProgram(FontPrograms.REGULAR),
+                createFontFromProgram(FontPrograms.BOLD),
+                createFontFromProgram(FontPrograms.ICON));
     }
 
-    public static float maxPointSizeForWidth(@NotNull PdfFont font, float initialFontSize, float minFontSize, @NotNull String text,
+    public float maxPointSizeForWidth(@NotNull PdfFont font, float initialFontSize, float minFontSize, @NotNull String text,
             float maxWidth) {
-        float fontIncrement = 0.1f;
+        return maxPointSizeForWidth(glyphWidth(font, text), initialFontSize, minFontSize, maxWidth);
+    }
 
+    @VisibleForTesting
+    static float maxPointSizeForWidth(int glyphWidth, float initialFontSize, float minFontSize, float maxWidth) {
+        // Steps down in the same float decrements as measuring the text at every size did, so sizes are identical to those measurements.
         float fontSize = initialFontSize;
-        float width = font.getWidth(text, initialFontSize);
-        while (width > maxWidth && fontSize > minFontSize) {
-            fontSize -= fontIncrement;
-            width = font.getWidth(text, fontSize);
+        while (width(glyphWidth, fontSize) > maxWidth && fontSize > minFontSize) {
+            fontSize -= FONT_SIZE_DECREMENT;
         }
-
         return fontSize;
     }
 
+    private static float width(int glyphWidth, float fontSize) {
+        // Same arithmetic as PdfFont.getWidth(text, fontSize).
+        return glyphWidth * fontSize / FontProgram.UNITS_NORMALIZATION;
+    }
+
+    private int glyphWidth(@NotNull PdfFont font, @NotNull String text) {
+        // Texts like the side panel values are repeated on every page, so their width is only measured once per report.
+        return glyphWidthsPerFont.computeIfAbsent(font, key -> Maps.newHashMap()).computeIfAbsent(text, font::getWidth);
+    }
+
     @NotNull
     public static DecimalFormat decimalFormat(@NotNull String format) {
         // To make sure every decimal format uses a dot as separator rather than a comma.
@@ -122,6 +143,28 @@ public final class ReportResources {
         return fontIcon;
     }
 
+    @NotNull
+    public PdfImageXObject image(@NotNull String path) throws MalformedURLException {
+        // Every PDF needs its own image objects, but reusing them within a PDF embeds each image only once.
+        PdfImageXObject image = imagesPerPath.get(path);
+        if (image == null) {
+            image = new PdfImageXObject(ImageDataCache.get(path));
+            imagesPerPath.put(path, image);
+        }
+        return image;
+    }
+
+    @NotNull
+    public PdfImageXObject plotImage(@NotNull String path, float maxHeight) throws MalformedURLException {
+        String key = path + "@" + maxHeight;
+        PdfImageXObject image = imagesPerPath.get(key);
+        if (image == null) {
+            image = new PdfImageXObject(PlotImageCache.get(path, maxHeight));
+            imagesPerPath.put(key, image);
+        }
+        return image;
+    }
+
     public Style responseStyle() {
         return new Style().setFont(fontBold()).setFontSize(8).setFontColor(ReportResources.PALETTE_BLUE);
     }
@@ -227,6 +270,15 @@ public final class ReportResources {
         return PdfFontFactory.createFont(program, PdfEncodings.IDENTITY_H);
     }
 
+    // Parsed font programs are read-only once loaded and are shared by all reports in this JVM. They are loaded on first use only,
+    // so that users of the constants above do not pay for font parsing.
+    private static final class FontPrograms {
+
+        private static final FontProgram REGULAR = loadFontProgram(FONT_REGULAR_PATH);
+        private static final FontProgram BOLD = loadFontProgram(FONT_BOLD_PATH);
+        private static final FontProgram ICON = loadFontProgram(ICON_FONT_PATH);
+    }
+
     @NotNull
     private static FontProgram loadFontProgram(@NotNull String resourcePath) {
         try {
@@ -0,0 +1,82 @@
+package com.hartwig.oncoact.patientreporter.cfreport;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Lists;
+import com.hartwig.hmftools.datamodel.linx.HomozygousDisruption;
+import com.hartwig.hmftools.datamodel.purple.PurpleGainLoss;
+import com.hartwig.oncoact.patientreporter.algo.AnalysedPatientReport;
+import com.hartwig.oncoact.patientreporter.algo.GenomicAnalysis;
+import com.hartwig.oncoact.patientreporter.algo.ImmutableAnalysedPatientReport;
+import com.hartwig.oncoact.patientreporter.algo.ImmutableGenomicAnalysis;
+import com.hartwig.oncoact.patientreporter.cfreport.chapters.analysed.ClinicalEvidenceFunctions;
+import com.hartwig.oncoact.patientreporter.cfreport.data.GainsAndLosses;
+import com.hartwig.oncoact.patientreporter.cfreport.data.HomozygousDisruptions;
+import com.hartwig.oncoact.patientreporter.cfreport.data.SomaticVariants;
+import com.hartwig.oncoact.protect.ProtectEvidence;
+import com.hartwig.oncoact.variant.ReportableVariant;
+
+import org.immutables.value.Value;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Report content in the order and grouping in which it is rendered. It is built once per report, after curation, and passed to the
+ * PDF chapters and to the XML and JSON writers, so none of them sort or group the content again.
+ */
+@Value.Immutable
+@Value.Style(passAnnotations = { NotNull.class, Nullable.class })
+public abstract class ReportViewModel {
+
+    @NotNull
+    public abstract List<ReportableVariant> sortedReportableVariants();
+
+    @NotNull
+    public abstract List<PurpleGainLoss> sortedGainsAndLosses();
+
+    @NotNull
+    public abstract List<HomozygousDisruption> sortedHomozygousDisruptions();
+
+    @NotNull
+    public abstract Map<String, List<ProtectEvidence>> treatmentApproachEvidence();
+
+    @NotNull
+    public abstract Map<String, List<ProtectEvidence>> clinicalTrialEvidence();
+
+    @NotNull
+    public static ReportViewModel create(@NotNull AnalysedPatientReport report) {
+        GenomicAnalysis genomicAnalysis = report.genomicAnalysis();
+        boolean flagGermlineOnReport = report.lamaPatientData().getReportSettings().getFlagGermlineOnReport();
+
+        List<ProtectEvidence> treatmentEvidence = Lists.newArrayList();
+        treatmentEvidence.addAll(genomicAnalysis.tumorSpecificEvidence());
+        treatmentEvidence.addAll(genomicAnalysis.offLabelEvidence());
+
+        return ImmutableReportViewModel.builder()
+                .sortedReportableVariants(SomaticVariants.sort(genomicAnalysis.reportableVariants()))
+                .sortedGainsAndLosses(GainsAndLosses.sort(genomicAnalysis.gainsAndLosses()))
+                .sortedHomozygousDisruptions(HomozygousDisruptions.sort(genomicAnalysis.homozygousDisruptions()))
+                .treatmentApproachEvidence(ClinicalEvidenceFunctions.buildTreatmentMap(treatmentEvidence,
+                        flagGermlineOnReport,
+                        null,
+                        "treatmentApproach"))
+                .clinicalTrialEvidence(ClinicalEvidenceFunctions.buildTrialMap(genomicAnalysis.clinicalTrials(),
+                        flagGermlineOnReport,
+                        true,
+                        "study"))
+                .build();
+    }
+
+    /**
+     * The report with its variants, gains and losses and homozygous disruptions in rendered order, as written to the report data json.
+     */
+    @NotNull
+    public AnalysedPatientReport inRenderedOrder(@NotNull AnalysedPatientReport report) {
+        GenomicAnalysis genomicAnalysis = ImmutableGenomicAnalysis.copyOf(report.genomicAnalysis())
+                .withReportableVariants(sortedReportableVariants())
+                .withGainsAndLosses(sortedGainsAndLosses())
+                .withHomozygousDisruptions(sortedHomozygousDisruptions());
+        return ImmutableAnalysedPatientReport.copyOf(report).withGenomicAnalysis(genomicAnalysis);
+    }
+}
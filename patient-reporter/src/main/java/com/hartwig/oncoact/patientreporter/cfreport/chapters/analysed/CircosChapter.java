@@ -7,7 +7,6 @@ import com.hartwig.oncoact.patientreporter.cfreport.ReportResources;
 import com.hartwig.oncoact.patientreporter.cfreport.chapters.ReportChapter;
 import com.hartwig.oncoact.patientreporter.cfreport.components.TableUtil;
 import com.itextpdf.io.IOException;
-import com.itextpdf.io.image.ImageDataFactory;
 import com.itextpdf.layout.Document;
 import com.itextpdf.layout.element.Div;
 import com.itextpdf.layout.element.Image;
@@ -22,6 +21,8 @@ import org.jetbrains.annotations.NotNull;
 
 public class CircosChapter implements ReportChapter {
 
+    private static final float CIRCOS_PLOT_MAX_HEIGHT = 400;
+
     @NotNull
     private final AnalysedPatientReport patientReport;
     @NotNull
@@ -48,8 +49,8 @@ public class CircosChapter implements ReportChapter {
     public void render(@NotNull Document reportDocument) throws IOException {
         String circosPlotPath = patientReport.circosPlotPath();
         try {
-            Image circosImage = new Image(ImageDataFactory.create(circosPlotPath));
-            circosImage.setMaxHeight(400);
+            Image circosImage = new Image(reportResources.plotImage(circosPlotPath, CIRCOS_PLOT_MAX_HEIGHT));
+            circosImage.setMaxHeight(CIRCOS_PLOT_MAX_HEIGHT);
             circosImage.setHorizontalAlignment(HorizontalAlignment.CENTER);
             circosImage.setMarginBottom(8);
             reportDocument.add(circosImage);
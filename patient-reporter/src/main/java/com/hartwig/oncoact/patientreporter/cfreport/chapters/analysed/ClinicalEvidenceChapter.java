@@ -1,14 +1,8 @@
 package com.hartwig.oncoact.patientreporter.cfreport.chapters.analysed;
 
-import java.util.List;
-import java.util.Map;
-
-import com.google.common.collect.Lists;
-import com.hartwig.oncoact.patientreporter.algo.AnalysedPatientReport;
-import com.hartwig.oncoact.patientreporter.algo.GenomicAnalysis;
 import com.hartwig.oncoact.patientreporter.cfreport.ReportResources;
+import com.hartwig.oncoact.patientreporter.cfreport.ReportViewModel;
 import com.hartwig.oncoact.patientreporter.cfreport.chapters.ReportChapter;
-import com.hartwig.oncoact.protect.ProtectEvidence;
 import com.itextpdf.layout.Document;
 
 import org.apache.logging.log4j.util.Strings;
@@ -31,30 +25,23 @@ public class ClinicalEvidenceChapter implements ReportChapter {
     }
 
     @NotNull
-    private final AnalysedPatientReport report;
+    private final ReportViewModel viewModel;
 
-    public ClinicalEvidenceChapter(@NotNull final AnalysedPatientReport report, @NotNull final ReportResources reportResources) {
-        this.report = report;
+    public ClinicalEvidenceChapter(@NotNull final ReportViewModel viewModel, @NotNull final ReportResources reportResources) {
+        this.viewModel = viewModel;
         clinicalEvidenceFunctions = new ClinicalEvidenceFunctions(reportResources);
     }
 
     @Override
     public void render(@NotNull final Document document) {
-
-        GenomicAnalysis analysis = report.genomicAnalysis();
-        List<ProtectEvidence> reportedOnLabel = analysis.tumorSpecificEvidence();
-        List<ProtectEvidence> reportedOffLabel = analysis.offLabelEvidence();
-        List<ProtectEvidence> reportedStudies = analysis.clinicalTrials();
-
-        List<ProtectEvidence> allEvidences = Lists.newArrayList();
-        allEvidences.addAll(reportedOnLabel);
-        allEvidences.addAll(reportedOffLabel);
-
-        List<ProtectEvidence> reportedStudiesEvidences = Lists.newArrayList();
-        reportedStudiesEvidences.addAll(reportedStudies);
-
-        addTreatmentSection(document, allEvidences);
-        addTrialSection(document, reportedStudiesEvidences);
+        clinicalEvidenceFunctions.addTreatmentApproachTable(document,
+                "High level evidence",
+                viewModel.treatmentApproachEvidence(),
+                contentWidth());
+        clinicalEvidenceFunctions.addTrialTable(document,
+                "Potentially relevant clinical studies (NL)",
+                viewModel.clinicalTrialEvidence(),
+                contentWidth());
 
         document.add(clinicalEvidenceFunctions.noteEvidence());
         document.add(clinicalEvidenceFunctions.note("The Clinical Knowledgebase (CKB) database is used to annotate "
@@ -65,22 +52,4 @@ public class ClinicalEvidenceChapter implements ReportChapter {
 
         document.add(clinicalEvidenceFunctions.noteEvidenceMatching());
     }
-
-    private void addTreatmentSection(@NotNull Document document, @NotNull List<ProtectEvidence> evidences) {
-        boolean flagGermline = report.lamaPatientData().getReportSettings().getFlagGermlineOnReport();
-
-        Map<String, List<ProtectEvidence>> onLabelTreatments =
-                ClinicalEvidenceFunctions.buildTreatmentMap(evidences, flagGermline, null, "treatmentApproach");
-        document.add(clinicalEvidenceFunctions.createTreatmentApproachTable("High level evidence", onLabelTreatments, contentWidth()));
-    }
-
-    private void addTrialSection(@NotNull Document document, @NotNull List<ProtectEvidence> evidences) {
-        boolean flagGermline = report.lamaPatientData().getReportSettings().getFlagGermlineOnReport();
-
-        Map<String, List<ProtectEvidence>> onLabelTreatments =
-                ClinicalEvidenceFunctions.buildTrialMap(evidences, flagGermline, true, "study");
-        document.add(clinicalEvidenceFunctions.createTrialTable("Potentially relevant clinical studies (NL)",
-                onLabelTreatments,
-                contentWidth()));
-    }
 }
\ No newline at end of file
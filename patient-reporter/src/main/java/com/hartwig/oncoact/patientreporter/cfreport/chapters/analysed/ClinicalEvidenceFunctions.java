@@ -17,6 +17,7 @@ import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.hartwig.oncoact.patientreporter.cfreport.ReportResources;
 import com.hartwig.oncoact.patientreporter.cfreport.components.Icon;
+import com.hartwig.oncoact.patientreporter.cfreport.components.ReportTable;
 import com.hartwig.oncoact.patientreporter.cfreport.components.TableUtil;
 import com.hartwig.oncoact.patientreporter.cfreport.data.EvidenceItems;
 import com.hartwig.oncoact.protect.EvidenceType;
@@ -28,9 +29,9 @@ import com.hartwig.serve.datamodel.EvidenceDirection;
 import com.hartwig.serve.datamodel.EvidenceLevel;
 import com.hartwig.serve.datamodel.Treatment;
 import com.itextpdf.kernel.pdf.action.PdfAction;
+import com.itextpdf.layout.Document;
 import com.itextpdf.layout.element.Cell;
 import com.itextpdf.layout.element.Paragraph;
-import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.element.Text;
 import com.itextpdf.layout.property.VerticalAlignment;
 
@@ -202,52 +203,49 @@ public class ClinicalEvidenceFunctions {
         return false;
     }
 
-    @NotNull
-    public Table createTreatmentApproachTable(@NotNull String title, @NotNull Map<String, List<ProtectEvidence>> treatmentMap,
-            float contentWidth) {
-        Table treatmentTable = TableUtil.createReportContentTable(new float[] { 25, 100, 50, 80, 25, 15, 40, 100 },
-                new Cell[] { tableUtil.createHeaderCell("Drug type", 2), tableUtil.createHeaderCell("Tumor type specific", 1),
-                        tableUtil.createHeaderCell("Match", 1), tableUtil.createHeaderCell("Level", 1),
-                        tableUtil.createHeaderCell("Response", 2), tableUtil.createHeaderCell("Genomic event", 1) },
-                contentWidth);
-
-        treatmentTable = addDataIntoTable(treatmentTable, treatmentMap, title, "treatmentApproach");
-        return treatmentTable;
+    public void addTreatmentApproachTable(@NotNull Document document, @NotNull String title,
+            @NotNull Map<String, List<ProtectEvidence>> treatmentMap, float contentWidth) {
+        ReportTable.Builder treatmentTable = tableUtil.reportTableBuilder(title)
+                .columns(new float[] { 25, 100, 50, 80, 25, 15, 40, 100 },
+                        new Cell[] { tableUtil.createHeaderCell("Drug type", 2), tableUtil.createHeaderCell("Tumor type specific", 1),
+                                tableUtil.createHeaderCell("Match", 1), tableUtil.createHeaderCell("Level", 1),
+                                tableUtil.createHeaderCell("Response", 2), tableUtil.createHeaderCell("Genomic event", 1) })
+                .contentWidth(contentWidth);
+
+        addDataIntoTable(document, treatmentTable, treatmentMap, title, "treatmentApproach");
     }
 
-    @NotNull
-    public Table createTrialTable(@NotNull String title, @NotNull Map<String, List<ProtectEvidence>> treatmentMap, float contentWidth) {
-        Table treatmentTable = TableUtil.createReportContentTable(new float[] { 20, 70, 130, 80, 80, 130 },
-                new Cell[] { tableUtil.createHeaderCell("nct ID", 2), tableUtil.createHeaderCell("Trial", 1),
-                        tableUtil.createHeaderCell("Treatment", 1), tableUtil.createHeaderCell("Match", 1),
-                        tableUtil.createHeaderCell("Genomic event", 1) },
-                contentWidth);
-
-        treatmentTable = addDataIntoTable(treatmentTable, treatmentMap, title, "trial");
-        return treatmentTable;
+    public void addTrialTable(@NotNull Document document, @NotNull String title, @NotNull Map<String, List<ProtectEvidence>> treatmentMap,
+            float contentWidth) {
+        ReportTable.Builder treatmentTable = tableUtil.reportTableBuilder(title)
+                .columns(new float[] { 20, 70, 130, 80, 80, 130 },
+                        new Cell[] { tableUtil.createHeaderCell("nct ID", 2), tableUtil.createHeaderCell("Trial", 1),
+                                tableUtil.createHeaderCell("Treatment", 1), tableUtil.createHeaderCell("Match", 1),
+                                tableUtil.createHeaderCell("Genomic event", 1) })
+                .contentWidth(contentWidth);
+
+        addDataIntoTable(document, treatmentTable, treatmentMap, title, "trial");
     }
 
-    @NotNull
-    private Table addDataIntoTable(@NotNull Table treatmentTable, @NotNull Map<String, List<ProtectEvidence>> treatmentMap,
-            @NotNull String title, @NotNull String evidenceType) {
-        boolean hasEvidence = false;
+    private void addDataIntoTable(@NotNull Document document, @NotNull ReportTable.Builder treatmentTableBuilder,
+            @NotNull Map<String, List<ProtectEvidence>> treatmentMap, @NotNull String title, @NotNull String evidenceType) {
+        // Every treatment or trial with evidence is rendered at its highest level and ends exactly one logical row, so the row count
+        // is known up front.
+        int rowCount = (int) treatmentMap.values().stream().filter(evidences -> !evidences.isEmpty()).count();
+        if (rowCount == 0) {
+            document.add(tableUtil.createNoneReportTable(title, null, TableUtil.TABLE_BOTTOM_MARGIN, ReportResources.CONTENT_WIDTH_WIDE));
+            return;
+        }
+
+        ReportTable treatmentTable = treatmentTableBuilder.expectedRows(rowCount).start(document);
         for (EvidenceLevel level : EvidenceLevel.values()) {
             if (evidenceType.equals("trial")) {
-                if (addEvidenceWithMaxLevelStudy(treatmentTable, treatmentMap, level)) {
-                    hasEvidence = true;
-                }
+                addEvidenceWithMaxLevelStudy(treatmentTable, treatmentMap, level);
             } else {
-                if (addEvidenceWithMaxLevel(treatmentTable, treatmentMap, level, evidenceType)) {
-                    hasEvidence = true;
-                }
+                addEvidenceWithMaxLevel(treatmentTable, treatmentMap, level, evidenceType);
             }
         }
-
-        if (hasEvidence) {
-            return tableUtil.createWrappingReportTable(title, null, treatmentTable, TableUtil.TABLE_BOTTOM_MARGIN);
-        } else {
-            return tableUtil.createNoneReportTable(title, null, TableUtil.TABLE_BOTTOM_MARGIN, ReportResources.CONTENT_WIDTH_WIDE);
-        }
+        treatmentTable.complete();
     }
 
     @NotNull
@@ -260,10 +258,9 @@ public class ClinicalEvidenceFunctions {
         return p;
     }
 
-    private boolean addEvidenceWithMaxLevelStudy(@NotNull Table table, @NotNull Map<String, List<ProtectEvidence>> trialMap,
+    private void addEvidenceWithMaxLevelStudy(@NotNull ReportTable table, @NotNull Map<String, List<ProtectEvidence>> trialMap,
             @NotNull EvidenceLevel allowedHighestLevel) {
         Set<String> sortedTrials = Sets.newTreeSet(trialMap.keySet());
-        boolean hasEvidence = false;
 
         for (String trial : sortedTrials) {
             List<ProtectEvidence> evidencesTrials = trialMap.get(trial);
@@ -314,16 +311,14 @@ public class ClinicalEvidenceFunctions {
                         table.addCell(tableUtil.createContentCell(cellGenomic));
                     }
                 }
-                hasEvidence = true;
+                table.endRow();
             }
         }
-        return hasEvidence;
     }
 
-    private boolean addEvidenceWithMaxLevel(@NotNull Table table, @NotNull Map<String, List<ProtectEvidence>> treatmentMap,
+    private void addEvidenceWithMaxLevel(@NotNull ReportTable table, @NotNull Map<String, List<ProtectEvidence>> treatmentMap,
             @NotNull EvidenceLevel allowedHighestLevel, @NotNull String evidenceType) {
         Set<String> sortedTreatments = Sets.newTreeSet(treatmentMap.keySet());
-        boolean hasEvidence = false;
         for (String treatment : sortedTreatments) {
             List<ProtectEvidence> evidences = treatmentMap.get(treatment);
             if (allowedHighestLevel == highestEvidence(treatmentMap.get(treatment))) {
@@ -388,10 +383,9 @@ public class ClinicalEvidenceFunctions {
                         table.addCell(tableUtil.createContentCell(publications));
                     }
                 }
-                hasEvidence = true;
+                table.endRow();
             }
         }
-        return hasEvidence;
     }
 
     @NotNull
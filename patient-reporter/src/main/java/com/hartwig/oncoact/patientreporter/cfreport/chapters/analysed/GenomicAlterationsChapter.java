@@ -21,15 +21,15 @@ import com.hartwig.oncoact.patientreporter.algo.GenomicAnalysis;
 import com.hartwig.oncoact.patientreporter.algo.InterpretPurpleGeneCopyNumbers;
 import com.hartwig.oncoact.patientreporter.cfreport.MathUtil;
 import com.hartwig.oncoact.patientreporter.cfreport.ReportResources;
+import com.hartwig.oncoact.patientreporter.cfreport.ReportViewModel;
 import com.hartwig.oncoact.patientreporter.cfreport.chapters.ReportChapter;
 import com.hartwig.oncoact.patientreporter.cfreport.components.InlineBarChart;
+import com.hartwig.oncoact.patientreporter.cfreport.components.ReportTable;
 import com.hartwig.oncoact.patientreporter.cfreport.components.TableUtil;
 import com.hartwig.oncoact.patientreporter.cfreport.data.GainsAndLosses;
 import com.hartwig.oncoact.patientreporter.cfreport.data.GeneDisruptions;
 import com.hartwig.oncoact.patientreporter.cfreport.data.GeneFusions;
 import com.hartwig.oncoact.patientreporter.cfreport.data.GeneUtil;
-import com.hartwig.oncoact.patientreporter.cfreport.data.HLAAllele;
-import com.hartwig.oncoact.patientreporter.cfreport.data.HomozygousDisruptions;
 import com.hartwig.oncoact.patientreporter.cfreport.data.LohGenes;
 import com.hartwig.oncoact.patientreporter.cfreport.data.Pharmacogenetics;
 import com.hartwig.oncoact.patientreporter.cfreport.data.SomaticVariants;
@@ -57,6 +57,9 @@ public class GenomicAlterationsChapter implements ReportChapter {
     @NotNull
     private final AnalysedPatientReport patientReport;
 
+    @NotNull
+    private final ReportViewModel viewModel;
+
     @NotNull
     private final ReportResources reportResources;
 
@@ -64,8 +67,10 @@ public class GenomicAlterationsChapter implements ReportChapter {
 
     private final GeneFusions geneFusions;
 
-    public GenomicAlterationsChapter(@NotNull final AnalysedPatientReport patientReport, @NotNull final ReportResources reportResources) {
+    public GenomicAlterationsChapter(@NotNull final AnalysedPatientReport patientReport, @NotNull final ReportViewModel viewModel,
+            @NotNull final ReportResources reportResources) {
         this.patientReport = patientReport;
+        this.viewModel = viewModel;
         this.reportResources = reportResources;
         this.tableUtil = new TableUtil(reportResources);
         this.geneFusions = new GeneFusions(reportResources);
@@ -92,15 +97,14 @@ public class GenomicAlterationsChapter implements ReportChapter {
                 genomicAnalysis.impliedPurity(),
                 hasReliablePurity));
 
-        reportDocument.add(createTumorVariantsTable(genomicAnalysis.reportableVariants(),
+        addTumorVariantsTable(reportDocument,
+                viewModel.sortedReportableVariants(),
                 genomicAnalysis.notifyGermlineStatusPerVariant(),
-                hasReliablePurity));
+                hasReliablePurity);
 
-        reportDocument.add(createGainsAndLossesTable(genomicAnalysis.gainsAndLosses(),
-                hasReliablePurity,
-                genomicAnalysis.cnPerChromosome()));
-        reportDocument.add(createFusionsTable(genomicAnalysis.geneFusions(), hasReliablePurity));
-        reportDocument.add(createHomozygousDisruptionsTable(genomicAnalysis.homozygousDisruptions()));
+        addGainsAndLossesTable(reportDocument, viewModel.sortedGainsAndLosses(), hasReliablePurity, genomicAnalysis.cnPerChromosome());
+        addFusionsTable(reportDocument, genomicAnalysis.geneFusions(), hasReliablePurity);
+        reportDocument.add(createHomozygousDisruptionsTable(viewModel.sortedHomozygousDisruptions()));
 
         if (genomicAnalysis.hrdStatus() == ChordStatus.HR_DEFICIENT) {
             reportDocument.add(createLOHTable(genomicAnalysis.suspectGeneCopyNumbersWithLOH(), "HRD"));
@@ -109,7 +113,7 @@ public class GenomicAlterationsChapter implements ReportChapter {
             reportDocument.add(createLOHTable(genomicAnalysis.suspectGeneCopyNumbersWithLOH(), "MSI"));
         }
 
-        reportDocument.add(createDisruptionsTable(genomicAnalysis.geneDisruptions(), hasReliablePurity));
+        addDisruptionsTable(reportDocument, genomicAnalysis.geneDisruptions(), hasReliablePurity);
         reportDocument.add(createVirusTable(genomicAnalysis.reportableViruses()));
         reportDocument.add(createPharmacogeneticsGenotypesTable(patientReport.pharmacogeneticsGenotypes()));
         reportDocument.add(createHlaTable(patientReport.hlaAllelesReportingData(), hasReliablePurity));
@@ -168,17 +172,19 @@ public class GenomicAlterationsChapter implements ReportChapter {
         }
     }
 
-    @NotNull
-    private Table createTumorVariantsTable(@NotNull List<ReportableVariant> reportableVariants,
+    private void addTumorVariantsTable(@NotNull Document document, @NotNull List<ReportableVariant> sortedReportableVariants,
             @NotNull Map<ReportableVariant, Boolean> notifyGermlineStatusPerVariant, boolean hasReliablePurity) {
         String title = "Tumor observed variants";
-        if (reportableVariants.isEmpty()) {
-            return tableUtil.createNoneReportTable(title, null, TableUtil.TABLE_BOTTOM_MARGIN, ReportResources.CONTENT_WIDTH_WIDE);
+        if (sortedReportableVariants.isEmpty()) {
+            document.add(tableUtil.createNoneReportTable(title, null, TableUtil.TABLE_BOTTOM_MARGIN, ReportResources.CONTENT_WIDTH_WIDE));
+            return;
         }
 
-        Table contentTable;
+        ReportTable.Builder contentTableBuilder = tableUtil.reportTableBuilder(title)
+                .contentWidth(ReportResources.CONTENT_WIDTH_WIDE)
+                .expectedRows(sortedReportableVariants.size());
         if (DISPLAY_CLONAL_COLUMN) {
-            contentTable = TableUtil.createReportContentTable(new float[] { 60, 70, 150, 60, 40, 30, 60, 60, 50, 50 },
+            contentTableBuilder.columns(new float[] { 60, 70, 150, 60, 40, 30, 60, 60, 50, 50 },
                     new Cell[] { tableUtil.createHeaderCell("Gene"), tableUtil.createHeaderCell("Position"),
                             tableUtil.createHeaderCell("Variant"),
                             tableUtil.createHeaderCell("Read depth").setTextAlignment(TextAlignment.CENTER),
@@ -187,10 +193,9 @@ public class GenomicAlterationsChapter implements ReportChapter {
                             tableUtil.createHeaderCell("Biallelic").setTextAlignment(TextAlignment.CENTER),
                             tableUtil.createHeaderCell("Hotspot").setTextAlignment(TextAlignment.CENTER),
                             tableUtil.createHeaderCell("Clonal").setTextAlignment(TextAlignment.CENTER),
-                            tableUtil.createHeaderCell("Driver").setTextAlignment(TextAlignment.CENTER) },
-                    ReportResources.CONTENT_WIDTH_WIDE);
+                            tableUtil.createHeaderCell("Driver").setTextAlignment(TextAlignment.CENTER) });
         } else {
-            contentTable = TableUtil.createReportContentTable(new float[] { 60, 70, 150, 60, 40, 30, 60, 60, 50 },
+            contentTableBuilder.columns(new float[] { 60, 70, 150, 60, 40, 30, 60, 60, 50 },
                     new Cell[] { tableUtil.createHeaderCell("Gene"), tableUtil.createHeaderCell("Position"),
                             tableUtil.createHeaderCell("Variant"),
                             tableUtil.createHeaderCell("Read depth").setTextAlignment(TextAlignment.CENTER),
@@ -198,11 +203,11 @@ public class GenomicAlterationsChapter implements ReportChapter {
                             tableUtil.createHeaderCell("tVAF").setTextAlignment(TextAlignment.CENTER),
                             tableUtil.createHeaderCell("Biallelic").setTextAlignment(TextAlignment.CENTER),
                             tableUtil.createHeaderCell("Hotspot").setTextAlignment(TextAlignment.CENTER),
-                            tableUtil.createHeaderCell("Driver").setTextAlignment(TextAlignment.CENTER) },
-                    ReportResources.CONTENT_WIDTH_WIDE);
+                            tableUtil.createHeaderCell("Driver").setTextAlignment(TextAlignment.CENTER) });
         }
 
-        for (ReportableVariant variant : SomaticVariants.sort(reportableVariants)) {
+        ReportTable contentTable = contentTableBuilder.start(document);
+        for (ReportableVariant variant : sortedReportableVariants) {
             List<String> annotationList = SomaticVariants.determineVariantAnnotations(variant.canonicalHgvsCodingImpact(),
                     variant.canonicalHgvsProteinImpact(),
                     variant.otherImpactClinical());
@@ -238,45 +243,47 @@ public class GenomicAlterationsChapter implements ReportChapter {
             }
             contentTable.addCell(tableUtil.createContentCellRowSpan(DriverInterpretation.display(variant.driverLikelihoodInterpretation()),
                     annotationSize)).setTextAlignment(TextAlignment.CENTER);
+            contentTable.endRow();
         }
 
-        contentTable.addCell(TableUtil.createLayoutCell(1, contentTable.getNumberOfColumns())
+        contentTable.addCell(TableUtil.createLayoutCell(1, contentTable.numberOfColumns())
                 .add(new Paragraph("\nVariant annotation is by default based on the canonical transcript. In case another transcript "
                         + "is more commonly used in routine practice, this annotation is also provided (bottom annotation).").addStyle(
                         reportResources.subTextStyle().setTextAlignment(TextAlignment.LEFT))));
 
         if (SomaticVariants.hasNotifiableGermlineVariant(notifyGermlineStatusPerVariant)) {
-            contentTable.addCell(TableUtil.createLayoutCell(1, contentTable.getNumberOfColumns())
+            contentTable.addCell(TableUtil.createLayoutCell(1, contentTable.numberOfColumns())
                     .add(new Paragraph("\n# Marked variant(s) are also present in the germline of the patient. Referral to a genetic "
                             + "specialist should be advised.").addStyle(reportResources.subTextStyle()
                             .setTextAlignment(TextAlignment.LEFT))));
         }
 
-        if (SomaticVariants.hasPhasedVariant(reportableVariants)) {
-            contentTable.addCell(TableUtil.createLayoutCell(1, contentTable.getNumberOfColumns())
+        if (SomaticVariants.hasPhasedVariant(sortedReportableVariants)) {
+            contentTable.addCell(TableUtil.createLayoutCell(1, contentTable.numberOfColumns())
                     .add(new Paragraph("\n+ Marked protein (p.) annotation is based on multiple phased variants.").addStyle(reportResources.subTextStyle()
                             .setTextAlignment(TextAlignment.LEFT))));
         }
 
-        return tableUtil.createWrappingReportTable(title, null, contentTable, TableUtil.TABLE_BOTTOM_MARGIN);
+        contentTable.complete();
     }
 
-    @NotNull
-    private Table createGainsAndLossesTable(@NotNull List<PurpleGainLoss> gainsAndLosses, boolean hasReliablePurity,
-            @NotNull List<CnPerChromosomeArmData> cnPerChromosome) {
+    private void addGainsAndLossesTable(@NotNull Document document, @NotNull List<PurpleGainLoss> sortedGainsAndLosses,
+            boolean hasReliablePurity, @NotNull List<CnPerChromosomeArmData> cnPerChromosome) {
         String title = "Tumor observed gains & losses";
-        if (gainsAndLosses.isEmpty()) {
-            return tableUtil.createNoneReportTable(title, null, TableUtil.TABLE_BOTTOM_MARGIN, ReportResources.CONTENT_WIDTH_WIDE);
+        if (sortedGainsAndLosses.isEmpty()) {
+            document.add(tableUtil.createNoneReportTable(title, null, TableUtil.TABLE_BOTTOM_MARGIN, ReportResources.CONTENT_WIDTH_WIDE));
+            return;
         }
 
-        Table contentTable = TableUtil.createReportContentTable(new float[] { 80, 80, 100, 80, 60, 60, 150 },
+        ReportTable contentTable = tableUtil.reportTableBuilder(title).columns(new float[] { 80, 80, 100, 80, 60, 60, 150 },
                 new Cell[] { tableUtil.createHeaderCell("Chromosome"), tableUtil.createHeaderCell("Region"),
                         tableUtil.createHeaderCell("Gene"), tableUtil.createHeaderCell("Type"), tableUtil.createHeaderCell("min copies"),
                         tableUtil.createHeaderCell("max copies"),
-                        tableUtil.createHeaderCell("Chromosome arm copies").setTextAlignment(TextAlignment.CENTER) },
-                ReportResources.CONTENT_WIDTH_WIDE);
+                        tableUtil.createHeaderCell("Chromosome arm copies").setTextAlignment(TextAlignment.CENTER) })
+                .contentWidth(ReportResources.CONTENT_WIDTH_WIDE)
+                .expectedRows(sortedGainsAndLosses.size())
+                .start(document);
 
-        List<PurpleGainLoss> sortedGainsAndLosses = GainsAndLosses.sort(gainsAndLosses);
         for (PurpleGainLoss gainLoss : sortedGainsAndLosses) {
             contentTable.addCell(tableUtil.createContentCell(gainLoss.chromosome()));
             contentTable.addCell(tableUtil.createContentCell(gainLoss.chromosomeBand()));
@@ -288,16 +295,17 @@ public class GenomicAlterationsChapter implements ReportChapter {
                     .setTextAlignment(TextAlignment.CENTER));
             contentTable.addCell(tableUtil.createContentCell(GainsAndLosses.chromosomeArmCopyNumber(cnPerChromosome, gainLoss))
                     .setTextAlignment(TextAlignment.CENTER));
+            contentTable.endRow();
         }
 
-        return tableUtil.createWrappingReportTable(title, null, contentTable, TableUtil.TABLE_BOTTOM_MARGIN);
+        contentTable.complete();
     }
 
     @NotNull
-    private Table createHomozygousDisruptionsTable(@NotNull List<HomozygousDisruption> homozygousDisruptions) {
+    private Table createHomozygousDisruptionsTable(@NotNull List<HomozygousDisruption> sortedHomozygousDisruptions) {
         String title = "Tumor observed homozygous disruptions";
         String subtitle = "Complete loss of wild type allele";
-        if (homozygousDisruptions.isEmpty()) {
+        if (sortedHomozygousDisruptions.isEmpty()) {
             return tableUtil.createNoneReportTable(title, subtitle, TableUtil.TABLE_BOTTOM_MARGIN, ReportResources.CONTENT_WIDTH_WIDE);
         }
 
@@ -306,7 +314,7 @@ public class GenomicAlterationsChapter implements ReportChapter {
                         tableUtil.createHeaderCell("Gene") },
                 ReportResources.CONTENT_WIDTH_WIDE);
 
-        for (HomozygousDisruption homozygousDisruption : HomozygousDisruptions.sort(homozygousDisruptions)) {
+        for (HomozygousDisruption homozygousDisruption : sortedHomozygousDisruptions) {
             contentTable.addCell(tableUtil.createContentCell(homozygousDisruption.chromosome()));
             contentTable.addCell(tableUtil.createContentCell(homozygousDisruption.chromosomeBand()));
             contentTable.addCell(tableUtil.createContentCell(homozygousDisruption.gene()));
@@ -346,22 +354,24 @@ public class GenomicAlterationsChapter implements ReportChapter {
         return tableUtil.createWrappingReportTable(title, null, table, TableUtil.TABLE_BOTTOM_MARGIN);
     }
 
-    @NotNull
-    private Table createFusionsTable(@NotNull List<LinxFusion> fusions, boolean hasReliablePurity) {
+    private void addFusionsTable(@NotNull Document document, @NotNull List<LinxFusion> fusions, boolean hasReliablePurity) {
         String title = "Tumor observed gene fusions";
         if (fusions.isEmpty()) {
-            return tableUtil.createNoneReportTable(title, null, TableUtil.TABLE_BOTTOM_MARGIN, ReportResources.CONTENT_WIDTH_WIDE);
+            document.add(tableUtil.createNoneReportTable(title, null, TableUtil.TABLE_BOTTOM_MARGIN, ReportResources.CONTENT_WIDTH_WIDE));
+            return;
         }
 
-        Table contentTable = TableUtil.createReportContentTable(new float[] { 80, 70, 80, 80, 40, 40, 40, 65, 40 },
+        ReportTable contentTable = tableUtil.reportTableBuilder(title).columns(new float[] { 80, 70, 80, 80, 40, 40, 40, 65, 40 },
                 new Cell[] { tableUtil.createHeaderCell("Fusion"),
                         tableUtil.createHeaderCell("Type").setTextAlignment(TextAlignment.CENTER),
                         tableUtil.createHeaderCell("5' Transcript"), tableUtil.createHeaderCell("3' Transcript"),
                         tableUtil.createHeaderCell("5' End"), tableUtil.createHeaderCell("3' Start"),
                         tableUtil.createHeaderCell("Copies").setTextAlignment(TextAlignment.CENTER),
                         tableUtil.createHeaderCell("Phasing").setTextAlignment(TextAlignment.CENTER),
-                        tableUtil.createHeaderCell("Driver").setTextAlignment(TextAlignment.CENTER) },
-                ReportResources.CONTENT_WIDTH_WIDE);
+                        tableUtil.createHeaderCell("Driver").setTextAlignment(TextAlignment.CENTER) })
+                .contentWidth(ReportResources.CONTENT_WIDTH_WIDE)
+                .expectedRows(fusions.size())
+                .start(document);
 
         for (LinxFusion fusion : GeneFusions.sort(fusions)) {
             contentTable.addCell(tableUtil.createContentCell(GeneFusions.name(fusion)));
@@ -374,26 +384,29 @@ public class GenomicAlterationsChapter implements ReportChapter {
                     .setTextAlignment(TextAlignment.CENTER));
             contentTable.addCell(tableUtil.createContentCell(GeneFusions.phased(fusion)).setTextAlignment(TextAlignment.CENTER));
             contentTable.addCell(tableUtil.createContentCell(GeneFusions.likelihood(fusion)).setTextAlignment(TextAlignment.CENTER));
+            contentTable.endRow();
         }
 
-        return tableUtil.createWrappingReportTable(title, null, contentTable, TableUtil.TABLE_BOTTOM_MARGIN);
+        contentTable.complete();
     }
 
-    @NotNull
-    private Table createDisruptionsTable(@NotNull List<GeneDisruption> disruptions, boolean hasReliablePurity) {
+    private void addDisruptionsTable(@NotNull Document document, @NotNull List<GeneDisruption> disruptions, boolean hasReliablePurity) {
         String title = "Tumor observed gene disruptions";
         if (disruptions.isEmpty()) {
-            return tableUtil.createNoneReportTable(title, null, TableUtil.TABLE_BOTTOM_MARGIN, ReportResources.CONTENT_WIDTH_WIDE);
+            document.add(tableUtil.createNoneReportTable(title, null, TableUtil.TABLE_BOTTOM_MARGIN, ReportResources.CONTENT_WIDTH_WIDE));
+            return;
         }
 
-        Table contentTable = TableUtil.createReportContentTable(new float[] { 60, 50, 100, 50, 80, 85, 85 },
+        ReportTable contentTable = tableUtil.reportTableBuilder(title).columns(new float[] { 60, 50, 100, 50, 80, 85, 85 },
                 new Cell[] { tableUtil.createHeaderCell("Location"), tableUtil.createHeaderCell("Gene"),
                         tableUtil.createHeaderCell("Disrupted range"),
                         tableUtil.createHeaderCell("Type").setTextAlignment(TextAlignment.CENTER),
                         tableUtil.createHeaderCell("Cluster ID").setTextAlignment(TextAlignment.CENTER),
                         tableUtil.createHeaderCell("Disrupted copies").setTextAlignment(TextAlignment.CENTER),
-                        tableUtil.createHeaderCell("Undisrupted copies").setTextAlignment(TextAlignment.CENTER) },
-                ReportResources.CONTENT_WIDTH_WIDE);
+                        tableUtil.createHeaderCell("Undisrupted copies").setTextAlignment(TextAlignment.CENTER) })
+                .contentWidth(ReportResources.CONTENT_WIDTH_WIDE)
+                .expectedRows(disruptions.size())
+                .start(document);
 
         for (GeneDisruption disruption : GeneDisruptions.sort(disruptions)) {
             contentTable.addCell(tableUtil.createContentCell(disruption.location()));
@@ -406,8 +419,10 @@ public class GenomicAlterationsChapter implements ReportChapter {
                     .setTextAlignment(TextAlignment.CENTER));
             contentTable.addCell(tableUtil.createContentCell(GeneUtil.roundCopyNumber(disruption.undisruptedCopyNumber(),
                     hasReliablePurity)).setTextAlignment(TextAlignment.CENTER));
+            contentTable.endRow();
         }
-        return tableUtil.createWrappingReportTable(title, null, contentTable, TableUtil.TABLE_BOTTOM_MARGIN);
+
+        contentTable.complete();
     }
 
     @NotNull
@@ -428,10 +443,8 @@ public class GenomicAlterationsChapter implements ReportChapter {
         } else if (lilac.hlaAllelesReporting().isEmpty()) {
             return tableUtil.createNoneReportTable(title, null, TableUtil.TABLE_BOTTOM_MARGIN, ReportResources.CONTENT_WIDTH_WIDE);
         } else {
-            Set<String> sortedAlleles = Sets.newTreeSet(lilac.hlaAllelesReporting().keySet());
-            for (String sortAllele : sortedAlleles) {
-                List<HlaReporting> allele = lilac.hlaAllelesReporting().get(sortAllele);
-                table.addCell(tableUtil.createContentCell(sortAllele));
+            for (Map.Entry<String, List<HlaReporting>> allele : lilac.hlaAllelesReporting().entrySet()) {
+                table.addCell(tableUtil.createContentCell(allele.getKey()));
 
                 Table tableGermlineAllele = new Table(new float[] { 1 });
                 Table tableGermlineCopies = new Table(new float[] { 1 });
@@ -439,7 +452,7 @@ public class GenomicAlterationsChapter implements ReportChapter {
                 Table tableSomaticMutations = new Table(new float[] { 1 });
                 Table tablePresenceInTumor = new Table(new float[] { 1 });
 
-                for (HlaReporting hlaAlleleReporting : HLAAllele.sort(allele)) {
+                for (HlaReporting hlaAlleleReporting : allele.getValue()) {
                     tableGermlineAllele.addCell(tableUtil.createTransparentCell(hlaAlleleReporting.hlaAllele().germlineAllele()));
                     tableGermlineCopies.addCell(tableUtil.createTransparentCell(GeneUtil.roundCopyNumber(hlaAlleleReporting.germlineCopies(),
                             hasReliablePurity)));
@@ -2,6 +2,7 @@ package com.hartwig.oncoact.patientreporter.cfreport.chapters.analysed;
 
 import java.text.DecimalFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
 
@@ -22,7 +23,6 @@ import com.hartwig.oncoact.patientreporter.cfreport.components.TableUtil;
 import com.hartwig.oncoact.patientreporter.cfreport.components.TumorLocationAndTypeTable;
 import com.hartwig.oncoact.patientreporter.cfreport.data.GainsAndLosses;
 import com.hartwig.oncoact.patientreporter.cfreport.data.GeneFusions;
-import com.hartwig.oncoact.patientreporter.cfreport.data.HLAAllele;
 import com.hartwig.oncoact.patientreporter.cfreport.data.HomozygousDisruptions;
 import com.hartwig.oncoact.patientreporter.cfreport.data.SomaticVariants;
 import com.hartwig.oncoact.patientreporter.cfreport.data.TumorPurity;
@@ -44,7 +44,8 @@ import org.jetbrains.annotations.Nullable;
 public class SummaryChapter implements ReportChapter {
 
     private static final float TABLE_SPACER_HEIGHT = 5;
-    private static final DecimalFormat SINGLE_DECIMAL_FORMAT = ReportResources.decimalFormat("#.#");
+    private static final ThreadLocal<DecimalFormat> SINGLE_DECIMAL_FORMAT =
+            ThreadLocal.withInitial(() -> ReportResources.decimalFormat("#.#"));
 
     @NotNull
     private final AnalysedPatientReport patientReport;
@@ -207,7 +208,7 @@ public class SummaryChapter implements ReportChapter {
 
         String eligible = analysis().tumorMutationalBurdenStatus().display();
         String mutationalBurdenString = hasReliablePurity
-                ? eligible + " (" + SINGLE_DECIMAL_FORMAT.format(analysis().tumorMutationalBurden()) + ")"
+                ? eligible + " (" + SINGLE_DECIMAL_FORMAT.get().format(analysis().tumorMutationalBurden()) + ")"
                 : Formats.NA_STRING;
 
         table.addCell(createMiddleAlignedCell().setVerticalAlignment(VerticalAlignment.TOP)
@@ -215,7 +216,7 @@ public class SummaryChapter implements ReportChapter {
         table.addCell(createMiddleAlignedCell(2).add(createHighlightParagraph(mutationalBurdenString).addStyle(dataStyle)));
 
         String microSatelliteStabilityString = hasReliablePurity ? analysis().microsatelliteStatus().name() + " ("
-                + SINGLE_DECIMAL_FORMAT.format(analysis().microsatelliteIndelsPerMb()) + ")" : Formats.NA_STRING;
+                + SINGLE_DECIMAL_FORMAT.get().format(analysis().microsatelliteIndelsPerMb()) + ")" : Formats.NA_STRING;
         table.addCell(createMiddleAlignedCell().setVerticalAlignment(VerticalAlignment.TOP)
                 .add(new Paragraph("Microsatellite status").addStyle(reportResources.bodyTextStyle())));
         table.addCell(createMiddleAlignedCell(2).add(createHighlightParagraph(microSatelliteStabilityString).addStyle(dataStyle)));
@@ -225,7 +226,7 @@ public class SummaryChapter implements ReportChapter {
 
         if (hasReliablePurity && (ChordStatus.HR_DEFICIENT == analysis().hrdStatus()
                 || ChordStatus.HR_PROFICIENT == analysis().hrdStatus())) {
-            hrdString = analysis().hrdStatus().display() + " (" + SINGLE_DECIMAL_FORMAT.format(analysis().hrdValue()) + ")";
+            hrdString = analysis().hrdStatus().display() + " (" + SINGLE_DECIMAL_FORMAT.get().format(analysis().hrdValue()) + ")";
             hrdStyle = reportResources.dataHighlightStyle();
         } else {
             hrdString = Formats.NA_STRING;
@@ -397,16 +398,13 @@ public class SummaryChapter implements ReportChapter {
                     new Cell[] { tableUtil.createHeaderCell("Gene"), tableUtil.createHeaderCell("Germline allele") },
                     ReportResources.CONTENT_WIDTH_WIDE_SUMMARY_RIGHT);
 
-            Set<String> sortedAlleles = Sets.newTreeSet(patientReport.hlaAllelesReportingData().hlaAllelesReporting().keySet());
-            for (String sortAllele : sortedAlleles) {
-                List<HlaReporting> allele = patientReport.hlaAllelesReportingData().hlaAllelesReporting().get(sortAllele);
+            for (Map.Entry<String, List<HlaReporting>> allele : patientReport.hlaAllelesReportingData().hlaAllelesReporting().entrySet()) {
+                Set<String> germlineAllele = Sets.newLinkedHashSet();
 
-                Set<String> germlineAllele = Sets.newHashSet();
-
-                for (HlaReporting hlaReporting : HLAAllele.sort(allele)) {
+                for (HlaReporting hlaReporting : allele.getValue()) {
                     germlineAllele.add(hlaReporting.hlaAllele().germlineAllele());
                 }
-                table.addCell(tableUtil.createContentCell(sortAllele));
+                table.addCell(tableUtil.createContentCell(allele.getKey()));
                 table.addCell(tableUtil.createContentCell(concat(germlineAllele)));
             }
 
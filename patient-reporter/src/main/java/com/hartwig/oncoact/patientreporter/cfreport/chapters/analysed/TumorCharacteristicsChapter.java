@@ -21,7 +21,6 @@ import com.hartwig.oncoact.patientreporter.cfreport.data.MutationalBurden;
 import com.hartwig.oncoact.patientreporter.cfreport.data.MutationalLoad;
 import com.hartwig.oncoact.util.Formats;
 import com.itextpdf.io.IOException;
-import com.itextpdf.io.image.ImageDataFactory;
 import com.itextpdf.layout.Document;
 import com.itextpdf.layout.element.Div;
 import com.itextpdf.layout.element.Image;
@@ -36,10 +35,12 @@ import org.jetbrains.annotations.NotNull;
 
 public class TumorCharacteristicsChapter implements ReportChapter {
 
+    private static final float CUPPA_PLOT_MAX_HEIGHT = 250;
     private static final float TABLE_SPACER_HEIGHT = 30;
 
-    private static final DecimalFormat NO_DECIMAL_FORMAT = ReportResources.decimalFormat("#");
-    private static final DecimalFormat SINGLE_DECIMAL_FORMAT = ReportResources.decimalFormat("#.#");
+    private static final ThreadLocal<DecimalFormat> NO_DECIMAL_FORMAT = ThreadLocal.withInitial(() -> ReportResources.decimalFormat("#"));
+    private static final ThreadLocal<DecimalFormat> SINGLE_DECIMAL_FORMAT =
+            ThreadLocal.withInitial(() -> ReportResources.decimalFormat("#.#"));
 
     @NotNull
     private final AnalysedPatientReport patientReport;
@@ -79,7 +80,7 @@ public class TumorCharacteristicsChapter implements ReportChapter {
 
         boolean hasReliablePurity = genomicAnalysis.hasReliablePurity();
         String hrDeficiencyLabel =
-                hasReliablePurity ? chordStatusString(hrdStatus) + " " + SINGLE_DECIMAL_FORMAT.format(hrdValue) : Formats.NA_STRING;
+                hasReliablePurity ? chordStatusString(hrdStatus) + " " + SINGLE_DECIMAL_FORMAT.get().format(hrdValue) : Formats.NA_STRING;
 
         String hrdUnreliableFootnote =
                 "* Homologous recombination score can not be determined reliably when a tumor is microsatellite unstable "
@@ -95,9 +96,10 @@ public class TumorCharacteristicsChapter implements ReportChapter {
         // We subtract 0.0001 from the minimum to allow visualization of a HR-score of exactly 0.
         BarChart hrChart = new BarChart(hrdValue, HrDeficiency.RANGE_MIN - 0.0001, HrDeficiency.RANGE_MAX, false, reportResources);
         hrChart.enabled(hasReliablePurity && isHrdReliable);
-        hrChart.setTickMarks(HrDeficiency.RANGE_MIN, HrDeficiency.RANGE_MAX, 0.1, SINGLE_DECIMAL_FORMAT);
+        hrChart.setTickMarks(HrDeficiency.RANGE_MIN, HrDeficiency.RANGE_MAX, 0.1, SINGLE_DECIMAL_FORMAT.get());
 
-        hrChart.setIndicator(HrDeficiency.HRD_THRESHOLD, "HR Deficient (" + SINGLE_DECIMAL_FORMAT.format(HrDeficiency.HRD_THRESHOLD) + ")");
+        hrChart.setIndicator(HrDeficiency.HRD_THRESHOLD,
+                "HR Deficient (" + SINGLE_DECIMAL_FORMAT.get().format(HrDeficiency.HRD_THRESHOLD) + ")");
 
         reportDocument.add(createCharacteristicDiv("Homologous recombination status",
                 hrDeficiencyLabel,
@@ -114,8 +116,8 @@ public class TumorCharacteristicsChapter implements ReportChapter {
         boolean hasReliablePurity = genomicAnalysis.hasReliablePurity();
         double microSatelliteStability = genomicAnalysis.microsatelliteIndelsPerMb();
         String microSatelliteStabilityString =
-                hasReliablePurity ? microsatelliteStatusString(genomicAnalysis.microsatelliteStatus()) + " " + SINGLE_DECIMAL_FORMAT.format(
-                        genomicAnalysis.microsatelliteIndelsPerMb()) : Formats.NA_STRING;
+                hasReliablePurity ? microsatelliteStatusString(genomicAnalysis.microsatelliteStatus()) + " "
+                        + SINGLE_DECIMAL_FORMAT.get().format(genomicAnalysis.microsatelliteIndelsPerMb()) : Formats.NA_STRING;
 
         BarChart satelliteChart = new BarChart(microSatelliteStability,
                 MicrosatelliteStatus.RANGE_MIN,
@@ -125,11 +127,11 @@ public class TumorCharacteristicsChapter implements ReportChapter {
         satelliteChart.enabled(hasReliablePurity);
         satelliteChart.scale(InlineBarChart.LOG10_SCALE);
         satelliteChart.setTickMarks(new double[] { MicrosatelliteStatus.RANGE_MIN, 10, MicrosatelliteStatus.RANGE_MAX },
-                SINGLE_DECIMAL_FORMAT);
-        satelliteChart.enableUndershoot(NO_DECIMAL_FORMAT.format(0));
-        satelliteChart.enableOvershoot(">" + NO_DECIMAL_FORMAT.format(satelliteChart.max()));
+                SINGLE_DECIMAL_FORMAT.get());
+        satelliteChart.enableUndershoot(NO_DECIMAL_FORMAT.get().format(0));
+        satelliteChart.enableOvershoot(">" + NO_DECIMAL_FORMAT.get().format(satelliteChart.max()));
         satelliteChart.setIndicator(MicrosatelliteStatus.THRESHOLD,
-                "Microsatellite \ninstable (" + SINGLE_DECIMAL_FORMAT.format(MicrosatelliteStatus.THRESHOLD) + ")");
+                "Microsatellite \ninstable (" + SINGLE_DECIMAL_FORMAT.get().format(MicrosatelliteStatus.THRESHOLD) + ")");
         reportDocument.add(createCharacteristicDiv("Microsatellite status",
                 microSatelliteStabilityString,
                 "The microsatellite stability score represents the number of somatic insertions and deletions in (short) "
@@ -147,14 +149,15 @@ public class TumorCharacteristicsChapter implements ReportChapter {
         boolean hasReliablePurity = genomicAnalysis.hasReliablePurity();
         int mutationalLoad = genomicAnalysis.tumorMutationalLoad();
 
-        String mutationalLoadString = hasReliablePurity ? NO_DECIMAL_FORMAT.format(mutationalLoad) : Formats.NA_STRING;
+        String mutationalLoadString = hasReliablePurity ? NO_DECIMAL_FORMAT.get().format(mutationalLoad) : Formats.NA_STRING;
         BarChart mutationalLoadChart =
                 new BarChart(mutationalLoad, MutationalLoad.RANGE_MIN, MutationalLoad.RANGE_MAX, false, reportResources);
         mutationalLoadChart.enabled(hasReliablePurity);
         mutationalLoadChart.scale(InlineBarChart.LOG10_SCALE);
-        mutationalLoadChart.setTickMarks(new double[] { MutationalLoad.RANGE_MIN, 10, 100, MutationalLoad.RANGE_MAX }, NO_DECIMAL_FORMAT);
-        mutationalLoadChart.enableUndershoot(NO_DECIMAL_FORMAT.format(0));
-        mutationalLoadChart.enableOvershoot(">" + NO_DECIMAL_FORMAT.format(mutationalLoadChart.max()));
+        mutationalLoadChart.setTickMarks(new double[] { MutationalLoad.RANGE_MIN, 10, 100, MutationalLoad.RANGE_MAX },
+                NO_DECIMAL_FORMAT.get());
+        mutationalLoadChart.enableUndershoot(NO_DECIMAL_FORMAT.get().format(0));
+        mutationalLoadChart.enableOvershoot(">" + NO_DECIMAL_FORMAT.get().format(mutationalLoadChart.max()));
 
         reportDocument.add(createCharacteristicDiv("Tumor mutational load",
                 mutationalLoadString,
@@ -173,17 +176,17 @@ public class TumorCharacteristicsChapter implements ReportChapter {
         String tmbStatus = tumorMutationalBurdenString(genomicAnalysis.tumorMutationalBurdenStatus());
 
         String mutationalBurdenString =
-                hasReliablePurity ? tmbStatus + " " + SINGLE_DECIMAL_FORMAT.format(mutationalBurden) : Formats.NA_STRING;
+                hasReliablePurity ? tmbStatus + " " + SINGLE_DECIMAL_FORMAT.get().format(mutationalBurden) : Formats.NA_STRING;
         BarChart mutationalBurdenChart =
                 new BarChart(mutationalBurden, MutationalBurden.RANGE_MIN, MutationalBurden.RANGE_MAX, false, reportResources);
         mutationalBurdenChart.enabled(hasReliablePurity);
         mutationalBurdenChart.scale(InlineBarChart.LOG10_SCALE);
         mutationalBurdenChart.setTickMarks(new double[] { MutationalBurden.RANGE_MIN, 10, MutationalBurden.RANGE_MAX },
-                SINGLE_DECIMAL_FORMAT);
-        mutationalBurdenChart.enableUndershoot(NO_DECIMAL_FORMAT.format(0));
-        mutationalBurdenChart.enableOvershoot(">" + SINGLE_DECIMAL_FORMAT.format(mutationalBurdenChart.max()));
+                SINGLE_DECIMAL_FORMAT.get());
+        mutationalBurdenChart.enableUndershoot(NO_DECIMAL_FORMAT.get().format(0));
+        mutationalBurdenChart.enableOvershoot(">" + SINGLE_DECIMAL_FORMAT.get().format(mutationalBurdenChart.max()));
         mutationalBurdenChart.setIndicator(MutationalBurden.THRESHOLD,
-                "High (" + NO_DECIMAL_FORMAT.format(MutationalBurden.THRESHOLD) + ")");
+                "High (" + NO_DECIMAL_FORMAT.get().format(MutationalBurden.THRESHOLD) + ")");
 
         reportDocument.add(createCharacteristicDiv("Tumor mutational burden",
                 mutationalBurdenString,
@@ -222,8 +225,8 @@ public class TumorCharacteristicsChapter implements ReportChapter {
 
                 try {
                     reportDocument.add(createCharacteristicDiv("")); // For better display plot
-                    Image circosImage = new Image(ImageDataFactory.create(cuppaPlot));
-                    circosImage.setMaxHeight(250);
+                    Image circosImage = new Image(reportResources.plotImage(cuppaPlot, CUPPA_PLOT_MAX_HEIGHT));
+                    circosImage.setMaxHeight(CUPPA_PLOT_MAX_HEIGHT);
                     circosImage.setHorizontalAlignment(HorizontalAlignment.CENTER);
                     circosImage.setMarginBottom(8);
                     reportDocument.add(circosImage);
@@ -3,7 +3,6 @@ package com.hartwig.oncoact.patientreporter.cfreport.chapters.failed;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import com.google.common.collect.Sets;
 import com.hartwig.hmftools.datamodel.peach.PeachGenotype;
@@ -12,7 +11,6 @@ import com.hartwig.oncoact.hla.HlaReporting;
 import com.hartwig.oncoact.patientreporter.cfreport.ReportResources;
 import com.hartwig.oncoact.patientreporter.cfreport.chapters.ReportChapter;
 import com.hartwig.oncoact.patientreporter.cfreport.components.TableUtil;
-import com.hartwig.oncoact.patientreporter.cfreport.data.HLAAllele;
 import com.hartwig.oncoact.patientreporter.cfreport.data.Pharmacogenetics;
 import com.hartwig.oncoact.patientreporter.qcfail.QCFailReport;
 import com.itextpdf.kernel.pdf.action.PdfAction;
@@ -113,15 +111,13 @@ public class QCFailPGXChapter implements ReportChapter {
         } else if (lilac.hlaAllelesReporting().isEmpty()) {
             return tableUtil.createNoneReportTable(title, null, TableUtil.TABLE_BOTTOM_MARGIN, ReportResources.CONTENT_WIDTH_WIDE_SMALL);
         } else {
-            Set<String> sortedAlleles = Sets.newTreeSet(lilac.hlaAllelesReporting().keySet().stream().collect(Collectors.toSet()));
-            for (String sortAllele : sortedAlleles) {
-                List<HlaReporting> allele = lilac.hlaAllelesReporting().get(sortAllele);
-                table.addCell(tableUtil.createContentCell(sortAllele));
+            for (Map.Entry<String, List<HlaReporting>> allele : lilac.hlaAllelesReporting().entrySet()) {
+                table.addCell(tableUtil.createContentCell(allele.getKey()));
 
                 Table tableGermlineAllele = new Table(new float[] { 1 });
                 Table tableGermlineCopies = new Table(new float[] { 1 });
 
-                for (HlaReporting hlaAlleleReporting : HLAAllele.sort(allele)) {
+                for (HlaReporting hlaAlleleReporting : allele.getValue()) {
                     tableGermlineAllele.addCell(tableUtil.createTransparentCell(hlaAlleleReporting.hlaAllele().germlineAllele()));
                     tableGermlineCopies.addCell(tableUtil.createTransparentCell(String.valueOf(Math.round(hlaAlleleReporting.germlineCopies()))));
                 }
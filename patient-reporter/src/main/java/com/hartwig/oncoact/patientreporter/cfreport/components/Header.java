@@ -5,8 +5,6 @@ import java.util.List;
 
 import com.google.common.collect.Lists;
 import com.hartwig.oncoact.patientreporter.cfreport.ReportResources;
-import com.itextpdf.io.image.ImageData;
-import com.itextpdf.io.image.ImageDataFactory;
 import com.itextpdf.kernel.geom.Rectangle;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfPage;
@@ -33,13 +31,13 @@ public class Header {
     private final ReportResources reportResources;
 
     public Header(@NotNull String logoCompanyPath, @NotNull ReportResources reportResources) {
-        ImageData companyLogoImage = null;
+        PdfImageXObject companyLogoImage = null;
         try {
-            companyLogoImage = ImageDataFactory.create(logoCompanyPath);
+            companyLogoImage = reportResources.image(logoCompanyPath);
         } catch (MalformedURLException e) {
             LOGGER.warn("Could not load company logo image from {}", logoCompanyPath);
         }
-        companyLogoObj = companyLogoImage != null ? new PdfImageXObject(companyLogoImage) : null;
+        companyLogoObj = companyLogoImage;
         this.reportResources = reportResources;
     }
 
@@ -4,7 +4,6 @@ import java.net.MalformedURLException;
 
 import com.hartwig.oncoact.patientreporter.cfreport.ReportResources;
 import com.itextpdf.io.IOException;
-import com.itextpdf.io.image.ImageDataFactory;
 import com.itextpdf.layout.element.Div;
 import com.itextpdf.layout.element.Image;
 import com.itextpdf.layout.element.Paragraph;
@@ -37,7 +36,7 @@ public final class ReportSignature {
         div.setMarginTop(40);
 
         try {
-            Image rvaLogo = new Image(ImageDataFactory.create(rvaLogoPath));
+            Image rvaLogo = new Image(reportResources.image(rvaLogoPath));
             rvaLogo.setMaxHeight(58);
             div.add(rvaLogo);
         } catch (MalformedURLException e) {
@@ -52,7 +51,7 @@ public final class ReportSignature {
         div.add(signatureText);
 
         try {
-            Image signatureImage = new Image(ImageDataFactory.create(signaturePath));
+            Image signatureImage = new Image(reportResources.image(signaturePath));
             signatureImage.setMaxHeight(60);
             signatureImage.setMarginTop(-20); // Set negative margin so the signature slightly overlaps the signature text
             signatureImage.setMarginLeft(10);
@@ -78,7 +77,7 @@ public final class ReportSignature {
         div.add(signatureText);
 
         try {
-            Image signatureImage = new Image(ImageDataFactory.create(signaturePath));
+            Image signatureImage = new Image(reportResources.image(signaturePath));
             signatureImage.setMaxHeight(60);
             signatureImage.setMarginTop(-20); // Set negative margin so the signature slightly overlaps the signature text
             signatureImage.setMarginLeft(10);
@@ -0,0 +1,168 @@
+package com.hartwig.oncoact.patientreporter.cfreport.components;
+
+import com.hartwig.oncoact.patientreporter.cfreport.ReportResources;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Cell;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.property.TextAlignment;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A titled report table that is written to the document while it is being filled. Small tables are wrapped exactly like
+ * {@link TableUtil#createWrappingReportTable} once complete. Tables with many rows use iText's large-table mode instead: the table is
+ * added to the document up front and its rows are flushed in batches, so layout happens incrementally rather than once over all rows.
+ */
+public final class ReportTable {
+
+    public static final int LARGE_TABLE_ROW_THRESHOLD = 100;
+    static final int FLUSH_ROW_INTERVAL = 25;
+
+    @NotNull
+    private final TableUtil tableUtil;
+    @NotNull
+    private final Document document;
+    @NotNull
+    private final String title;
+    @Nullable
+    private final String subtitle;
+    @NotNull
+    private final Table contentTable;
+    private final float tableBottomMargin;
+    private final boolean largeTable;
+
+    private int rowsSinceFlush = 0;
+
+    private ReportTable(@NotNull TableUtil tableUtil, @NotNull Document document, @NotNull String title, @Nullable String subtitle,
+            @NotNull Table contentTable, float tableBottomMargin, boolean largeTable) {
+        this.tableUtil = tableUtil;
+        this.document = document;
+        this.title = title;
+        this.subtitle = subtitle;
+        this.contentTable = contentTable;
+        this.tableBottomMargin = tableBottomMargin;
+        this.largeTable = largeTable;
+    }
+
+    public boolean isLargeTable() {
+        return largeTable;
+    }
+
+    public int numberOfColumns() {
+        return contentTable.getNumberOfColumns();
+    }
+
+    @NotNull
+    public ReportTable addCell(@NotNull Cell cell) {
+        contentTable.addCell(cell);
+        return this;
+    }
+
+    @NotNull
+    public ReportTable setTextAlignment(@NotNull TextAlignment alignment) {
+        contentTable.setTextAlignment(alignment);
+        return this;
+    }
+
+    /**
+     * Marks the end of a logical row, which may span several table rows when cells use a row span. Large tables are only flushed at
+     * these boundaries so that row-spanning cells are never split between flushes.
+     */
+    public void endRow() {
+        rowsSinceFlush++;
+        if (largeTable && rowsSinceFlush >= FLUSH_ROW_INTERVAL) {
+            contentTable.flush();
+            rowsSinceFlush = 0;
+        }
+    }
+
+    public void complete() {
+        if (largeTable) {
+            contentTable.complete();
+        } else {
+            document.add(tableUtil.createWrappingReportTable(title, subtitle, contentTable, tableBottomMargin));
+        }
+    }
+
+    @NotNull
+    private ReportTable start(@NotNull ReportResources reportResources) {
+        if (largeTable) {
+            Paragraph titleParagraph = new Paragraph(title).addStyle(reportResources.sectionTitleStyle()).setKeepWithNext(true);
+            document.add(titleParagraph);
+            if (subtitle != null) {
+                document.add(new Paragraph(subtitle).addStyle(reportResources.sectionSubTitleStyle()).setKeepWithNext(true));
+            }
+
+            tableUtil.addContinuationFooter(contentTable);
+            contentTable.setMarginBottom(tableBottomMargin);
+            document.add(contentTable);
+        }
+        return this;
+    }
+
+    public static final class Builder {
+
+        @NotNull
+        private final TableUtil tableUtil;
+        @NotNull
+        private final ReportResources reportResources;
+        @NotNull
+        private final String title;
+        @Nullable
+        private String subtitle;
+        @NotNull
+        private float[] columnPercentageWidths = new float[] { 1 };
+        @NotNull
+        private Cell[] headerCells = new Cell[] {};
+        private float contentWidth = ReportResources.CONTENT_WIDTH_WIDE;
+        private float tableBottomMargin = TableUtil.TABLE_BOTTOM_MARGIN;
+        private int expectedRows = 0;
+
+        Builder(@NotNull TableUtil tableUtil, @NotNull ReportResources reportResources, @NotNull String title) {
+            this.tableUtil = tableUtil;
+            this.reportResources = reportResources;
+            this.title = title;
+        }
+
+        @NotNull
+        public Builder subtitle(@Nullable String subtitle) {
+            this.subtitle = subtitle;
+            return this;
+        }
+
+        @NotNull
+        public Builder columns(@NotNull float[] columnPercentageWidths, @NotNull Cell[] headerCells) {
+            this.columnPercentageWidths = columnPercentageWidths;
+            this.headerCells = headerCells;
+            return this;
+        }
+
+        @NotNull
+        public Builder contentWidth(float contentWidth) {
+            this.contentWidth = contentWidth;
+            return this;
+        }
+
+        @NotNull
+        public Builder tableBottomMargin(float tableBottomMargin) {
+            this.tableBottomMargin = tableBottomMargin;
+            return this;
+        }
+
+        @NotNull
+        public Builder expectedRows(int expectedRows) {
+            this.expectedRows = expectedRows;
+            return this;
+        }
+
+        @NotNull
+        public ReportTable start(@NotNull Document document) {
+            boolean largeTable = expectedRows > LARGE_TABLE_ROW_THRESHOLD;
+            Table contentTable = TableUtil.createReportContentTable(columnPercentageWidths, headerCells, contentWidth, largeTable);
+            ReportTable reportTable = new ReportTable(tableUtil, document, title, subtitle, contentTable, tableBottomMargin, largeTable);
+            return reportTable.start(reportResources);
+        }
+    }
+}
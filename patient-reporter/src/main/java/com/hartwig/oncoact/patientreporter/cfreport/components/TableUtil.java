@@ -43,7 +43,13 @@ public final class TableUtil {
 
     @NotNull
     public static Table createReportContentTable(@NotNull float[] columnPercentageWidths, @NotNull Cell[] headerCells, float contentWidth) {
-        Table table = new Table(UnitValue.createPercentArray(columnPercentageWidths)).setWidth(contentWidth);
+        return createReportContentTable(columnPercentageWidths, headerCells, contentWidth, false);
+    }
+
+    @NotNull
+    static Table createReportContentTable(@NotNull float[] columnPercentageWidths, @NotNull Cell[] headerCells, float contentWidth,
+            boolean largeTable) {
+        Table table = new Table(UnitValue.createPercentArray(columnPercentageWidths), largeTable).setWidth(contentWidth);
         table.setFixedLayout();
 
         for (Cell headerCell : headerCells) {
@@ -53,6 +59,15 @@ public final class TableUtil {
         return table;
     }
 
+    /**
+     * Starts a titled report table that is added to the document as it is filled, switching to iText's large-table mode when more
+     * than {@link ReportTable#LARGE_TABLE_ROW_THRESHOLD} rows are expected.
+     */
+    @NotNull
+    public ReportTable.Builder reportTableBuilder(@NotNull String tableTitle) {
+        return new ReportTable.Builder(this, reportResources, tableTitle);
+    }
+
     @NotNull
     public Table createNoConsentReportTable(@NotNull String tableTitle, @NotNull String peachUnreliable, float tableBottomMargin,
             float contentWide) {
@@ -90,11 +105,7 @@ public final class TableUtil {
     @NotNull
     public Table createWrappingReportTable(@NotNull String tableTitle, @Nullable String subtitle, @NotNull Table contentTable,
             float tableBottomMargin) {
-        contentTable.addFooterCell(new Cell(1, contentTable.getNumberOfColumns()).setBorder(Border.NO_BORDER)
-                        .setPaddingTop(15)
-                        .setPaddingBottom(5)
-                        .add(new Paragraph("The table continues on the next page".toUpperCase()).addStyle(reportResources.subTextStyle())))
-                .setSkipLastFooter(true);
+        addContinuationFooter(contentTable);
 
         Table continuedWrapTable = new Table(1).setMinWidth(contentTable.getWidth())
                 .addHeaderCell(new Cell().setBorder(Border.NO_BORDER)
@@ -120,6 +131,14 @@ public final class TableUtil {
         }
     }
 
+    void addContinuationFooter(@NotNull Table contentTable) {
+        contentTable.addFooterCell(new Cell(1, contentTable.getNumberOfColumns()).setBorder(Border.NO_BORDER)
+                        .setPaddingTop(15)
+                        .setPaddingBottom(5)
+                        .add(new Paragraph("The table continues on the next page".toUpperCase()).addStyle(reportResources.subTextStyle())))
+                .setSkipLastFooter(true);
+    }
+
     @NotNull
     public Cell createHeaderCell(@NotNull String text) {
         return createHeaderCell(text, 1);
@@ -1,9 +1,12 @@
 package com.hartwig.oncoact.patientreporter.germline;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
 import com.hartwig.hmftools.datamodel.purple.PurpleGenotypeStatus;
 import com.hartwig.oncoact.variant.ReportableVariant;
 import com.hartwig.oncoact.variant.ReportableVariantSource;
@@ -19,9 +22,22 @@ public class GermlineReportingModel {
 
     @NotNull
     private final List<GermlineReportingEntry> entries;
+    @NotNull
+    private final Map<String, GermlineReportingEntry> entriesPerGene;
 
     GermlineReportingModel(@NotNull final List<GermlineReportingEntry> entries) {
         this.entries = entries;
+        this.entriesPerGene = indexPerGene(entries);
+    }
+
+    @NotNull
+    private static Map<String, GermlineReportingEntry> indexPerGene(@NotNull List<GermlineReportingEntry> entries) {
+        // The first entry for a gene wins, like the linear lookup this index replaces.
+        Map<String, GermlineReportingEntry> entriesPerGene = Maps.newHashMapWithExpectedSize(entries.size());
+        for (GermlineReportingEntry entry : entries) {
+            entriesPerGene.putIfAbsent(entry.gene(), entry);
+        }
+        return ImmutableMap.copyOf(entriesPerGene);
     }
 
     public boolean notifyGermlineVariant(@NotNull ReportableVariant germlineVariant, boolean flagGermlineOnReport,
@@ -75,11 +91,6 @@ public class GermlineReportingModel {
     @Nullable
     @VisibleForTesting
     GermlineReportingEntry entryForGene(@NotNull String gene) {
-        for (GermlineReportingEntry entry : entries) {
-            if (entry.gene().equals(gene)) {
-                return entry;
-            }
-        }
-        return null;
+        return entriesPerGene.get(gene);
     }
 }
@@ -0,0 +1,55 @@
+package com.hartwig.oncoact.patientreporter.output;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Writes every file to a temporary file next to its target and renames it into place once complete, so a failed or interrupted run
+ * never leaves a partially written report behind and an existing report is only replaced by a complete one.
+ */
+public class AtomicFileOutput implements ReportOutput {
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    @Override
+    public void write(@NotNull String path, @NotNull Content content) throws IOException {
+        Path target = new File(path).toPath().toAbsolutePath();
+        Path directory = target.getParent();
+        if (directory == null) {
+            throw new IOException("Cannot write report to path without parent directory: " + path);
+        }
+
+        // The temp file is created like any other new file, so the report gets the default permissions once moved into place.
+        Path temp = directory.resolve("." + target.getFileName() + "." + UUID.randomUUID() + TEMP_FILE_SUFFIX);
+        OutputStream tempStream = Files.newOutputStream(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+
+        try {
+            try (OutputStream outputStream = new BufferedOutputStream(tempStream)) {
+                content.writeTo(outputStream);
+            }
+            move(temp, target);
+        } catch (IOException | RuntimeException exception) {
+            Files.deleteIfExists(temp);
+            throw exception;
+        }
+    }
+
+    private static void move(@NotNull Path source, @NotNull Path target) throws IOException {
+        // Whether an atomic move replaces an existing target is platform dependent unless asked for explicitly.
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
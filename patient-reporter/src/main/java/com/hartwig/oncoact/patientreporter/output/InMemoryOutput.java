@@ -0,0 +1,42 @@
+package com.hartwig.oncoact.patientreporter.output;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps every file in memory, keyed on the path it was written to. Useful for tests and as a stage in front of a packaging step that
+ * bundles all files of a report.
+ */
+public class InMemoryOutput implements ReportOutput {
+
+    @NotNull
+    private final Map<String, byte[]> filesPerPath = Collections.synchronizedMap(Maps.newLinkedHashMap());
+
+    @Override
+    public void write(@NotNull String path, @NotNull Content content) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        content.writeTo(outputStream);
+        filesPerPath.put(path, outputStream.toByteArray());
+    }
+
+    @NotNull
+    public Set<String> paths() {
+        synchronized (filesPerPath) {
+            return ImmutableSet.copyOf(filesPerPath.keySet());
+        }
+    }
+
+    @Nullable
+    public byte[] file(@NotNull String path) {
+        return filesPerPath.get(path);
+    }
+}
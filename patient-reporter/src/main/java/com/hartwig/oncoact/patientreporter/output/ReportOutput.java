@@ -0,0 +1,21 @@
+package com.hartwig.oncoact.patientreporter.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Destination for the files produced for a report (PDF, JSON, XML). Content is rendered straight into the stream handed out by the
+ * output, so an implementation decides whether it ends up on disk, in memory or in a package.
+ */
+public interface ReportOutput {
+
+    @FunctionalInterface
+    interface Content {
+
+        void writeTo(@NotNull OutputStream outputStream) throws IOException;
+    }
+
+    void write(@NotNull String path, @NotNull Content content) throws IOException;
+}
@@ -0,0 +1,70 @@
+package com.hartwig.oncoact.patientreporter.output;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.google.common.collect.Lists;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Runs the independent report file writers (PDF, JSON, XML) in parallel once the final report is known. Steps must not depend on
+ * each other's output. Anything that announces the report, such as the reporting db, belongs after a successful {@link #run()}.
+ */
+public class ReportOutputPipeline {
+
+    @FunctionalInterface
+    public interface Step {
+
+        void run() throws IOException;
+    }
+
+    @NotNull
+    private final List<Step> steps = Lists.newArrayList();
+
+    @NotNull
+    public ReportOutputPipeline add(@NotNull Step step) {
+        steps.add(step);
+        return this;
+    }
+
+    public void run() throws IOException {
+        if (steps.size() == 1) {
+            steps.get(0).run();
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(steps.size());
+        try {
+            List<CompletableFuture<Void>> futures = Lists.newArrayList();
+            for (Step step : steps) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        step.run();
+                    } catch (IOException exception) {
+                        throw new UncheckedIOException(exception);
+                    }
+                }, executor));
+            }
+
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw exception;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -8,6 +8,7 @@ import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.Locale;
 
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.hartwig.oncoact.patientreporter.algo.AnalysedPatientReport;
 import com.hartwig.oncoact.patientreporter.algo.GenomicAnalysis;
@@ -24,6 +25,8 @@ public class ReportingDb {
 
     private static final Logger LOGGER = LogManager.getLogger(ReportingDb.class);
     private static final String NA_STRING = "N/A";
+    private static final Gson GSON =
+            new GsonBuilder().serializeNulls().serializeSpecialFloatingPointValues().setPrettyPrinting().disableHtmlEscaping().create();
 
     public ReportingDb() {
     }
@@ -91,13 +94,7 @@ public class ReportingDb {
                 .reportDate(reportDate)
                 .build();
 
-        appendToFile(outputFile.getAbsolutePath(),
-                new GsonBuilder().serializeNulls()
-                        .serializeSpecialFloatingPointValues()
-                        .setPrettyPrinting()
-                        .disableHtmlEscaping()
-                        .create()
-                        .toJson(payload));
+        appendToFile(outputFile.getAbsolutePath(), GSON.toJson(payload));
     }
 
     public void appendQCFailReport(@NotNull QCFailReport report, @NotNull String outputDirectory) throws IOException {
@@ -113,7 +110,8 @@ public class ReportingDb {
         writeApiUpdateJson(outputDirectory, reportType, NA_STRING, null, null, report.reportDate());
     }
 
-    private static void appendToFile(@NotNull String reportingDbTsv, @NotNull String stringToAppend) throws IOException {
+    // Reports in a batch can share their data output directory, so appends to the same file must not interleave.
+    private static synchronized void appendToFile(@NotNull String reportingDbTsv, @NotNull String stringToAppend) throws IOException {
         BufferedWriter writer = new BufferedWriter(new FileWriter(reportingDbTsv, true));
         writer.write(stringToAppend);
         writer.close();
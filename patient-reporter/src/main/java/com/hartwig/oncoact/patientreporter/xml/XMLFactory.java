@@ -15,11 +15,10 @@ import com.hartwig.oncoact.copynumber.CnPerChromosomeArmData;
 import com.hartwig.oncoact.patientreporter.QsFormNumber;
 import com.hartwig.oncoact.patientreporter.algo.AnalysedPatientReport;
 import com.hartwig.oncoact.patientreporter.cfreport.ReportResources;
+import com.hartwig.oncoact.patientreporter.cfreport.ReportViewModel;
 import com.hartwig.oncoact.patientreporter.cfreport.data.GainsAndLosses;
 import com.hartwig.oncoact.patientreporter.cfreport.data.GeneFusions;
 import com.hartwig.oncoact.patientreporter.cfreport.data.GeneUtil;
-import com.hartwig.oncoact.patientreporter.cfreport.data.HomozygousDisruptions;
-import com.hartwig.oncoact.patientreporter.cfreport.data.SomaticVariants;
 import com.hartwig.oncoact.util.Formats;
 import com.hartwig.oncoact.variant.DriverInterpretation;
 import com.hartwig.oncoact.variant.ReportableVariant;
@@ -31,15 +30,17 @@ import org.jetbrains.annotations.NotNull;
 
 public class XMLFactory {
 
-    private static final DecimalFormat DOUBLE_DECIMAL_FORMAT = ReportResources.decimalFormat("#.##");
-    private static final DecimalFormat NO_DECIMAL_FORMAT = ReportResources.decimalFormat("#");
-    private static final DecimalFormat SINGLE_DECIMAL_FORMAT = ReportResources.decimalFormat("#.#");
+    private static final ThreadLocal<DecimalFormat> DOUBLE_DECIMAL_FORMAT =
+            ThreadLocal.withInitial(() -> ReportResources.decimalFormat("#.##"));
+    private static final ThreadLocal<DecimalFormat> NO_DECIMAL_FORMAT = ThreadLocal.withInitial(() -> ReportResources.decimalFormat("#"));
+    private static final ThreadLocal<DecimalFormat> SINGLE_DECIMAL_FORMAT =
+            ThreadLocal.withInitial(() -> ReportResources.decimalFormat("#.#"));
 
     private XMLFactory() {
     }
 
     @NotNull
-    public static ReportXML generateXMLData(@NotNull AnalysedPatientReport report) {
+    public static ReportXML generateXMLData(@NotNull AnalysedPatientReport report, @NotNull ReportViewModel viewModel) {
         List<KeyXML> xml = Lists.newArrayList();
 
         boolean hasReliablePurity = report.genomicAnalysis().hasReliablePurity();
@@ -104,7 +105,7 @@ public class XMLFactory {
                 .keyPath("importwgs.wgsms.line[1]msscore")
                 .valuePath(Map.of("value",
                         hasReliablePurity
-                                ? DOUBLE_DECIMAL_FORMAT.format(report.genomicAnalysis().microsatelliteIndelsPerMb())
+                                ? DOUBLE_DECIMAL_FORMAT.get().format(report.genomicAnalysis().microsatelliteIndelsPerMb())
                                 : Formats.NA_STRING))
                 .build());
         xml.add(ImmutableKeyXML.builder()
@@ -114,13 +115,15 @@ public class XMLFactory {
         xml.add(ImmutableKeyXML.builder()
                 .keyPath("importwgs.wgsms.line[1]tumuload")
                 .valuePath(Map.of("value",
-                        hasReliablePurity ? NO_DECIMAL_FORMAT.format(report.genomicAnalysis().tumorMutationalLoad()) : Formats.NA_STRING))
+                        hasReliablePurity
+                                ? NO_DECIMAL_FORMAT.get().format(report.genomicAnalysis().tumorMutationalLoad())
+                                : Formats.NA_STRING))
                 .build());
         xml.add(ImmutableKeyXML.builder()
                 .keyPath("importwgs.wgsms.line[1]tutmb")
                 .valuePath(Map.of("value",
                         hasReliablePurity
-                                ? SINGLE_DECIMAL_FORMAT.format(report.genomicAnalysis().tumorMutationalBurden())
+                                ? SINGLE_DECIMAL_FORMAT.get().format(report.genomicAnalysis().tumorMutationalBurden())
                                 : Formats.NA_STRING))
                 .build());
         xml.add(ImmutableKeyXML.builder()
@@ -128,17 +131,17 @@ public class XMLFactory {
                 .valuePath(Map.of("value",
                         report.genomicAnalysis().hrdStatus() == ChordStatus.CANNOT_BE_DETERMINED
                                 ? "N/A"
-                                : DOUBLE_DECIMAL_FORMAT.format(report.genomicAnalysis().hrdValue())))
+                                : DOUBLE_DECIMAL_FORMAT.get().format(report.genomicAnalysis().hrdValue())))
                 .build());
         xml.add(ImmutableKeyXML.builder()
                 .keyPath("importwgs.wgsms.line[1]horestu")
                 .valuePath(Map.of("value", report.genomicAnalysis().hrdStatus().name()))
                 .build());
 
-        addReportableVariantsToXML(report.genomicAnalysis().reportableVariants(), xml, hasReliablePurity);
-        addGainLossesToXML(report.genomicAnalysis().gainsAndLosses(), report.genomicAnalysis().cnPerChromosome(), xml, hasReliablePurity);
+        addReportableVariantsToXML(viewModel.sortedReportableVariants(), xml, hasReliablePurity);
+        addGainLossesToXML(viewModel.sortedGainsAndLosses(), report.genomicAnalysis().cnPerChromosome(), xml, hasReliablePurity);
         addFusionToXML(report.genomicAnalysis().geneFusions(), xml, hasReliablePurity);
-        addHomozygousDisruptionsToXML(report.genomicAnalysis().homozygousDisruptions(), xml);
+        addHomozygousDisruptionsToXML(viewModel.sortedHomozygousDisruptions(), xml);
         addVirussesToXML(report.genomicAnalysis().reportableViruses(), xml);
 
         List<ImportWGSXML> importWGSXML = Lists.newArrayList();
@@ -156,10 +159,10 @@ public class XMLFactory {
                 .build();
     }
 
-    public static void addGainLossesToXML(@NotNull List<PurpleGainLoss> gainLosses, @NotNull List<CnPerChromosomeArmData> chromosomeArmData,
-            @NotNull List<KeyXML> xmlList, boolean hasReliablePurity) {
+    public static void addGainLossesToXML(@NotNull List<PurpleGainLoss> sortedGainLosses,
+            @NotNull List<CnPerChromosomeArmData> chromosomeArmData, @NotNull List<KeyXML> xmlList, boolean hasReliablePurity) {
         int count = 1;
-        for (PurpleGainLoss gainLoss : GainsAndLosses.sort(gainLosses)) {
+        for (PurpleGainLoss gainLoss : sortedGainLosses) {
             xmlList.add(ImmutableKeyXML.builder()
                     .keyPath("importwgs.wgscnv.line[" + count + "]chr")
                     .valuePath(Map.of("value", gainLoss.chromosome()))
@@ -188,10 +191,10 @@ public class XMLFactory {
         }
     }
 
-    public static void addHomozygousDisruptionsToXML(@NotNull List<HomozygousDisruption> homozygousDisruptions,
+    public static void addHomozygousDisruptionsToXML(@NotNull List<HomozygousDisruption> sortedHomozygousDisruptions,
             @NotNull List<KeyXML> xmlList) {
         int count = 1;
-        for (HomozygousDisruption homozygousDisruption : HomozygousDisruptions.sort(homozygousDisruptions)) {
+        for (HomozygousDisruption homozygousDisruption : sortedHomozygousDisruptions) {
             xmlList.add(ImmutableKeyXML.builder()
                     .keyPath("importwgs.wgshzy.line[" + count + "]gen")
                     .valuePath(Map.of("value", homozygousDisruption.gene()))
@@ -208,10 +211,10 @@ public class XMLFactory {
         }
     }
 
-    public static void addReportableVariantsToXML(@NotNull List<ReportableVariant> reportableVariants, @NotNull List<KeyXML> xmlList,
-            boolean hasReliablePurity) {
+    public static void addReportableVariantsToXML(@NotNull List<ReportableVariant> sortedReportableVariants,
+            @NotNull List<KeyXML> xmlList, boolean hasReliablePurity) {
         int count = 1;
-        for (ReportableVariant reportableVariant : SomaticVariants.sort(reportableVariants)) {
+        for (ReportableVariant reportableVariant : sortedReportableVariants) {
             xmlList.add(ImmutableKeyXML.builder()
                     .keyPath("importwgs.wgsgene.line[" + count + "]name")
                     .valuePath(Map.of("value", reportableVariant.gene()))
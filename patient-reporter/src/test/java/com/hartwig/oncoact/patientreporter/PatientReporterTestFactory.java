@@ -65,6 +65,7 @@ public final class PatientReporterTestFactory {
                 .clinicalTranscriptsTsv(CLINICAL_TRANSCRIPT_TSV)
                 .correctionJson(CORRECTION_JSON)
                 .onlyCreatePDF(false)
+                .compactJson(false)
                 .pipelineVersion("5.31")
                 .reportTime(REPORT_TIME)
                 .build();
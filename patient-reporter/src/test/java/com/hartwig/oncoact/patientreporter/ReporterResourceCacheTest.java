@@ -0,0 +1,30 @@
+package com.hartwig.oncoact.patientreporter;
+
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+
+import com.google.common.io.Resources;
+
+import org.junit.Test;
+
+public class ReporterResourceCacheTest {
+
+    private static final String GERMLINE_REPORTING_TSV = Resources.getResource("germline_reporting/germline_reporting.tsv").getPath();
+    private static final String CLINICAL_TRANSCRIPT_TSV = Resources.getResource("clinicaltranscript/clinical_transcipts.tsv").getPath();
+
+    @Test
+    public void loadsEveryResourceOnce() throws IOException {
+        ReporterResourceCache resourceCache = new ReporterResourceCache();
+
+        assertSame(resourceCache.germlineReportingModel(GERMLINE_REPORTING_TSV),
+                resourceCache.germlineReportingModel(GERMLINE_REPORTING_TSV));
+        assertSame(resourceCache.clinicalTranscriptsModel(CLINICAL_TRANSCRIPT_TSV),
+                resourceCache.clinicalTranscriptsModel(CLINICAL_TRANSCRIPT_TSV));
+    }
+
+    @Test(expected = IOException.class)
+    public void propagatesMissingFiles() throws IOException {
+        new ReporterResourceCache().germlineReportingModel("does/not/exist.tsv");
+    }
+}
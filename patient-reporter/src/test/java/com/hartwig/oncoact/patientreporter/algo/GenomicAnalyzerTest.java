@@ -1,12 +1,13 @@
 package com.hartwig.oncoact.patientreporter.algo;
 
-import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.List;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import com.hartwig.hmftools.datamodel.purple.PurpleGenotypeStatus;
 import com.hartwig.oncoact.clinicaltransript.ClinicalTranscriptModelTestFactory;
 import com.hartwig.oncoact.clinicaltransript.ClinicalTranscriptsModel;
@@ -38,16 +39,26 @@ public class GenomicAnalyzerTest {
     }
 
     @Test
-    public void canTestHasOtherGermlineVariantWithDifferentPhaseSet() {
+    public void canDetermineGermlineGenesWithIndependentHits() {
         List<ReportableVariant> reportableVariants1 =
                 createTestReportableVariants("MUTYH", PurpleGenotypeStatus.HET, null, "MUTYH", PurpleGenotypeStatus.HET, null);
-        ReportableVariant reportableVariantToCompare1 = createTestReportableVariant("MUTYH", PurpleGenotypeStatus.HET, null);
-        assertFalse(GenomicAnalyzer.hasOtherGermlineVariantWithDifferentPhaseSet(reportableVariants1, reportableVariantToCompare1));
+        assertTrue(GenomicAnalyzer.germlineGenesWithIndependentHits(reportableVariants1).isEmpty());
 
         List<ReportableVariant> reportableVariants2 =
                 createTestReportableVariants("MUTYH", PurpleGenotypeStatus.HET, null, "MUTYH", PurpleGenotypeStatus.HET, 123);
-        ReportableVariant reportableVariantToCompare2 = createTestReportableVariant("MUTYH", PurpleGenotypeStatus.HET, 123);
-        assertTrue(GenomicAnalyzer.hasOtherGermlineVariantWithDifferentPhaseSet(reportableVariants2, reportableVariantToCompare2));
+        assertEquals(Sets.newHashSet("MUTYH"), GenomicAnalyzer.germlineGenesWithIndependentHits(reportableVariants2));
+
+        List<ReportableVariant> reportableVariants3 =
+                createTestReportableVariants("MUTYH", PurpleGenotypeStatus.HET, 123, "MUTYH", PurpleGenotypeStatus.HOM_ALT, 123);
+        assertTrue(GenomicAnalyzer.germlineGenesWithIndependentHits(reportableVariants3).isEmpty());
+
+        List<ReportableVariant> reportableVariants4 =
+                createTestReportableVariants("MUTYH", PurpleGenotypeStatus.HET, 123, "BRCA1", PurpleGenotypeStatus.HET, 456);
+        assertTrue(GenomicAnalyzer.germlineGenesWithIndependentHits(reportableVariants4).isEmpty());
+
+        List<ReportableVariant> reportableVariants5 =
+                createTestReportableVariants("MUTYH", PurpleGenotypeStatus.HET, 123, "MUTYH", PurpleGenotypeStatus.HOM_ALT, 456);
+        assertEquals(Sets.newHashSet("MUTYH"), GenomicAnalyzer.germlineGenesWithIndependentHits(reportableVariants5));
     }
 
     @NotNull
@@ -70,15 +81,4 @@ public class GenomicAnalyzerTest {
 
         return Lists.newArrayList(variant1, variant2);
     }
-
-    @NotNull
-    private static ReportableVariant createTestReportableVariant(@NotNull String gene, @NotNull PurpleGenotypeStatus genotypeStatus,
-            @Nullable Integer localPhaseSet) {
-        return TestReportableVariantFactory.builder()
-                .source(ReportableVariantSource.GERMLINE)
-                .gene(gene)
-                .genotypeStatus(genotypeStatus)
-                .localPhaseSet(localPhaseSet)
-                .build();
-    }
 }
@@ -1,10 +1,15 @@
 package com.hartwig.oncoact.patientreporter.cfreport;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 
 import com.google.common.collect.Sets;
+import com.google.gson.JsonParser;
 import com.hartwig.hmftools.datamodel.purple.PurpleQCStatus;
 import com.hartwig.oncoact.patientreporter.ExampleAnalysisConfig;
 import com.hartwig.oncoact.patientreporter.ExampleAnalysisTestFactory;
@@ -17,6 +22,7 @@ import com.hartwig.oncoact.patientreporter.algo.AnalysedPatientReport;
 import com.hartwig.oncoact.patientreporter.algo.ImmutableAnalysedPatientReport;
 import com.hartwig.oncoact.patientreporter.failedreasondb.FailedReason;
 import com.hartwig.oncoact.patientreporter.failedreasondb.ImmutableFailedReason;
+import com.hartwig.oncoact.patientreporter.output.InMemoryOutput;
 import com.hartwig.oncoact.patientreporter.panel.ImmutablePanelFailReport;
 import com.hartwig.oncoact.patientreporter.panel.ImmutablePanelReport;
 import com.hartwig.oncoact.patientreporter.panel.PanelFailReason;
@@ -62,13 +68,14 @@ public class CFReportWriterTest {
         ExampleAnalysisConfig config = new ExampleAnalysisConfig.Builder().sampleId("PNT00012345T").comments(COLO_COMMENT_STRING).build();
         AnalysedPatientReport colo829Report = ExampleAnalysisTestFactory.createWithCOLO829Data(config, PurpleQCStatus.PASS, false);
 
+        ReportViewModel viewModel = ReportViewModel.create(colo829Report);
         CFReportWriter writer = testCFReportWriter();
-        writer.writeAnalysedPatientReport(colo829Report, testReportFilePath(colo829Report));
+        writer.writeAnalysedPatientReport(colo829Report, viewModel, testReportFilePath(colo829Report));
 
         colo829Report = generateAnalysedPatientReport(colo829Report);
 
-        writer.writeJsonAnalysedFile(colo829Report, REPORT_BASE_DIR);
-        writer.writeXMLAnalysedFile(colo829Report, REPORT_BASE_DIR);
+        writer.writeJsonAnalysedFile(colo829Report, viewModel, REPORT_BASE_DIR);
+        writer.writeXMLAnalysedFile(colo829Report, viewModel, REPORT_BASE_DIR);
     }
 
     @Test
@@ -82,12 +89,13 @@ public class CFReportWriterTest {
                 .build();
         AnalysedPatientReport patientReport = ExampleAnalysisTestFactory.createAnalysisWithAllTablesFilledIn(config, PurpleQCStatus.PASS);
 
+        ReportViewModel viewModel = ReportViewModel.create(patientReport);
         CFReportWriter writer = testCFReportWriter();
-        writer.writeAnalysedPatientReport(patientReport, testReportFilePath(patientReport));
+        writer.writeAnalysedPatientReport(patientReport, viewModel, testReportFilePath(patientReport));
 
         patientReport = generateAnalysedPatientReport(patientReport);
-        writer.writeJsonAnalysedFile(patientReport, REPORT_BASE_DIR);
-        writer.writeXMLAnalysedFile(patientReport, REPORT_BASE_DIR);
+        writer.writeJsonAnalysedFile(patientReport, viewModel, REPORT_BASE_DIR);
+        writer.writeXMLAnalysedFile(patientReport, viewModel, REPORT_BASE_DIR);
     }
 
     @Test
@@ -96,12 +104,13 @@ public class CFReportWriterTest {
         ExampleAnalysisConfig config = new ExampleAnalysisConfig.Builder().sampleId("Diagnostic").build();
         AnalysedPatientReport patientReport = ExampleAnalysisTestFactory.createAnalysisWithAllTablesFilledIn(config, PurpleQCStatus.PASS);
 
+        ReportViewModel viewModel = ReportViewModel.create(patientReport);
         CFReportWriter writer = testCFReportWriter();
-        writer.writeAnalysedPatientReport(patientReport, testReportFilePath(patientReport));
+        writer.writeAnalysedPatientReport(patientReport, viewModel, testReportFilePath(patientReport));
 
         patientReport = generateAnalysedPatientReport(patientReport);
-        writer.writeJsonAnalysedFile(patientReport, REPORT_BASE_DIR);
-        writer.writeXMLAnalysedFile(patientReport, REPORT_BASE_DIR);
+        writer.writeJsonAnalysedFile(patientReport, viewModel, REPORT_BASE_DIR);
+        writer.writeXMLAnalysedFile(patientReport, viewModel, REPORT_BASE_DIR);
     }
 
     @Test
@@ -110,12 +119,13 @@ public class CFReportWriterTest {
         ExampleAnalysisConfig config = new ExampleAnalysisConfig.Builder().sampleId("Diagnostic").comments(COLO_COMMENT_STRING).build();
         AnalysedPatientReport colo829Report = ExampleAnalysisTestFactory.createWithCOLO829Data(config, PurpleQCStatus.PASS, true);
 
+        ReportViewModel viewModel = ReportViewModel.create(colo829Report);
         CFReportWriter writer = testCFReportWriter();
-        writer.writeAnalysedPatientReport(colo829Report, testReportFilePath(colo829Report));
+        writer.writeAnalysedPatientReport(colo829Report, viewModel, testReportFilePath(colo829Report));
 
         colo829Report = generateAnalysedPatientReport(colo829Report);
-        writer.writeJsonAnalysedFile(colo829Report, REPORT_BASE_DIR);
-        writer.writeXMLAnalysedFile(colo829Report, REPORT_BASE_DIR);
+        writer.writeJsonAnalysedFile(colo829Report, viewModel, REPORT_BASE_DIR);
+        writer.writeXMLAnalysedFile(colo829Report, viewModel, REPORT_BASE_DIR);
     }
 
     @Test
@@ -314,6 +324,26 @@ public class CFReportWriterTest {
         writer.writeJsonFailedFile(patientReport, REPORT_BASE_DIR);
     }
 
+    @Test
+    public void canStreamJsonInPrettyAndCompactMode() throws IOException {
+        ExampleAnalysisConfig config = new ExampleAnalysisConfig.Builder().sampleId("PNT00012345T").comments(COLO_COMMENT_STRING).build();
+        AnalysedPatientReport colo829Report = ExampleAnalysisTestFactory.createWithCOLO829Data(config, PurpleQCStatus.PASS, false);
+        String jsonPath = REPORT_BASE_DIR + File.separator + OutputFileUtil.generateOutputFileName(colo829Report) + ".json";
+
+        InMemoryOutput prettyOutput = new InMemoryOutput();
+        ReportViewModel viewModel = ReportViewModel.create(colo829Report);
+        CFReportWriter prettyWriter = new CFReportWriter(prettyOutput, false);
+        prettyWriter.writeJsonAnalysedFile(colo829Report, viewModel, REPORT_BASE_DIR);
+        String prettyJson = new String(prettyOutput.file(jsonPath), StandardCharsets.UTF_8);
+        assertEquals(prettyWriter.convertToJson(viewModel.inRenderedOrder(colo829Report)), prettyJson);
+
+        InMemoryOutput compactOutput = new InMemoryOutput();
+        new CFReportWriter(compactOutput, true).writeJsonAnalysedFile(colo829Report, viewModel, REPORT_BASE_DIR);
+        String compactJson = new String(compactOutput.file(jsonPath), StandardCharsets.UTF_8);
+        assertFalse(compactJson.contains("\n  "));
+        assertEquals(JsonParser.parseString(prettyJson), JsonParser.parseString(compactJson));
+    }
+
     @NotNull
     private static CFReportWriter testCFReportWriter() {
         return new CFReportWriter(WRITE_TO_PDF);
@@ -0,0 +1,52 @@
+package com.hartwig.oncoact.patientreporter.cfreport;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import com.google.common.io.Resources;
+import com.itextpdf.io.image.ImageData;
+
+import org.junit.Test;
+
+public class ImageDataCacheTest {
+
+    private static final String SIGNATURE_PATH = Resources.getResource("signature/signature_test.png").getPath();
+
+    @Test
+    public void decodesImagesOnceUntilFileChanges() throws IOException {
+        File image = File.createTempFile("signature", ".png");
+        image.deleteOnExit();
+        Files.copy(new File(SIGNATURE_PATH).toPath(), image.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        ImageData first = ImageDataCache.get(image.getPath());
+        assertSame(first, ImageDataCache.get(image.getPath()));
+
+        assertTrue(image.setLastModified(image.lastModified() - 10000));
+        assertNotSame(first, ImageDataCache.get(image.getPath()));
+    }
+
+    @Test
+    public void keepsCacheBounded() throws IOException {
+        for (int i = 0; i < 2 * ImageDataCache.MAX_IMAGES; i++) {
+            File image = File.createTempFile("signature", ".png");
+            image.deleteOnExit();
+            Files.copy(new File(SIGNATURE_PATH).toPath(), image.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            ImageDataCache.get(image.getPath());
+        }
+
+        assertTrue(ImageDataCache.size() <= ImageDataCache.MAX_IMAGES);
+    }
+
+    @Test
+    public void reusesImagesWithinReport() throws IOException {
+        ReportResources reportResources = ReportResources.create();
+        assertSame(reportResources.image(SIGNATURE_PATH), reportResources.image(SIGNATURE_PATH));
+        assertNotSame(reportResources.image(SIGNATURE_PATH), ReportResources.create().image(SIGNATURE_PATH));
+    }
+}
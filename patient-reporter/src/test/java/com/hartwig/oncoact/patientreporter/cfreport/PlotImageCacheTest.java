@@ -0,0 +1,67 @@
+package com.hartwig.oncoact.patientreporter.cfreport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import com.itextpdf.io.image.ImageData;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+public class PlotImageCacheTest {
+
+    @Test
+    public void resamplesLargePlotsToTargetResolution() throws IOException {
+        String plot = writePlot(4000, 2000);
+
+        ImageData scaled = PlotImageCache.get(plot, 72);
+        assertEquals(PlotImageCache.TARGET_DPI, scaled.getHeight(), 0.1);
+        assertEquals(2 * PlotImageCache.TARGET_DPI, scaled.getWidth(), 1);
+        assertSame(scaled, PlotImageCache.get(writePlot(4000, 2000), 72));
+    }
+
+    @Test
+    public void keepsSmallPlotsAsIs() throws IOException {
+        ImageData image = PlotImageCache.get(writePlot(100, 50), 72);
+        assertEquals(100, image.getWidth(), 0.1);
+        assertEquals(50, image.getHeight(), 0.1);
+    }
+
+    @Test
+    public void resamplesAgainWhenPlotChanges() throws IOException {
+        File plot = new File(writePlot(4000, 2000));
+        ImageData first = PlotImageCache.get(plot.getPath(), 72);
+
+        long lastModified = plot.lastModified();
+        ImageIO.write(new BufferedImage(2000, 2000, BufferedImage.TYPE_INT_RGB), "png", plot);
+        assertTrue(plot.setLastModified(lastModified + 10000));
+        ImageData changed = PlotImageCache.get(plot.getPath(), 72);
+        assertNotSame(first, changed);
+        assertEquals(PlotImageCache.TARGET_DPI, changed.getWidth(), 1);
+    }
+
+    @Test
+    public void keepsCacheBounded() throws IOException {
+        for (int i = 1; i <= 2 * PlotImageCache.MAX_PLOTS; i++) {
+            PlotImageCache.get(writePlot(i, 10), 72);
+        }
+
+        assertTrue(PlotImageCache.size() <= PlotImageCache.MAX_PLOTS);
+    }
+
+    @NotNull
+    private static String writePlot(int width, int height) throws IOException {
+        File file = File.createTempFile("plot", ".png");
+        file.deleteOnExit();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", file);
+        return file.getPath();
+    }
+}
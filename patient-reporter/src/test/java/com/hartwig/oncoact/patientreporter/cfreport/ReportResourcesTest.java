@@ -2,10 +2,15 @@ package com.hartwig.oncoact.patientreporter.cfreport;
 
 import static org.junit.Assert.*;
 
+import com.itextpdf.kernel.font.PdfFont;
+
+import org.jetbrains.annotations.NotNull;
 import org.junit.Test;
 
 public class ReportResourcesTest {
 
+    private static final double EPSILON = 1.0E-3;
+
     @Test
     public void canLoadFonts() {
         ReportResources reportResources = ReportResources.create();
@@ -13,4 +18,48 @@ public class ReportResourcesTest {
         assertNotNull(reportResources.fontBold());
         assertNotNull(reportResources.iconFont());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void sharesFontProgramsButNotFonts() {
+        ReportResources first = ReportResources.create();
+        ReportResources second = ReportResources.create();
+
+        assertNotSame(first.fontRegular(), second.fontRegular());
+        assertSame(first.fontRegular().getFontProgram(), second.fontRegular().getFontProgram());
+        assertSame(first.fontBold().getFontProgram(), second.fontBold().getFontProgram());
+        assertSame(first.iconFont().getFontProgram(), second.iconFont().getFontProgram());
+    }
+
+    @Test
+    public void computesSameFontSizeAsMeasuringEveryStep() {
+        ReportResources reportResources = ReportResources.create();
+        PdfFont font = reportResources.fontBold();
+        String[] texts =
+                { "", "CPCT02010001T", "Breast cancer, invasive ductal carcinoma of the left breast", "never fits in a narrow column" };
+        float[] maxWidths = { 1F, 40F, 85.5F, 170F, 400F };
+
+        for (String text : texts) {
+            for (float maxWidth : maxWidths) {
+                float expected = stepwiseMaxPointSize(font, 11, 6, text, maxWidth);
+                assertEquals(expected, reportResources.maxPointSizeForWidth(font, 11, 6, text, maxWidth), 0F);
+                assertEquals(expected, reportResources.maxPointSizeForWidth(font, 11, 6, text, maxWidth), 0F);
+            }
+        }
+    }
+
+    @Test
+    public void keepsInitialFontSizeWhenAlreadyBelowMinimum() {
+        assertEquals(5F, ReportResources.maxPointSizeForWidth(5000, 5, 6, 1), EPSILON);
+    }
+
+    private static float stepwiseMaxPointSize(@NotNull PdfFont font, float initialFontSize, float minFontSize, @NotNull String text,
+            float maxWidth) {
+        float fontSize = initialFontSize;
+        float width = font.getWidth(text, initialFontSize);
+        while (width > maxWidth && fontSize > minFontSize) {
+            fontSize -= 0.1F;
+            width = font.getWidth(text, fontSize);
+        }
+        return fontSize;
+    }
+}
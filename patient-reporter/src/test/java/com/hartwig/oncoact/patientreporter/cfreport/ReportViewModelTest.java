@@ -0,0 +1,47 @@
+package com.hartwig.oncoact.patientreporter.cfreport;
+
+import static org.junit.Assert.assertEquals;
+
+import com.hartwig.hmftools.datamodel.purple.PurpleQCStatus;
+import com.hartwig.oncoact.patientreporter.ExampleAnalysisConfig;
+import com.hartwig.oncoact.patientreporter.ExampleAnalysisTestFactory;
+import com.hartwig.oncoact.patientreporter.algo.AnalysedPatientReport;
+import com.hartwig.oncoact.patientreporter.algo.GenomicAnalysis;
+import com.hartwig.oncoact.patientreporter.cfreport.data.GainsAndLosses;
+import com.hartwig.oncoact.patientreporter.cfreport.data.HomozygousDisruptions;
+import com.hartwig.oncoact.patientreporter.cfreport.data.SomaticVariants;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+public class ReportViewModelTest {
+
+    @Test
+    public void sortsReportContent() {
+        AnalysedPatientReport report = createTestReport();
+        GenomicAnalysis analysis = report.genomicAnalysis();
+        ReportViewModel viewModel = ReportViewModel.create(report);
+
+        assertEquals(SomaticVariants.sort(analysis.reportableVariants()), viewModel.sortedReportableVariants());
+        assertEquals(GainsAndLosses.sort(analysis.gainsAndLosses()), viewModel.sortedGainsAndLosses());
+        assertEquals(HomozygousDisruptions.sort(analysis.homozygousDisruptions()), viewModel.sortedHomozygousDisruptions());
+    }
+
+    @Test
+    public void canPutReportInRenderedOrder() {
+        AnalysedPatientReport report = createTestReport();
+        ReportViewModel viewModel = ReportViewModel.create(report);
+        AnalysedPatientReport rendered = viewModel.inRenderedOrder(report);
+
+        assertEquals(viewModel.sortedReportableVariants(), rendered.genomicAnalysis().reportableVariants());
+        assertEquals(viewModel.sortedGainsAndLosses(), rendered.genomicAnalysis().gainsAndLosses());
+        assertEquals(viewModel.sortedHomozygousDisruptions(), rendered.genomicAnalysis().homozygousDisruptions());
+        assertEquals(report.clinicalSummary(), rendered.clinicalSummary());
+    }
+
+    @NotNull
+    private static AnalysedPatientReport createTestReport() {
+        ExampleAnalysisConfig config = new ExampleAnalysisConfig.Builder().sampleId("PNT00012345T").build();
+        return ExampleAnalysisTestFactory.createAnalysisWithAllTablesFilledIn(config, PurpleQCStatus.PASS);
+    }
+}
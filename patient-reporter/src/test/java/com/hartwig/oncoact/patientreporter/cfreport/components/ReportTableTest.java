@@ -0,0 +1,84 @@
+package com.hartwig.oncoact.patientreporter.cfreport.components;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import com.hartwig.oncoact.patientreporter.cfreport.ReportResources;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Cell;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+public class ReportTableTest {
+
+    @Test
+    public void usesLargeTableModeAboveRowThreshold() throws IOException {
+        assertFalse(render(ReportTable.LARGE_TABLE_ROW_THRESHOLD, new ByteArrayOutputStream()).isLargeTable());
+        assertTrue(render(ReportTable.LARGE_TABLE_ROW_THRESHOLD + 1, new ByteArrayOutputStream()).isLargeTable());
+    }
+
+    @Test
+    public void rendersAllRowsOfLargeTable() throws IOException {
+        int rows = ReportTable.LARGE_TABLE_ROW_THRESHOLD * 3;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        render(rows, out);
+
+        try (PdfDocument pdf = new PdfDocument(new PdfReader(new ByteArrayInputStream(out.toByteArray())))) {
+            assertTrue(pdf.getNumberOfPages() > 1);
+
+            StringBuilder text = new StringBuilder();
+            for (int page = 1; page <= pdf.getNumberOfPages(); page++) {
+                text.append(PdfTextExtractor.getTextFromPage(pdf.getPage(page)));
+            }
+            assertTrue(text.toString().contains("Many rows"));
+            assertTrue(text.toString().contains("gene-0"));
+            assertTrue(text.toString().contains("gene-" + (rows - 1)));
+            // Column headers are repeated on every page the table spans.
+            assertEquals(pdf.getNumberOfPages(), countOccurrences(text.toString(), "GENE"));
+        }
+    }
+
+    @NotNull
+    private static ReportTable render(int rows, @NotNull ByteArrayOutputStream out) throws IOException {
+        ReportResources reportResources = ReportResources.create();
+        TableUtil tableUtil = new TableUtil(reportResources);
+
+        ReportTable table;
+        try (Document document = new Document(new PdfDocument(new PdfWriter(out)), PageSize.A4)) {
+            table = tableUtil.reportTableBuilder("Many rows")
+                    .columns(new float[] { 1, 1 }, new Cell[] { tableUtil.createHeaderCell("Gene"), tableUtil.createHeaderCell("Value") })
+                    .contentWidth(ReportResources.CONTENT_WIDTH_WIDE)
+                    .expectedRows(rows)
+                    .start(document);
+            for (int i = 0; i < rows; i++) {
+                table.addCell(tableUtil.createContentCell("gene-" + i));
+                table.addCell(tableUtil.createContentCell(String.valueOf(i)));
+                table.endRow();
+            }
+            table.complete();
+        }
+        return table;
+    }
+
+    private static int countOccurrences(@NotNull String text, @NotNull String token) {
+        int count = 0;
+        int index = text.indexOf(token);
+        while (index >= 0) {
+            count++;
+            index = text.indexOf(token, index + token.length());
+        }
+        return count;
+    }
+}
@@ -0,0 +1,68 @@
+package com.hartwig.oncoact.patientreporter.output;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+
+import org.junit.Test;
+
+public class AtomicFileOutputTest {
+
+    @Test
+    public void canOverwriteExistingFile() throws IOException {
+        Path dir = Files.createTempDirectory("report-output");
+        String path = dir.resolve("report.json").toString();
+        ReportOutput output = new AtomicFileOutput();
+
+        output.write(path, outputStream -> outputStream.write("first".getBytes(StandardCharsets.UTF_8)));
+        output.write(path, outputStream -> outputStream.write("second".getBytes(StandardCharsets.UTF_8)));
+
+        assertArrayEquals("second".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(new File(path).toPath()));
+        assertEquals(1, dir.toFile().list().length);
+    }
+
+    @Test
+    public void writesFileWithDefaultPermissions() throws IOException {
+        Path dir = Files.createTempDirectory("report-output");
+        if (Files.getFileAttributeView(dir, PosixFileAttributeView.class) == null) {
+            return;
+        }
+
+        Path reference = dir.resolve("reference.json");
+        Files.write(reference, "reference".getBytes(StandardCharsets.UTF_8));
+        Path report = dir.resolve("report.json");
+        new AtomicFileOutput().write(report.toString(), outputStream -> outputStream.write("report".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(Files.getPosixFilePermissions(reference), Files.getPosixFilePermissions(report));
+    }
+
+    @Test
+    public void replacesFileOnlyWhenComplete() throws IOException {
+        Path dir = Files.createTempDirectory("report-output");
+        String path = dir.resolve("report.json").toString();
+        ReportOutput output = new AtomicFileOutput();
+
+        output.write(path, outputStream -> outputStream.write("first".getBytes(StandardCharsets.UTF_8)));
+        assertArrayEquals("first".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(new File(path).toPath()));
+
+        try {
+            output.write(path, outputStream -> {
+                outputStream.write("half".getBytes(StandardCharsets.UTF_8));
+                throw new IOException("Rendering failed");
+            });
+            fail();
+        } catch (IOException exception) {
+            assertEquals("Rendering failed", exception.getMessage());
+        }
+
+        assertArrayEquals("first".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(new File(path).toPath()));
+        assertEquals(1, dir.toFile().list().length);
+    }
+}
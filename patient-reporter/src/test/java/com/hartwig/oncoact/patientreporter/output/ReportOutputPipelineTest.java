@@ -0,0 +1,43 @@
+package com.hartwig.oncoact.patientreporter.output;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class ReportOutputPipelineTest {
+
+    @Test
+    public void runsStepsInParallel() throws IOException {
+        CountDownLatch latch = new CountDownLatch(2);
+        ReportOutputPipeline.Step step = () -> {
+            latch.countDown();
+            try {
+                assertTrue(latch.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException exception) {
+                throw new IOException(exception);
+            }
+        };
+
+        new ReportOutputPipeline().add(step).add(step).run();
+        assertEquals(0, latch.getCount());
+    }
+
+    @Test
+    public void propagatesFailingStep() {
+        try {
+            new ReportOutputPipeline().add(() -> {
+            }).add(() -> {
+                throw new IOException("Could not write XML");
+            }).run();
+            fail();
+        } catch (IOException exception) {
+            assertEquals("Could not write XML", exception.getMessage());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.hartwig.oncoact.protect.evidence;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.google.common.collect.Lists;
@@ -26,6 +27,8 @@ public class CopyNumberEvidence {
     private final PersonalizedEvidenceFactory personalizedEvidenceFactory;
     @NotNull
     private final List<ActionableGene> actionableGenes;
+    @NotNull
+    private final Set<String> actionableGeneNames;
 
     public CopyNumberEvidence(@NotNull final PersonalizedEvidenceFactory personalizedEvidenceFactory,
             @NotNull final List<ActionableGene> actionableGenes) {
@@ -36,6 +39,7 @@ public class CopyNumberEvidence {
                         || x.event() == GeneEvent.DELETION || x.event() == GeneEvent.UNDEREXPRESSION
                         || x.event() == GeneEvent.ABSENCE_OF_PROTEIN || x.event() == GeneEvent.ANY_MUTATION)
                 .collect(Collectors.toList());
+        this.actionableGeneNames = this.actionableGenes.stream().map(ActionableGene::gene).collect(Collectors.toSet());
     }
 
     @NotNull
@@ -70,6 +74,10 @@ public class CopyNumberEvidence {
     private List<ProtectEvidence> evidence(@NotNull PurpleGainLoss gainLoss, boolean report,
             @Nullable PatientInformationResponse diagnosticPatientData) {
         List<ProtectEvidence> result = Lists.newArrayList();
+        if (!actionableGeneNames.contains(gainLoss.gene())) {
+            return result;
+        }
+
         for (ActionableGene actionable : actionableGenes) {
             if (actionable.gene().equals(gainLoss.gene()) && isTypeMatch(actionable, gainLoss)) {
                 boolean reportInterpretation;
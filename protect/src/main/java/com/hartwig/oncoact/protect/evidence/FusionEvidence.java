@@ -2,6 +2,7 @@ package com.hartwig.oncoact.protect.evidence;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.google.common.collect.Lists;
@@ -26,6 +27,10 @@ public class FusionEvidence {
     private final List<ActionableGene> actionablePromiscuous;
     @NotNull
     private final List<ActionableFusion> actionableFusions;
+    @NotNull
+    private final Set<String> promiscuousGenes;
+    @NotNull
+    private final Set<String> fusionGenesUp;
 
     public FusionEvidence(@NotNull final PersonalizedEvidenceFactory personalizedEvidenceFactory,
             @NotNull final List<ActionableGene> actionableGenes, @NotNull final List<ActionableFusion> actionableFusions) {
@@ -34,6 +39,9 @@ public class FusionEvidence {
                 .filter(x -> x.event().equals(GeneEvent.FUSION) || x.event() == GeneEvent.ACTIVATION || x.event() == GeneEvent.ANY_MUTATION)
                 .collect(Collectors.toList());
         this.actionableFusions = actionableFusions;
+
+        this.promiscuousGenes = this.actionablePromiscuous.stream().map(ActionableGene::gene).collect(Collectors.toSet());
+        this.fusionGenesUp = actionableFusions.stream().map(ActionableFusion::geneUp).collect(Collectors.toSet());
     }
 
     @NotNull
@@ -55,22 +63,27 @@ public class FusionEvidence {
     @NotNull
     private List<ProtectEvidence> evidence(@NotNull LinxFusion fusion, @Nullable PatientInformationResponse diagnosticPatientData) {
         List<ProtectEvidence> evidences = Lists.newArrayList();
-        for (ActionableGene promiscuous : actionablePromiscuous) {
-            if (promiscuous.event().equals(GeneEvent.FUSION) && match(fusion, promiscuous)) {
-                evidences.add(evidence(fusion, promiscuous, diagnosticPatientData));
-            }
-            if (promiscuous.event().equals(GeneEvent.ACTIVATION) && match(fusion, promiscuous)) {
-                evidences.add(unreportableEvidence(fusion, promiscuous, diagnosticPatientData));
-            }
-
-            if (promiscuous.event().equals(GeneEvent.ANY_MUTATION) && match(fusion, promiscuous)) {
-                evidences.add(unreportableEvidence(fusion, promiscuous, diagnosticPatientData));
+        if (promiscuousGenes.contains(fusion.geneStart()) || promiscuousGenes.contains(fusion.geneEnd())) {
+            for (ActionableGene promiscuous : actionablePromiscuous) {
+                if (promiscuous.event().equals(GeneEvent.FUSION) && match(fusion, promiscuous)) {
+                    evidences.add(evidence(fusion, promiscuous, diagnosticPatientData));
+                }
+                if (promiscuous.event().equals(GeneEvent.ACTIVATION) && match(fusion, promiscuous)) {
+                    evidences.add(unreportableEvidence(fusion, promiscuous, diagnosticPatientData));
+                }
+
+                if (promiscuous.event().equals(GeneEvent.ANY_MUTATION) && match(fusion, promiscuous)) {
+                    evidences.add(unreportableEvidence(fusion, promiscuous, diagnosticPatientData));
+                }
             }
         }
 
-        for (ActionableFusion actionableFusion : actionableFusions) {
-            if (match(fusion, actionableFusion)) {
-                evidences.add(evidence(fusion, actionableFusion, diagnosticPatientData));
+        // Fusion pairs only match when their upstream gene is the start gene of the fusion.
+        if (fusionGenesUp.contains(fusion.geneStart())) {
+            for (ActionableFusion actionableFusion : actionableFusions) {
+                if (match(fusion, actionableFusion)) {
+                    evidences.add(evidence(fusion, actionableFusion, diagnosticPatientData));
+                }
             }
         }
         return evidences;
@@ -2,7 +2,9 @@ package com.hartwig.oncoact.protect.evidence;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.google.common.collect.Lists;
 import com.hartwig.hmftools.datamodel.purple.PurpleCodingEffect;
@@ -44,6 +46,11 @@ public class VariantEvidence {
     private final List<ActionableRange> exons;
     @NotNull
     private final List<ActionableGene> genes;
+    // The genes that any codon or exon range, respectively any gene event, applies to.
+    @NotNull
+    private final Set<String> rangeGenes;
+    @NotNull
+    private final Set<String> geneEventGenes;
 
     public VariantEvidence(@NotNull final PersonalizedEvidenceFactory personalizedEvidenceFactory,
             @NotNull final List<ActionableHotspot> hotspots, @NotNull final List<ActionableRange> codons,
@@ -56,6 +63,9 @@ public class VariantEvidence {
                 .filter(x -> x.event() == GeneEvent.ACTIVATION || x.event() == GeneEvent.INACTIVATION
                         || x.event() == GeneEvent.ABSENCE_OF_PROTEIN || x.event() == GeneEvent.ANY_MUTATION)
                 .collect(Collectors.toList());
+
+        this.rangeGenes = Stream.concat(codons.stream(), exons.stream()).map(ActionableRange::gene).collect(Collectors.toSet());
+        this.geneEventGenes = this.genes.stream().map(ActionableGene::gene).collect(Collectors.toSet());
     }
 
     @NotNull
@@ -67,10 +77,10 @@ public class VariantEvidence {
             evidences.addAll(evidence(reportableVariant, diagnosticPatientData));
         }
 
-        for (PurpleVariant somaticVariant : ReportableVariantFactory.mergeAllVariantLists(allSomaticVariants, allGermlineVariants)) {
-            if (!somaticVariant.reported()) {
-                evidences.addAll(evidence(somaticVariant, diagnosticPatientData));
-            }
+        Iterable<PurpleVariant> unreportedVariants =
+                ReportableVariantFactory.mergeAllVariantLists(allSomaticVariants, allGermlineVariants, true);
+        for (PurpleVariant unreportedVariant : unreportedVariants) {
+            evidences.addAll(evidence(unreportedVariant, diagnosticPatientData));
         }
 
         return evidences;
@@ -97,38 +107,43 @@ public class VariantEvidence {
             }
         }
 
-        for (ActionableRange codon : codons) {
-            if (rangeMatch(variant, codon)) {
-                evidences.add(evidence(variant,
-                        codon,
-                        mayReport && driverInterpretation == DriverInterpretation.HIGH,
-                        "codon",
-                        diagnosticPatientData));
+        // Ranges and gene events only apply to variants in their own gene, so most variants skip them after a single lookup.
+        if (rangeGenes.contains(variant.gene())) {
+            for (ActionableRange codon : codons) {
+                if (rangeMatch(variant, codon)) {
+                    evidences.add(evidence(variant,
+                            codon,
+                            mayReport && driverInterpretation == DriverInterpretation.HIGH,
+                            "codon",
+                            diagnosticPatientData));
+                }
             }
-        }
 
-        for (ActionableRange exon : exons) {
-            if (rangeMatch(variant, exon)) {
-                evidences.add(evidence(variant,
-                        exon,
-                        mayReport && driverInterpretation == DriverInterpretation.HIGH,
-                        "exon",
-                        diagnosticPatientData));
+            for (ActionableRange exon : exons) {
+                if (rangeMatch(variant, exon)) {
+                    evidences.add(evidence(variant,
+                            exon,
+                            mayReport && driverInterpretation == DriverInterpretation.HIGH,
+                            "exon",
+                            diagnosticPatientData));
+                }
             }
         }
 
-        for (ActionableGene gene : genes) {
-            if (geneMatch(variant, gene)) {
-                boolean report = mayReport && driverInterpretation == DriverInterpretation.HIGH;
-                boolean reportInterpret = false;
-                EvidenceType type = PersonalizedEvidenceFactory.determineEvidenceType(gene, null);
-                if (type.equals(EvidenceType.ABSENCE_OF_PROTEIN)) {
-                    reportInterpret = report && Genes.MSI_GENES.contains(gene.gene());
-                } else {
-                    reportInterpret = report;
-                }
+        if (geneEventGenes.contains(variant.gene())) {
+            for (ActionableGene gene : genes) {
+                if (geneMatch(variant, gene)) {
+                    boolean report = mayReport && driverInterpretation == DriverInterpretation.HIGH;
+                    boolean reportInterpret = false;
+                    EvidenceType type = PersonalizedEvidenceFactory.determineEvidenceType(gene, null);
+                    if (type.equals(EvidenceType.ABSENCE_OF_PROTEIN)) {
+                        reportInterpret = report && Genes.MSI_GENES.contains(gene.gene());
+                    } else {
+                        reportInterpret = report;
+                    }
 
-                evidences.add(evidence(variant, gene, reportInterpret, "gene", diagnosticPatientData));
+                    evidences.add(evidence(variant, gene, reportInterpret, "gene", diagnosticPatientData));
+                }
             }
         }
 
@@ -2,9 +2,11 @@ package com.hartwig.oncoact.protect.evidence;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import com.hartwig.hmftools.datamodel.linx.HomozygousDisruption;
 import com.hartwig.hmftools.datamodel.linx.LinxBreakend;
 import com.hartwig.hmftools.datamodel.linx.LinxFusion;
@@ -52,13 +54,14 @@ public class WildTypeEvidence {
                 reportableBreakends,
                 driverGenes);
 
-        List<WildTypeGene> wildTypeGenesFilter = WildTypeFactory.filterQCWildTypes(purpleQCStatus, wildTypeGenes);
+        Set<String> wildTypeGenesFilter = Sets.newHashSet();
+        for (WildTypeGene wildType : WildTypeFactory.filterQCWildTypes(purpleQCStatus, wildTypeGenes)) {
+            wildTypeGenesFilter.add(wildType.gene());
+        }
 
         for (ActionableGene actionable : actionableGenes) {
-            for (WildTypeGene wildType : wildTypeGenesFilter) {
-                if (wildType.gene().equals(actionable.gene())) {
-                    evidences.add(evidence(actionable, diagnosticPatientData));
-                }
+            if (wildTypeGenesFilter.contains(actionable.gene())) {
+                evidences.add(evidence(actionable, diagnosticPatientData));
             }
         }
         return evidences;
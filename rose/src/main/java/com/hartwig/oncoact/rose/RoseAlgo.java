@@ -2,7 +2,10 @@ package com.hartwig.oncoact.rose;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
 import com.hartwig.hmftools.datamodel.orange.OrangeRecord;
 import com.hartwig.oncoact.clinicaltransript.ClinicalTranscriptFile;
 import com.hartwig.oncoact.clinicaltransript.ClinicalTranscriptsModel;
@@ -11,6 +14,7 @@ import com.hartwig.oncoact.drivergene.DriverGeneFile;
 import com.hartwig.oncoact.orange.OrangeJson;
 import com.hartwig.oncoact.rose.actionability.ActionabilityEntry;
 import com.hartwig.oncoact.rose.actionability.ActionabilityFileReader;
+import com.hartwig.oncoact.rose.actionability.ActionabilityLookup;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -21,9 +25,9 @@ public class RoseAlgo {
     private static final Logger LOGGER = LogManager.getLogger(RoseAlgo.class);
 
     @NotNull
-    private final List<ActionabilityEntry> actionabilityEntries;
+    private final ActionabilityLookup actionabilityLookup;
     @NotNull
-    private final List<DriverGene> driverGenes;
+    private final Map<String, DriverGene> driverGenesPerGene;
     @NotNull
     private final ClinicalTranscriptsModel clinicalTranscriptsModel;
 
@@ -34,16 +38,25 @@ public class RoseAlgo {
         List<DriverGene> driverGenes = readDriverGenesFromFile(driverGeneTsv);
         ClinicalTranscriptsModel clinicalTranscriptsModel = ClinicalTranscriptFile.buildFromTsv(clinicalTranscriptsTsv);
 
-        return new RoseAlgo(actionabilityEntry, driverGenes, clinicalTranscriptsModel);
+        return new RoseAlgo(ActionabilityLookup.create(actionabilityEntry), toDriverGenesPerGene(driverGenes), clinicalTranscriptsModel);
     }
 
-    private RoseAlgo(final @NotNull List<ActionabilityEntry> actionabilityEntries, final @NotNull List<DriverGene> driverGenes,
+    private RoseAlgo(final @NotNull ActionabilityLookup actionabilityLookup, final @NotNull Map<String, DriverGene> driverGenesPerGene,
             final @NotNull ClinicalTranscriptsModel clinicalTranscriptsModel) {
-        this.actionabilityEntries = actionabilityEntries;
-        this.driverGenes = driverGenes;
+        this.actionabilityLookup = actionabilityLookup;
+        this.driverGenesPerGene = driverGenesPerGene;
         this.clinicalTranscriptsModel = clinicalTranscriptsModel;
     }
 
+    @NotNull
+    private static Map<String, DriverGene> toDriverGenesPerGene(@NotNull List<DriverGene> driverGenes) {
+        Map<String, DriverGene> driverGenesPerGene = Maps.newHashMap();
+        for (DriverGene driverGene : driverGenes) {
+            driverGenesPerGene.put(driverGene.gene(), driverGene);
+        }
+        return ImmutableMap.copyOf(driverGenesPerGene);
+    }
+
     @NotNull
     private static List<DriverGene> readDriverGenesFromFile(@NotNull String driverGeneTsv) throws IOException {
         LOGGER.info(" Reading driver genes from {}", driverGeneTsv);
@@ -64,13 +77,24 @@ public class RoseAlgo {
 
     @NotNull
     public RoseData run(@NotNull RoseConfig config) throws IOException {
-        LOGGER.info("Loading ORANGE file from {}", config.orangeJson());
-        OrangeRecord orange = OrangeJson.read(config.orangeJson());
+        return run(config.orangeJson());
+    }
 
+    @NotNull
+    public RoseData run(@NotNull String orangeJson) throws IOException {
+        LOGGER.info("Loading ORANGE file from {}", orangeJson);
+        OrangeRecord orange = OrangeJson.read(orangeJson);
+
+        return run(orange);
+    }
+
+    // The knowledgebase lookups are immutable, so a single RoseAlgo can be reused across samples (and threads).
+    @NotNull
+    public RoseData run(@NotNull OrangeRecord orange) {
         return ImmutableRoseData.builder()
                 .orange(orange)
-                .actionabilityEntries(actionabilityEntries)
-                .driverGenes(driverGenes)
+                .actionabilityLookup(actionabilityLookup)
+                .driverGenesPerGene(driverGenesPerGene)
                 .clinicalTranscriptsModel(clinicalTranscriptsModel)
                 .build();
     }
@@ -49,9 +49,11 @@ public class RoseApplication {
         RoseAlgo algo = RoseAlgo.build(config.actionabilityDatabaseTsv(), config.driverGeneTsv(), config.clinicalTranscriptsTsv());
         RoseData rose = algo.run(config);
 
-        ActionabilityConclusion actionabilityConclusion = ConclusionAlgo.generateConclusion(rose);
+        writeConclusion(ConclusionAlgo.generateConclusion(rose), config.outputDir());
+    }
 
-        String filename = config.outputDir() + File.separator + "rose.txt";
+    static void writeConclusion(@NotNull ActionabilityConclusion actionabilityConclusion, @NotNull String outputDir) throws IOException {
+        String filename = outputDir + File.separator + "rose.txt";
         LOGGER.info("Writing actionability conclusion to file: {}", filename);
         RoseConclusionFile.write(filename, actionabilityConclusion);
     }
@@ -0,0 +1,74 @@
+package com.hartwig.oncoact.rose;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import com.hartwig.oncoact.batch.BatchRunner;
+import com.hartwig.oncoact.parser.CliAndPropertyParser;
+import com.hartwig.oncoact.rose.conclusion.ConclusionAlgo;
+
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+public class RoseBatchApplication {
+
+    private static final Logger LOGGER = LogManager.getLogger(RoseBatchApplication.class);
+    private static final String VERSION = RoseBatchApplication.class.getPackage().getImplementationVersion();
+
+    public static void main(@NotNull String[] args) throws IOException, InterruptedException {
+        LOGGER.info("Running ROSE v{} in batch mode", VERSION);
+
+        Options options = RoseBatchConfig.createOptions();
+
+        RoseBatchConfig config = null;
+        try {
+            config = RoseBatchConfig.createConfig(new CliAndPropertyParser().parse(options, args));
+        } catch (ParseException exception) {
+            LOGGER.warn(exception);
+            new HelpFormatter().printHelp("ROSE batch", options);
+            System.exit(1);
+        }
+
+        LOGGER.info("Rose batch config is: {}", config);
+        int failedSamples = new RoseBatchApplication(config).run();
+        if (failedSamples > 0) {
+            LOGGER.error("ROSE failed for {} samples", failedSamples);
+            System.exit(1);
+        }
+
+        LOGGER.info("Complete");
+    }
+
+    @NotNull
+    private final RoseBatchConfig config;
+
+    public RoseBatchApplication(@NotNull final RoseBatchConfig config) {
+        this.config = config;
+    }
+
+    public int run() throws IOException, InterruptedException {
+        RoseAlgo algo = RoseAlgo.build(config.actionabilityDatabaseTsv(), config.driverGeneTsv(), config.clinicalTranscriptsTsv());
+
+        List<RoseBatchEntry> entries = RoseBatchManifestFile.read(config.manifestTsv());
+        LOGGER.info("Running ROSE for {} samples using {} threads", entries.size(), config.threads());
+
+        return BatchRunner.run(entries, config.threads(), entry -> runSample(algo, entry), RoseBatchEntry::orangeJson);
+    }
+
+    private static void runSample(@NotNull RoseAlgo algo, @NotNull RoseBatchEntry entry) throws IOException {
+        File outputDir = new File(entry.outputDir());
+        if (!outputDir.exists() && !outputDir.mkdirs()) {
+            throw new IOException("Unable to write to directory " + entry.outputDir());
+        }
+
+        RoseData rose = algo.run(entry.orangeJson());
+
+        ActionabilityConclusion actionabilityConclusion = ConclusionAlgo.generateConclusion(rose);
+        RoseApplication.writeConclusion(actionabilityConclusion, entry.outputDir());
+    }
+}
@@ -0,0 +1,85 @@
+package com.hartwig.oncoact.rose;
+
+import static com.hartwig.oncoact.rose.RoseConfig.nonOptionalFile;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.immutables.value.Value;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+@Value.Immutable
+@Value.Style(passAnnotations = { NotNull.class, Nullable.class })
+public interface RoseBatchConfig {
+
+    String MANIFEST_TSV = "manifest_tsv";
+    String THREADS = "threads";
+
+    @NotNull
+    static Options createOptions() {
+        Options options = new Options();
+
+        options.addOption(MANIFEST_TSV, true, "Path towards a TSV with an orange_json and output_dir column per sample.");
+        options.addOption(THREADS, true, "Number of samples to process in parallel (default: number of available processors).");
+
+        options.addOption(RoseConfig.ACTIONABILITY_DATABASE_TSV,
+                true,
+                "Path to where the data of the actionability database can be found.");
+        options.addOption(RoseConfig.DRIVER_GENE_TSV, true, "Path to driver gene TSV");
+        options.addOption(RoseConfig.CLINICAL_TRANSCRIPTS_TSV,
+                true,
+                "Path towards a TSV containing the clinical transcripts of that gene.");
+
+        options.addOption(RoseConfig.LOG_DEBUG, false, "If provided, set the log level to debug rather than default.");
+
+        return options;
+    }
+
+    @NotNull
+    String manifestTsv();
+
+    int threads();
+
+    @NotNull
+    String actionabilityDatabaseTsv();
+
+    @NotNull
+    String driverGeneTsv();
+
+    @NotNull
+    String clinicalTranscriptsTsv();
+
+    @NotNull
+    static RoseBatchConfig createConfig(@NotNull CommandLine cmd) throws ParseException {
+        if (cmd.hasOption(RoseConfig.LOG_DEBUG)) {
+            Configurator.setRootLevel(Level.DEBUG);
+        }
+
+        return ImmutableRoseBatchConfig.builder()
+                .manifestTsv(nonOptionalFile(cmd, MANIFEST_TSV))
+                .threads(threads(cmd))
+                .actionabilityDatabaseTsv(nonOptionalFile(cmd, RoseConfig.ACTIONABILITY_DATABASE_TSV))
+                .driverGeneTsv(nonOptionalFile(cmd, RoseConfig.DRIVER_GENE_TSV))
+                .clinicalTranscriptsTsv(nonOptionalFile(cmd, RoseConfig.CLINICAL_TRANSCRIPTS_TSV))
+                .build();
+    }
+
+    static int threads(@NotNull CommandLine cmd) throws ParseException {
+        if (!cmd.hasOption(THREADS)) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+
+        try {
+            int threads = Integer.parseInt(cmd.getOptionValue(THREADS));
+            if (threads < 1) {
+                throw new ParseException("Parameter '" + THREADS + "' must be at least 1: " + threads);
+            }
+            return threads;
+        } catch (NumberFormatException exception) {
+            throw new ParseException("Parameter '" + THREADS + "' must be an integer: " + cmd.getOptionValue(THREADS));
+        }
+    }
+}
@@ -1,4 +1,4 @@
-package com.hartwig.oncoact.rose.actionability;
+package com.hartwig.oncoact.rose;
 
 import org.immutables.value.Value;
 import org.jetbrains.annotations.NotNull;
@@ -6,11 +6,11 @@ import org.jetbrains.annotations.Nullable;
 
 @Value.Immutable
 @Value.Style(passAnnotations = { NotNull.class, Nullable.class })
-public abstract class ActionabilityKey {
+public abstract class RoseBatchEntry {
 
     @NotNull
-    public abstract String match();
+    public abstract String orangeJson();
 
-    @Nullable
-    public abstract TypeAlteration type();
+    @NotNull
+    public abstract String outputDir();
 }
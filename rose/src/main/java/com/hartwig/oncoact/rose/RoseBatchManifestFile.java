@@ -0,0 +1,25 @@
+package com.hartwig.oncoact.rose;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.hartwig.oncoact.batch.BatchManifestFile;
+
+import org.jetbrains.annotations.NotNull;
+
+public final class RoseBatchManifestFile {
+
+    private static final String ORANGE_JSON = "orange_json";
+    private static final String OUTPUT_DIR = "output_dir";
+
+    private RoseBatchManifestFile() {
+    }
+
+    @NotNull
+    public static List<RoseBatchEntry> read(@NotNull String manifestTsv) throws IOException {
+        return BatchManifestFile.read(manifestTsv,
+                ImmutableList.of(ORANGE_JSON, OUTPUT_DIR),
+                values -> ImmutableRoseBatchEntry.builder().orangeJson(values.get(0)).outputDir(values.get(1)).build());
+    }
+}
@@ -1,11 +1,11 @@
 package com.hartwig.oncoact.rose;
 
-import java.util.List;
+import java.util.Map;
 
 import com.hartwig.hmftools.datamodel.orange.OrangeRecord;
 import com.hartwig.oncoact.clinicaltransript.ClinicalTranscriptsModel;
 import com.hartwig.oncoact.drivergene.DriverGene;
-import com.hartwig.oncoact.rose.actionability.ActionabilityEntry;
+import com.hartwig.oncoact.rose.actionability.ActionabilityLookup;
 
 import org.immutables.value.Value;
 import org.jetbrains.annotations.NotNull;
@@ -18,10 +18,10 @@ public abstract class RoseData {
     public abstract OrangeRecord orange();
 
     @NotNull
-    public abstract List<ActionabilityEntry> actionabilityEntries();
+    public abstract ActionabilityLookup actionabilityLookup();
 
     @NotNull
-    public abstract List<DriverGene> driverGenes();
+    public abstract Map<String, DriverGene> driverGenesPerGene();
 
     @NotNull
     public abstract ClinicalTranscriptsModel clinicalTranscriptsModel();
@@ -18,4 +18,10 @@ public abstract class ActionabilityEntry {
 
     @NotNull
     public abstract String conclusion();
+
+    @Value.Derived
+    @NotNull
+    public ConclusionTemplate conclusionTemplate() {
+        return ConclusionTemplate.compile(conclusion());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.hartwig.oncoact.rose.actionability;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public final class ActionabilityLookup {
+
+    @NotNull
+    private final List<ActionabilityEntry> entries;
+    @NotNull
+    private final Map<TypeAlteration, Map<String, ActionabilityEntry>> entriesPerType;
+
+    @NotNull
+    public static ActionabilityLookup create(@NotNull List<ActionabilityEntry> entries) {
+        Map<TypeAlteration, Map<String, ActionabilityEntry>> entriesPerType = new EnumMap<>(TypeAlteration.class);
+        for (ActionabilityEntry entry : entries) {
+            entriesPerType.computeIfAbsent(entry.type(), type -> Maps.newHashMap()).put(entry.match(), entry);
+        }
+
+        Map<TypeAlteration, Map<String, ActionabilityEntry>> immutableEntriesPerType = new EnumMap<>(TypeAlteration.class);
+        for (Map.Entry<TypeAlteration, Map<String, ActionabilityEntry>> typeEntry : entriesPerType.entrySet()) {
+            immutableEntriesPerType.put(typeEntry.getKey(), ImmutableMap.copyOf(typeEntry.getValue()));
+        }
+
+        return new ActionabilityLookup(ImmutableList.copyOf(entries), Collections.unmodifiableMap(immutableEntriesPerType));
+    }
+
+    private ActionabilityLookup(@NotNull final List<ActionabilityEntry> entries,
+            @NotNull final Map<TypeAlteration, Map<String, ActionabilityEntry>> entriesPerType) {
+        this.entries = entries;
+        this.entriesPerType = entriesPerType;
+    }
+
+    @Nullable
+    public ActionabilityEntry get(@NotNull String match, @NotNull TypeAlteration type) {
+        Map<String, ActionabilityEntry> entriesForType = entriesPerType.get(type);
+        return entriesForType != null ? entriesForType.get(match) : null;
+    }
+
+    @NotNull
+    public List<ActionabilityEntry> entries() {
+        return entries;
+    }
+}
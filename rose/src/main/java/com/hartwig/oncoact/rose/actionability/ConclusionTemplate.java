@@ -0,0 +1,154 @@
+package com.hartwig.oncoact.rose.actionability;
+
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A conclusion sentence from the actionability database, parsed once into literal text and typed placeholders. Instances are immutable
+ * and rendering only allocates the resulting string, so templates can be shared between samples rendered concurrently.
+ */
+public final class ConclusionTemplate {
+
+    public enum Placeholder {
+        TUMOR_TYPE_WITH_LIKELIHOOD("XXXX"),
+        HIGHEST_LIKELIHOOD_TUMOR_TYPE("xxx - xx%"),
+        PERCENTAGE("XX%");
+
+        @NotNull
+        private final String token;
+
+        Placeholder(@NotNull final String token) {
+            this.token = token;
+        }
+
+        @NotNull
+        public String token() {
+            return token;
+        }
+    }
+
+    private static final String OPTIONAL_GROUP_START = " (";
+    private static final String OPTIONAL_GROUP_END = ")";
+
+    @NotNull
+    private final String template;
+    // literals.get(i) precedes placeholders.get(i), the final literal trails the last placeholder.
+    @NotNull
+    private final List<String> literals;
+    @NotNull
+    private final List<Placeholder> placeholders;
+
+    @NotNull
+    public static ConclusionTemplate compile(@NotNull String template) {
+        List<String> literals = Lists.newArrayList();
+        List<Placeholder> placeholders = Lists.newArrayList();
+
+        int start = 0;
+        while (true) {
+            int matchIndex = -1;
+            Placeholder match = null;
+            for (Placeholder placeholder : Placeholder.values()) {
+                int index = template.indexOf(placeholder.token(), start);
+                if (index >= 0 && (matchIndex < 0 || index < matchIndex)) {
+                    matchIndex = index;
+                    match = placeholder;
+                }
+            }
+
+            if (match == null) {
+                literals.add(template.substring(start));
+                break;
+            }
+
+            literals.add(template.substring(start, matchIndex));
+            placeholders.add(match);
+            start = matchIndex + match.token().length();
+        }
+
+        return new ConclusionTemplate(template, ImmutableList.copyOf(literals), ImmutableList.copyOf(placeholders));
+    }
+
+    private ConclusionTemplate(@NotNull final String template, @NotNull final List<String> literals,
+            @NotNull final List<Placeholder> placeholders) {
+        this.template = template;
+        this.literals = literals;
+        this.placeholders = placeholders;
+    }
+
+    @NotNull
+    public String template() {
+        return template;
+    }
+
+    public boolean contains(@NotNull Placeholder placeholder) {
+        return placeholders.contains(placeholder);
+    }
+
+    /**
+     * Renders the template with every occurrence of the placeholder replaced by the value. Other placeholders are rendered as-is.
+     * A null value drops the parenthesised group around the placeholder (e.g. " (highest likelihood: xxx - xx%)"), or leaves the
+     * placeholder untouched when it is not part of such a group.
+     */
+    @NotNull
+    public String render(@NotNull Placeholder placeholder, @Nullable String value) {
+        if (!placeholders.contains(placeholder)) {
+            return template;
+        }
+
+        StringBuilder builder = new StringBuilder(template.length() + (value != null ? value.length() : 0));
+        int skip = 0;
+        for (int i = 0; i < placeholders.size(); i++) {
+            String literal = literals.get(i);
+            Placeholder current = placeholders.get(i);
+
+            if (current != placeholder) {
+                builder.append(literal, skip, literal.length()).append(current.token());
+                skip = 0;
+            } else if (value != null) {
+                builder.append(literal, skip, literal.length()).append(value);
+                skip = 0;
+            } else {
+                int groupStart = literal.lastIndexOf(OPTIONAL_GROUP_START);
+                boolean isOptionalGroup = groupStart >= skip && literal.indexOf(OPTIONAL_GROUP_END, groupStart) < 0
+                        && literals.get(i + 1).startsWith(OPTIONAL_GROUP_END);
+                if (isOptionalGroup) {
+                    builder.append(literal, skip, groupStart);
+                    skip = OPTIONAL_GROUP_END.length();
+                } else {
+                    builder.append(literal, skip, literal.length()).append(current.token());
+                    skip = 0;
+                }
+            }
+        }
+        String trailing = literals.get(literals.size() - 1);
+        builder.append(trailing, skip, trailing.length());
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return template.equals(((ConclusionTemplate) o).template);
+    }
+
+    @Override
+    public int hashCode() {
+        return template.hashCode();
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return template;
+    }
+}
@@ -11,11 +11,15 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.hartwig.hmftools.datamodel.chord.ChordRecord;
 import com.hartwig.hmftools.datamodel.chord.ChordStatus;
 import com.hartwig.hmftools.datamodel.cuppa.CuppaData;
@@ -43,9 +47,9 @@ import com.hartwig.oncoact.rose.ActionabilityConclusion;
 import com.hartwig.oncoact.rose.ImmutableActionabilityConclusion;
 import com.hartwig.oncoact.rose.RoseData;
 import com.hartwig.oncoact.rose.actionability.ActionabilityEntry;
-import com.hartwig.oncoact.rose.actionability.ActionabilityKey;
+import com.hartwig.oncoact.rose.actionability.ActionabilityLookup;
+import com.hartwig.oncoact.rose.actionability.ConclusionTemplate.Placeholder;
 import com.hartwig.oncoact.rose.actionability.Condition;
-import com.hartwig.oncoact.rose.actionability.ImmutableActionabilityKey;
 import com.hartwig.oncoact.rose.actionability.TypeAlteration;
 import com.hartwig.oncoact.util.Formats;
 import com.hartwig.oncoact.util.ListUtil;
@@ -67,8 +71,11 @@ public final class ConclusionAlgo {
             LinxFusionType.IG_KNOWN_PAIR,
             LinxFusionType.IG_PROMISCUOUS);
     private static final Set<String> HRD_GENES = Sets.newHashSet("BRCA1", "BRCA2", "PALB2", "RAD51B", "RAD51C");
+    private static final String HPV_HLA_MATCH = "HPV-16 | HLA-A*02";
+    private static final String HLA_MATCH = "HLA-A*02";
 
-    private static final DecimalFormat SINGLE_DECIMAL_FORMAT = decimalFormat("#.#");
+    // DecimalFormat is not thread-safe, and sections may be generated concurrently.
+    private static final ThreadLocal<DecimalFormat> SINGLE_DECIMAL_FORMAT = ThreadLocal.withInitial(() -> decimalFormat("#.#"));
     private static final double PURITY_CUTOFF = 0.195;
 
     private ConclusionAlgo() {
@@ -76,14 +83,13 @@ public final class ConclusionAlgo {
 
     @NotNull
     public static ActionabilityConclusion generateConclusion(@NotNull RoseData rose) {
-        List<String> conclusion = Lists.newArrayList();
-        List<String> conclusionMerged = Lists.newArrayList();
-        Set<String> oncogenic = Sets.newHashSet();
-        Set<String> actionable = Sets.newHashSet();
-        Set<String> HRD = Sets.newHashSet();
+        return generateConclusion(rose, MoreExecutors.directExecutor());
+    }
 
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap = generateActionabilityMap(rose.actionabilityEntries());
-        Map<String, DriverGene> driverGenesMap = generateDriverGenesMap(rose.driverGenes());
+    @NotNull
+    public static ActionabilityConclusion generateConclusion(@NotNull RoseData rose, @NotNull Executor executor) {
+        ActionabilityLookup actionabilityLookup = rose.actionabilityLookup();
+        Map<String, DriverGene> driverGenesMap = rose.driverGenesPerGene();
 
         PurpleRecord purple = rose.orange().purple();
         Set<ReportableVariant> reportableSomaticVariants =
@@ -112,59 +118,113 @@ public final class ConclusionAlgo {
                 Optional.ofNullable(rose.orange().virusInterpreter()).map(VirusInterpreterData::reportableViruses).orElseGet(List::of);
         List<LilacAllele> lilac = rose.orange().lilac().alleles();
         CuppaPrediction bestPrediction = bestPrediction(rose.orange().cuppa());
+        ChordRecord chord = rose.orange().chord();
+
+        // Every section collects its own sentences and oncogenic/actionable events, and sections are merged in a fixed order
+        // afterwards, so the output does not depend on whether (or how) the executor runs them in parallel.
+        CompletableFuture<ConclusionSection> variantSection = section(executor,
+                section -> generateVariantConclusion(section.sentences(),
+                        reportableVariants,
+                        actionabilityLookup,
+                        driverGenesMap,
+                        section.oncogenic(),
+                        section.actionable(),
+                        section.hrdGenes(),
+                        chord));
+        CompletableFuture<ConclusionSection> cnvSection = section(executor,
+                section -> generateCNVConclusion(section.sentences(),
+                        reportableGainLosses,
+                        actionabilityLookup,
+                        section.oncogenic(),
+                        section.actionable(),
+                        purple.fit().containsTumorCells()));
+        CompletableFuture<ConclusionSection> fusionSection = section(executor,
+                section -> generateFusionConclusion(section.sentences(),
+                        reportableFusions,
+                        actionabilityLookup,
+                        section.oncogenic(),
+                        section.actionable()));
+        CompletableFuture<ConclusionSection> homozygousDisruptionSection = section(executor,
+                section -> generateHomozygousDisruptionConclusion(section.sentences(),
+                        homozygousDisruptions,
+                        actionabilityLookup,
+                        section.oncogenic(),
+                        section.actionable()));
+        CompletableFuture<ConclusionSection> virusHLASection = section(executor,
+                section -> generateVirusHLAConclusion(section.sentences(),
+                        reportableViruses,
+                        lilac,
+                        actionabilityLookup,
+                        section.oncogenic(),
+                        section.actionable()));
+        // The HRD conclusion depends on the HRD genes found by the variant conclusion.
+        CompletableFuture<ConclusionSection> hrdSection = variantSection.thenApplyAsync(variant -> {
+            ConclusionSection section = new ConclusionSection();
+            generateHrdConclusion(section.sentences(),
+                    chord,
+                    actionabilityLookup,
+                    section.oncogenic(),
+                    section.actionable(),
+                    Sets.newHashSet(variant.hrdGenes()));
+            return section;
+        }, executor);
+        CompletableFuture<ConclusionSection> msiSection = section(executor,
+                section -> generateMSIConclusion(section.sentences(),
+                        purple.characteristics().microsatelliteStatus(),
+                        purple.characteristics().microsatelliteIndelsPerMb(),
+                        actionabilityLookup,
+                        section.oncogenic(),
+                        section.actionable()));
+        CompletableFuture<ConclusionSection> tmbSection = section(executor,
+                section -> generateTMBConclusion(section.sentences(),
+                        purple.characteristics().tumorMutationalLoadStatus(),
+                        purple.characteristics().tumorMutationalBurdenPerMb(),
+                        actionabilityLookup,
+                        section.oncogenic(),
+                        section.actionable()));
+        CompletableFuture<ConclusionSection> puritySection = section(executor,
+                section -> generatePurityConclusion(section.sentences(),
+                        purple.fit().purity(),
+                        purple.fit().containsTumorCells(),
+                        actionabilityLookup));
+        CompletableFuture<ConclusionSection> cuppaSection =
+                section(executor, section -> generateCUPPAConclusion(section.sentences(), bestPrediction, actionabilityLookup));
 
-        generateVariantConclusion(conclusion,
-                reportableVariants,
-                actionabilityMap,
-                driverGenesMap,
-                oncogenic,
-                actionable,
-                HRD,
-                rose.orange().chord());
-        generateCNVConclusion(conclusion, reportableGainLosses, actionabilityMap, oncogenic, actionable, purple.fit().containsTumorCells());
-        generateFusionConclusion(conclusion, reportableFusions, actionabilityMap, oncogenic, actionable);
-        generateHomozygousDisruptionConclusion(conclusion, homozygousDisruptions, actionabilityMap, oncogenic, actionable);
-        generateVirusHLAConclusion(conclusion, reportableViruses, lilac, actionabilityMap, oncogenic, actionable);
-        generateHrdConclusion(conclusion, rose.orange().chord(), actionabilityMap, oncogenic, actionable, HRD);
-        generateMSIConclusion(conclusion,
-                purple.characteristics().microsatelliteStatus(),
-                purple.characteristics().microsatelliteIndelsPerMb(),
-                actionabilityMap,
-                oncogenic,
-                actionable);
-        generateTMBConclusion(conclusion,
-                purple.characteristics().tumorMutationalLoadStatus(),
-                purple.characteristics().tumorMutationalBurdenPerMb(),
-                actionabilityMap,
-                oncogenic,
-                actionable);
+        List<String> conclusion = Lists.newArrayList();
+        Set<String> oncogenic = Sets.newHashSet();
+        Set<String> actionable = Sets.newHashSet();
+        for (CompletableFuture<ConclusionSection> future : List.of(variantSection,
+                cnvSection,
+                fusionSection,
+                homozygousDisruptionSection,
+                virusHLASection,
+                hrdSection,
+                msiSection,
+                tmbSection)) {
+            ConclusionSection section = future.join();
+            conclusion.addAll(section.sentences());
+            oncogenic.addAll(section.oncogenic());
+            actionable.addAll(section.actionable());
+        }
         conclusion.sort(Comparator.naturalOrder());  // sort list alphabetically
 
-        generatePurityConclusion(conclusionMerged, purple.fit().purity(), purple.fit().containsTumorCells(), actionabilityMap);
-        generateCUPPAConclusion(conclusionMerged, bestPrediction, actionabilityMap);
+        List<String> conclusionMerged = Lists.newArrayList();
+        conclusionMerged.addAll(puritySection.join().sentences());
+        conclusionMerged.addAll(cuppaSection.join().sentences());
         conclusionMerged.addAll(conclusion);
-        generateTotalResults(conclusionMerged, actionabilityMap, oncogenic, actionable);
+        generateTotalResults(conclusionMerged, actionabilityLookup, oncogenic, actionable);
 
         return ImmutableActionabilityConclusion.builder().conclusion(conclusionMerged).build();
     }
 
     @NotNull
-    private static Map<ActionabilityKey, ActionabilityEntry> generateActionabilityMap(@NotNull List<ActionabilityEntry> actionabilityDB) {
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap = Maps.newHashMap();
-        for (ActionabilityEntry entry : actionabilityDB) {
-            ActionabilityKey key = ImmutableActionabilityKey.builder().match(entry.match()).type(entry.type()).build();
-            actionabilityMap.put(key, entry);
-        }
-        return actionabilityMap;
-    }
-
-    @NotNull
-    private static Map<String, DriverGene> generateDriverGenesMap(@NotNull List<DriverGene> driverGenes) {
-        Map<String, DriverGene> driverGeneMap = Maps.newHashMap();
-        for (DriverGene entry : driverGenes) {
-            driverGeneMap.put(entry.gene(), entry);
-        }
-        return driverGeneMap;
+    private static CompletableFuture<ConclusionSection> section(@NotNull Executor executor,
+            @NotNull Consumer<ConclusionSection> generator) {
+        return CompletableFuture.supplyAsync(() -> {
+            ConclusionSection section = new ConclusionSection();
+            generator.accept(section);
+            return section;
+        }, executor);
     }
 
     @NotNull
@@ -186,37 +246,36 @@ public final class ConclusionAlgo {
 
     @VisibleForTesting
     static void generateCUPPAConclusion(@NotNull List<String> conclusion, @NotNull CuppaPrediction bestPrediction,
-            @NotNull Map<ActionabilityKey, ActionabilityEntry> actionabilityMap) {
+            @NotNull ActionabilityLookup actionabilityLookup) {
         String likelihoodPercentage = Formats.formatPercentageDigit(bestPrediction.likelihood());
         if (bestPrediction.likelihood() < 0.8) {
-            ActionabilityKey keyCuppaInconclusive =
-                    ImmutableActionabilityKey.builder().match("CUPPA_INCONCLUSIVE").type(TypeAlteration.CUPPA_INCONCLUSIVE).build();
-
-            ActionabilityEntry entry = actionabilityMap.get(keyCuppaInconclusive);
+            ActionabilityEntry entry = actionabilityLookup.get("CUPPA_INCONCLUSIVE", TypeAlteration.CUPPA_INCONCLUSIVE);
             if (entry != null && entry.condition() == Condition.OTHER) {
                 if (bestPrediction.likelihood() >= 0.5) {
                     conclusion.add(conclusion.size(),
-                            "- " + entry.conclusion().replace("xxx - xx%", bestPrediction.cancerType() + "-" + likelihoodPercentage));
+                            "- " + entry.conclusionTemplate()
+                                    .render(Placeholder.HIGHEST_LIKELIHOOD_TUMOR_TYPE,
+                                            bestPrediction.cancerType() + "-" + likelihoodPercentage));
                 } else {
-                    conclusion.add(conclusion.size(), "- " + entry.conclusion().replace(" (highest likelihood: xxx - xx%)", ""));
+                    conclusion.add(conclusion.size(),
+                            "- " + entry.conclusionTemplate().render(Placeholder.HIGHEST_LIKELIHOOD_TUMOR_TYPE, null));
                 }
 
             }
         } else {
-            ActionabilityKey keyCuppa = ImmutableActionabilityKey.builder().match("CUPPA").type(TypeAlteration.CUPPA).build();
-
-            ActionabilityEntry entry = actionabilityMap.get(keyCuppa);
+            ActionabilityEntry entry = actionabilityLookup.get("CUPPA", TypeAlteration.CUPPA);
             if (entry != null && entry.condition() == Condition.OTHER) {
                 conclusion.add(conclusion.size(),
-                        "- " + entry.conclusion()
-                                .replace("XXXX", bestPrediction.cancerType() + " (likelihood: " + likelihoodPercentage + ")"));
+                        "- " + entry.conclusionTemplate()
+                                .render(Placeholder.TUMOR_TYPE_WITH_LIKELIHOOD,
+                                        bestPrediction.cancerType() + " (likelihood: " + likelihoodPercentage + ")"));
             }
         }
     }
 
     @VisibleForTesting
     static void generateVariantConclusion(@NotNull List<String> conclusion, @NotNull List<ReportableVariant> reportableVariants,
-            @NotNull Map<ActionabilityKey, ActionabilityEntry> actionabilityMap, @NotNull Map<String, DriverGene> driverGenesMap,
+            @NotNull ActionabilityLookup actionabilityLookup, @NotNull Map<String, DriverGene> driverGenesMap,
             @NotNull Set<String> oncogenic, @NotNull Set<String> actionable, @NotNull Set<String> HRD, @NotNull ChordRecord chord) {
         Map<String, Set<VariantKey>> variantKeyList = Maps.newHashMap();
 
@@ -271,8 +330,7 @@ public final class ConclusionAlgo {
                 variantMerging.add(variant);
             }
 
-            ActionabilityKey keySomaticVariant = ImmutableActionabilityKey.builder().match(keyMap.getKey()).type(alteration).build();
-            ActionabilityEntry entry = actionabilityMap.get(keySomaticVariant);
+            ActionabilityEntry entry = actionabilityLookup.get(keyMap.getKey(), alteration);
             if (entry != null) {
                 // The driver interpretation is for every entry the same because it is based on gene level and not on variant level
                 if ((keyMap.getValue().iterator().next().driverInterpretation() == DriverInterpretation.HIGH && (
@@ -289,9 +347,7 @@ public final class ConclusionAlgo {
                         }
                         var variantKey = keyMap.getValue().iterator().next();
                         if (!variantKey.biallelic()) {
-                            ActionabilityKey keyBiallelic =
-                                    ImmutableActionabilityKey.builder().match("NOT_BIALLELIC").type(TypeAlteration.NOT_BIALLELIC).build();
-                            ActionabilityEntry entryBiallelic = actionabilityMap.get(keyBiallelic);
+                            ActionabilityEntry entryBiallelic = actionabilityLookup.get("NOT_BIALLELIC", TypeAlteration.NOT_BIALLELIC);
                             if (entryBiallelic.condition() == Condition.OTHER) {
                                 String sentence = entry.conclusion();
                                 conclusion.add("- " + keyMap.getKey() + " (" + variantMerging + ") " + sentence.replace("inactivation",
@@ -318,7 +374,7 @@ public final class ConclusionAlgo {
 
     @VisibleForTesting
     static void generateCNVConclusion(@NotNull List<String> conclusion, @NotNull Collection<PurpleGainLoss> reportableGainLosses,
-            @NotNull Map<ActionabilityKey, ActionabilityEntry> actionabilityMap, @NotNull Set<String> oncogenic,
+            @NotNull ActionabilityLookup actionabilityLookup, @NotNull Set<String> oncogenic,
             @NotNull Set<String> actionable, boolean hasReliablePurity) {
         for (PurpleGainLoss gainLoss : reportableGainLosses) {
             oncogenic.add("CNV");
@@ -326,8 +382,7 @@ public final class ConclusionAlgo {
             if (gainLoss.interpretation() == CopyNumberInterpretation.FULL_LOSS
                     || gainLoss.interpretation() == CopyNumberInterpretation.PARTIAL_LOSS) {
 
-                ActionabilityKey keyLoss = ImmutableActionabilityKey.builder().match(gainLoss.gene()).type(TypeAlteration.LOSS).build();
-                ActionabilityEntry entry = actionabilityMap.get(keyLoss);
+                ActionabilityEntry entry = actionabilityLookup.get(gainLoss.gene(), TypeAlteration.LOSS);
 
                 if (entry != null && (entry.condition() == Condition.ALWAYS || entry.condition() == Condition.HIGH_NO_ACTIONABLE)) {
                     String copies = " (copies: " + roundCopyNumber(gainLoss.minCopies(), hasReliablePurity) + ")";
@@ -338,9 +393,7 @@ public final class ConclusionAlgo {
 
             if (gainLoss.interpretation() == CopyNumberInterpretation.FULL_GAIN
                     || gainLoss.interpretation() == CopyNumberInterpretation.PARTIAL_GAIN) {
-                ActionabilityKey keyGain =
-                        ImmutableActionabilityKey.builder().match(gainLoss.gene()).type(TypeAlteration.AMPLIFICATION).build();
-                ActionabilityEntry entry = actionabilityMap.get(keyGain);
+                ActionabilityEntry entry = actionabilityLookup.get(gainLoss.gene(), TypeAlteration.AMPLIFICATION);
 
                 if (entry != null && entry.condition() == Condition.ALWAYS) {
                     String copies = " (copies: " + roundCopyNumber(gainLoss.maxCopies(), hasReliablePurity) + ")";
@@ -361,40 +414,29 @@ public final class ConclusionAlgo {
 
     @VisibleForTesting
     static void generateFusionConclusion(@NotNull List<String> conclusion, @NotNull Collection<LinxFusion> reportableFusions,
-            @NotNull Map<ActionabilityKey, ActionabilityEntry> actionabilityMap, @NotNull Set<String> oncogenic,
+            @NotNull ActionabilityLookup actionabilityLookup, @NotNull Set<String> oncogenic,
             @NotNull Set<String> actionable) {
         for (LinxFusion fusion : reportableFusions) {
             oncogenic.add("fusion");
 
             if ((fusion.reportedType() == LinxFusionType.EXON_DEL_DUP) && fusion.geneStart().equals("EGFR") && (fusion.fusedExonUp() == 25
                     && fusion.fusedExonDown() == 14) || (fusion.fusedExonUp() == 26 && fusion.fusedExonDown() == 18)) {
-                ActionabilityKey keyFusion = ImmutableActionabilityKey.builder()
-                        .match(fusion.geneStart())
-                        .type(TypeAlteration.KINASE_DOMAIN_DUPLICATION)
-                        .build();
-                ActionabilityEntry entry = actionabilityMap.get(keyFusion);
+                ActionabilityEntry entry = actionabilityLookup.get(fusion.geneStart(), TypeAlteration.KINASE_DOMAIN_DUPLICATION);
                 if (entry != null && entry.condition() == Condition.ALWAYS) {
                     conclusion.add("- " + fusion.geneStart() + " - " + fusion.geneEnd() + " (" + fusion.geneContextStart() + " - "
                             + fusion.geneContextEnd() + ") " + entry.conclusion());
                     actionable.add("fusion");
                 }
             } else if (fusion.reportedType() == LinxFusionType.EXON_DEL_DUP) {
-                ActionabilityKey keyFusion =
-                        ImmutableActionabilityKey.builder().match(fusion.geneStart()).type(TypeAlteration.INTERNAL_DELETION).build();
-                ActionabilityEntry entry = actionabilityMap.get(keyFusion);
+                ActionabilityEntry entry = actionabilityLookup.get(fusion.geneStart(), TypeAlteration.INTERNAL_DELETION);
                 if (entry != null && entry.condition() == Condition.ALWAYS) {
                     conclusion.add("- " + fusion.geneStart() + " - " + fusion.geneEnd() + " (" + fusion.geneContextStart() + " - "
                             + fusion.geneContextEnd() + ") " + entry.conclusion());
                     actionable.add("fusion");
                 }
             } else if (FUSION_TYPES.contains(fusion.reportedType())) {
-                ActionabilityKey keyFusionStart =
-                        ImmutableActionabilityKey.builder().match(fusion.geneStart()).type(TypeAlteration.FUSION).build();
-                ActionabilityKey keyFusionEnd =
-                        ImmutableActionabilityKey.builder().match(fusion.geneEnd()).type(TypeAlteration.FUSION).build();
-
-                ActionabilityEntry entryStart = actionabilityMap.get(keyFusionStart);
-                ActionabilityEntry entryEnd = actionabilityMap.get(keyFusionEnd);
+                ActionabilityEntry entryStart = actionabilityLookup.get(fusion.geneStart(), TypeAlteration.FUSION);
+                ActionabilityEntry entryEnd = actionabilityLookup.get(fusion.geneEnd(), TypeAlteration.FUSION);
 
                 if (entryStart != null && entryStart.condition() == Condition.ALWAYS) {
                     conclusion.add("- " + fusion.geneStart() + " - " + fusion.geneEnd() + " (" + fusion.geneContextStart() + " - "
@@ -412,15 +454,13 @@ public final class ConclusionAlgo {
     @VisibleForTesting
     static void generateHomozygousDisruptionConclusion(@NotNull List<String> conclusion,
             @NotNull Collection<HomozygousDisruption> homozygousDisruptions,
-            @NotNull Map<ActionabilityKey, ActionabilityEntry> actionabilityMap, @NotNull Set<String> oncogenic,
+            @NotNull ActionabilityLookup actionabilityLookup, @NotNull Set<String> oncogenic,
             @NotNull Set<String> actionable) {
 
         for (HomozygousDisruption homozygousDisruption : homozygousDisruptions) {
             oncogenic.add("homozygousDisruption");
 
-            ActionabilityKey keyHomozygousDisruption =
-                    ImmutableActionabilityKey.builder().match(homozygousDisruption.gene()).type(TypeAlteration.INACTIVATION).build();
-            ActionabilityEntry entry = actionabilityMap.get(keyHomozygousDisruption);
+            ActionabilityEntry entry = actionabilityLookup.get(homozygousDisruption.gene(), TypeAlteration.INACTIVATION);
             if (entry != null && (entry.condition() == Condition.ALWAYS || entry.condition() == Condition.HIGH_NO_ACTIONABLE
                     || entry.condition() == Condition.ONLY_HIGH)) {
                 conclusion.add("- " + homozygousDisruption.gene() + " " + entry.conclusion());
@@ -431,7 +471,7 @@ public final class ConclusionAlgo {
 
     @VisibleForTesting
     static void generateVirusHLAConclusion(@NotNull List<String> conclusion, @NotNull Collection<AnnotatedVirus> reportableViruses,
-            @NotNull Collection<LilacAllele> lilac, @NotNull Map<ActionabilityKey, ActionabilityEntry> actionabilityMap,
+            @NotNull Collection<LilacAllele> lilac, @NotNull ActionabilityLookup actionabilityLookup,
             @NotNull Collection<String> oncogenic, @NotNull Collection<String> actionable) {
         final String hlaAlleleString = "A*02:01";
         boolean containsHlaAllele = lilac.stream().anyMatch(entry -> entry.allele().equals(hlaAlleleString));
@@ -445,20 +485,14 @@ public final class ConclusionAlgo {
                     if (virus.interpretation() != VirusInterpretation.HPV) {
                         continue;
                     }
-                    ActionabilityKey key =
-                            ImmutableActionabilityKey.builder().match("HPV-16 | HLA-A*02").type(TypeAlteration.POSITIVE).build();
-                    ActionabilityEntry entry = actionabilityMap.get(key);
+                    ActionabilityEntry entry = actionabilityLookup.get(HPV_HLA_MATCH, TypeAlteration.POSITIVE);
                     if (entry == null || entry.condition() != Condition.ONLY_HIGH) {
                         continue;
                     }
                     oncogenic.add("HLA | virus");
-                    conclusion.add("- " + key.match() + " " + entry.conclusion());
+                    conclusion.add("- " + HPV_HLA_MATCH + " " + entry.conclusion());
                 } else {
-                    ActionabilityKey key = ImmutableActionabilityKey.builder()
-                            .match(virus.interpretation().toString())
-                            .type(TypeAlteration.POSITIVE)
-                            .build();
-                    ActionabilityEntry entry = actionabilityMap.get(key);
+                    ActionabilityEntry entry = actionabilityLookup.get(virus.interpretation().toString(), TypeAlteration.POSITIVE);
                     if (entry == null || entry.condition() != Condition.ONLY_HIGH) {
                         continue;
                     }
@@ -468,33 +502,29 @@ public final class ConclusionAlgo {
                 }
             }
         } else if (containsHlaAllele) {
-            ActionabilityKey key = ImmutableActionabilityKey.builder().match("HLA-A*02").type(TypeAlteration.POSITIVE).build();
-            ActionabilityEntry entry = actionabilityMap.get(key);
+            ActionabilityEntry entry = actionabilityLookup.get(HLA_MATCH, TypeAlteration.POSITIVE);
             if (entry != null && entry.condition() == Condition.ALWAYS) {
                 oncogenic.add("hla");
                 actionable.add("hla");
-                conclusion.add("- " + key.match() + " " + entry.conclusion());
+                conclusion.add("- " + HLA_MATCH + " " + entry.conclusion());
             }
         }
     }
 
     @VisibleForTesting
     static void generateHrdConclusion(@NotNull List<String> conclusion, @NotNull ChordRecord chord,
-            @NotNull Map<ActionabilityKey, ActionabilityEntry> actionabilityMap, @NotNull Set<String> oncogenic,
+            @NotNull ActionabilityLookup actionabilityLookup, @NotNull Set<String> oncogenic,
             @NotNull Set<String> actionable, @NotNull Set<String> HRD) {
         if (chord.hrStatus() == ChordStatus.HR_DEFICIENT) {
-            ActionabilityKey keyHRD = ImmutableActionabilityKey.builder().match("HRD").type(TypeAlteration.POSITIVE).build();
-            ActionabilityEntry entry = actionabilityMap.get(keyHRD);
+            ActionabilityEntry entry = actionabilityLookup.get("HRD", TypeAlteration.POSITIVE);
             if (entry != null && entry.condition() == Condition.ALWAYS) {
                 if (HRD.size() == 0) {
-                    ActionabilityKey keyNoHRD =
-                            ImmutableActionabilityKey.builder().match("NO_HRD_CAUSE").type(TypeAlteration.NO_HRD_CAUSE).build();
-                    ActionabilityEntry entryNoHRd = actionabilityMap.get(keyNoHRD);
+                    ActionabilityEntry entryNoHRd = actionabilityLookup.get("NO_HRD_CAUSE", TypeAlteration.NO_HRD_CAUSE);
                     if (entryNoHRd != null && entry.condition() == Condition.OTHER) {
                         conclusion.add("- " + "HRD (" + chord.hrdValue() + ") " + entry.conclusion() + entryNoHRd.conclusion());
                     }
                 }
-                conclusion.add("- " + "HRD (" + SINGLE_DECIMAL_FORMAT.format(chord.hrdValue()) + ") " + entry.conclusion());
+                conclusion.add("- " + "HRD (" + SINGLE_DECIMAL_FORMAT.get().format(chord.hrdValue()) + ") " + entry.conclusion());
 
                 actionable.add("HRD");
                 oncogenic.add("HRD");
@@ -504,13 +534,12 @@ public final class ConclusionAlgo {
 
     @VisibleForTesting
     static void generateMSIConclusion(@NotNull List<String> conclusion, @NotNull PurpleMicrosatelliteStatus microsatelliteStatus,
-            double microsatelliteMb, @NotNull Map<ActionabilityKey, ActionabilityEntry> actionabilityMap, @NotNull Set<String> oncogenic,
+            double microsatelliteMb, @NotNull ActionabilityLookup actionabilityLookup, @NotNull Set<String> oncogenic,
             @NotNull Set<String> actionable) {
         if (microsatelliteStatus == PurpleMicrosatelliteStatus.MSI) {
-            ActionabilityKey keyMSI = ImmutableActionabilityKey.builder().match("MSI").type(TypeAlteration.POSITIVE).build();
-            ActionabilityEntry entry = actionabilityMap.get(keyMSI);
+            ActionabilityEntry entry = actionabilityLookup.get("MSI", TypeAlteration.POSITIVE);
             if (entry != null && entry.condition() == Condition.ALWAYS) {
-                conclusion.add("- " + "MSI (" + SINGLE_DECIMAL_FORMAT.format(microsatelliteMb) + ") " + entry.conclusion());
+                conclusion.add("- " + "MSI (" + SINGLE_DECIMAL_FORMAT.get().format(microsatelliteMb) + ") " + entry.conclusion());
                 actionable.add("MSI");
                 oncogenic.add("MSI");
             }
@@ -519,13 +548,12 @@ public final class ConclusionAlgo {
 
     @VisibleForTesting
     static void generateTMBConclusion(@NotNull List<String> conclusion, @NotNull PurpleTumorMutationalStatus tumorMutationalStatus,
-            double tumorMutationalBurden, @NotNull Map<ActionabilityKey, ActionabilityEntry> actionabilityMap,
+            double tumorMutationalBurden, @NotNull ActionabilityLookup actionabilityLookup,
             @NotNull Set<String> oncogenic, @NotNull Set<String> actionable) {
         if (tumorMutationalStatus == PurpleTumorMutationalStatus.HIGH) {
-            ActionabilityKey keyTMB = ImmutableActionabilityKey.builder().match("High-TMB").type(TypeAlteration.POSITIVE).build();
-            ActionabilityEntry entry = actionabilityMap.get(keyTMB);
+            ActionabilityEntry entry = actionabilityLookup.get("High-TMB", TypeAlteration.POSITIVE);
             if (entry != null && entry.condition() == Condition.ALWAYS) {
-                conclusion.add("- " + "TMB (" + SINGLE_DECIMAL_FORMAT.format(tumorMutationalBurden) + ") " + entry.conclusion());
+                conclusion.add("- " + "TMB (" + SINGLE_DECIMAL_FORMAT.get().format(tumorMutationalBurden) + ") " + entry.conclusion());
                 actionable.add("TMB");
                 oncogenic.add("TMB");
             }
@@ -534,40 +562,31 @@ public final class ConclusionAlgo {
 
     @VisibleForTesting
     static void generatePurityConclusion(@NotNull List<String> conclusion, double purity, boolean containsTumorCells,
-            @NotNull Map<ActionabilityKey, ActionabilityEntry> actionabilityMap) {
+            @NotNull ActionabilityLookup actionabilityLookup) {
         if (!containsTumorCells) {
-            ActionabilityKey keyReliable =
-                    ImmutableActionabilityKey.builder().match("PURITY_UNRELIABLE").type(TypeAlteration.PURITY_UNRELIABLE).build();
-
-            ActionabilityEntry entryReliable = actionabilityMap.get(keyReliable);
+            ActionabilityEntry entryReliable = actionabilityLookup.get("PURITY_UNRELIABLE", TypeAlteration.PURITY_UNRELIABLE);
             if (entryReliable != null && entryReliable.condition() == Condition.OTHER) {
                 conclusion.add(conclusion.size(), "- " + entryReliable.conclusion() + "\n");
             }
         } else if (purity < PURITY_CUTOFF) {
-            ActionabilityKey keyPurity = ImmutableActionabilityKey.builder().match("PURITY").type(TypeAlteration.PURITY).build();
-
-            ActionabilityEntry entry = actionabilityMap.get(keyPurity);
+            ActionabilityEntry entry = actionabilityLookup.get("PURITY", TypeAlteration.PURITY);
             if (entry != null && entry.condition() == Condition.OTHER) {
-                conclusion.add(conclusion.size(), "- " + entry.conclusion().replace("XX%", Formats.formatPercentageRound(purity)) + "\n");
+                conclusion.add(conclusion.size(),
+                        "- " + entry.conclusionTemplate().render(Placeholder.PERCENTAGE, Formats.formatPercentageRound(purity)) + "\n");
             }
         }
     }
 
     @VisibleForTesting
-    static void generateTotalResults(@NotNull List<String> conclusion, @NotNull Map<ActionabilityKey, ActionabilityEntry> actionabilityMap,
+    static void generateTotalResults(@NotNull List<String> conclusion, @NotNull ActionabilityLookup actionabilityLookup,
             @NotNull Set<String> oncogenic, @NotNull Set<String> actionable) {
         if (oncogenic.size() == 0) {
-            ActionabilityKey keyOncogenic =
-                    ImmutableActionabilityKey.builder().match("NO_ONCOGENIC").type(TypeAlteration.NO_ONCOGENIC).build();
-
-            ActionabilityEntry entry = actionabilityMap.get(keyOncogenic);
+            ActionabilityEntry entry = actionabilityLookup.get("NO_ONCOGENIC", TypeAlteration.NO_ONCOGENIC);
             if (entry != null && entry.condition() == Condition.OTHER) {
                 conclusion.add(conclusion.size(), "- " + entry.conclusion());
             }
         } else if (actionable.size() == 0) {
-            ActionabilityKey keyActionable =
-                    ImmutableActionabilityKey.builder().match("NO_ACTIONABLE").type(TypeAlteration.NO_ACTIONABLE).build();
-            ActionabilityEntry entry = actionabilityMap.get(keyActionable);
+            ActionabilityEntry entry = actionabilityLookup.get("NO_ACTIONABLE", TypeAlteration.NO_ACTIONABLE);
             if (entry != null && entry.condition() == Condition.OTHER) {
                 conclusion.add(conclusion.size(), "- " + entry.conclusion());
             }
@@ -0,0 +1,41 @@
+package com.hartwig.oncoact.rose.conclusion;
+
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import org.jetbrains.annotations.NotNull;
+
+final class ConclusionSection {
+
+    @NotNull
+    private final List<String> sentences = Lists.newArrayList();
+    @NotNull
+    private final Set<String> oncogenic = Sets.newHashSet();
+    @NotNull
+    private final Set<String> actionable = Sets.newHashSet();
+    @NotNull
+    private final Set<String> hrdGenes = Sets.newHashSet();
+
+    @NotNull
+    List<String> sentences() {
+        return sentences;
+    }
+
+    @NotNull
+    Set<String> oncogenic() {
+        return oncogenic;
+    }
+
+    @NotNull
+    Set<String> actionable() {
+        return actionable;
+    }
+
+    @NotNull
+    Set<String> hrdGenes() {
+        return hrdGenes;
+    }
+}
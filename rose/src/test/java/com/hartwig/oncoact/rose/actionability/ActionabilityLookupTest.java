@@ -0,0 +1,33 @@
+package com.hartwig.oncoact.rose.actionability;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+
+import com.google.common.io.Resources;
+
+import org.junit.Test;
+
+public class ActionabilityLookupTest {
+
+    private static final String ACTIONABILITY_DB_TSV = Resources.getResource("actionability/ActionabilityDB.tsv").getPath();
+
+    @Test
+    public void canLookupEntriesOnMatchAndType() throws IOException {
+        ActionabilityLookup lookup = ActionabilityLookup.create(ActionabilityFileReader.read(ACTIONABILITY_DB_TSV));
+        assertEquals(4, lookup.entries().size());
+
+        ActionabilityEntry amplification = lookup.get("KRAS", TypeAlteration.AMPLIFICATION);
+        assertNotNull(amplification);
+        assertEquals(Condition.ALWAYS, amplification.condition());
+
+        ActionabilityEntry activation = lookup.get("KRAS", TypeAlteration.ACTIVATING_MUTATION);
+        assertNotNull(activation);
+        assertEquals(Condition.ONLY_HIGH, activation.condition());
+
+        assertNull(lookup.get("KRAS", TypeAlteration.LOSS));
+        assertNull(lookup.get("BRAF", TypeAlteration.AMPLIFICATION));
+    }
+}
@@ -0,0 +1,43 @@
+package com.hartwig.oncoact.rose.actionability;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.hartwig.oncoact.rose.actionability.ConclusionTemplate.Placeholder;
+
+import org.junit.Test;
+
+public class ConclusionTemplateTest {
+
+    @Test
+    public void canRenderPlaceholders() {
+        ConclusionTemplate cuppa = ConclusionTemplate.compile("Molecular Tissue of Origin classifier: XXXX.");
+        assertTrue(cuppa.contains(Placeholder.TUMOR_TYPE_WITH_LIKELIHOOD));
+        assertFalse(cuppa.contains(Placeholder.PERCENTAGE));
+        assertEquals("Molecular Tissue of Origin classifier: Melanoma (likelihood: 99.6%).",
+                cuppa.render(Placeholder.TUMOR_TYPE_WITH_LIKELIHOOD, "Melanoma (likelihood: 99.6%)"));
+
+        ConclusionTemplate purity = ConclusionTemplate.compile("Due to the lower tumor purity (XX%) potential (subclonal) DNA aberrations "
+                + "might not have been detected");
+        assertEquals("Due to the lower tumor purity (16%) potential (subclonal) DNA aberrations might not have been detected",
+                purity.render(Placeholder.PERCENTAGE, "16%"));
+    }
+
+    @Test
+    public void canDropOptionalGroup() {
+        ConclusionTemplate template = ConclusionTemplate.compile("Molecular Tissue of Origin classifier: Inconclusive "
+                + "(highest likelihood: xxx - xx%).");
+        assertEquals("Molecular Tissue of Origin classifier: Inconclusive (highest likelihood: Melanoma-60%).",
+                template.render(Placeholder.HIGHEST_LIKELIHOOD_TUMOR_TYPE, "Melanoma-60%"));
+        assertEquals("Molecular Tissue of Origin classifier: Inconclusive.",
+                template.render(Placeholder.HIGHEST_LIKELIHOOD_TUMOR_TYPE, null));
+    }
+
+    @Test
+    public void leavesTemplateWithoutPlaceholderUntouched() {
+        ConclusionTemplate template = ConclusionTemplate.compile("No placeholder (XX) here");
+        assertEquals("No placeholder (XX) here", template.render(Placeholder.PERCENTAGE, "10%"));
+        assertEquals("Value XX% only", ConclusionTemplate.compile("Value XX% only").render(Placeholder.PERCENTAGE, null));
+    }
+}
@@ -7,6 +7,8 @@ import static org.junit.Assert.assertTrue;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -41,13 +43,13 @@ import com.hartwig.oncoact.orange.lilac.TestLilacFactory;
 import com.hartwig.oncoact.orange.linx.TestLinxFactory;
 import com.hartwig.oncoact.orange.purple.TestPurpleFactory;
 import com.hartwig.oncoact.orange.virus.TestVirusInterpreterFactory;
+import com.hartwig.oncoact.rose.ActionabilityConclusion;
 import com.hartwig.oncoact.rose.ImmutableRoseData;
 import com.hartwig.oncoact.rose.RoseData;
 import com.hartwig.oncoact.rose.actionability.ActionabilityEntry;
-import com.hartwig.oncoact.rose.actionability.ActionabilityKey;
+import com.hartwig.oncoact.rose.actionability.ActionabilityLookup;
 import com.hartwig.oncoact.rose.actionability.Condition;
 import com.hartwig.oncoact.rose.actionability.ImmutableActionabilityEntry;
-import com.hartwig.oncoact.rose.actionability.ImmutableActionabilityKey;
 import com.hartwig.oncoact.rose.actionability.TypeAlteration;
 import com.hartwig.oncoact.variant.ReportableVariant;
 import com.hartwig.oncoact.variant.TestReportableVariantFactory;
@@ -62,6 +64,7 @@ public class ConclusionAlgoTest {
     public void runsOnTestData() {
         ImmutableRoseData.Builder builder = ImmutableRoseData.builder();
         RoseData minimal = builder.orange(TestOrangeFactory.createMinimalTestOrangeRecord())
+                .actionabilityLookup(ActionabilityLookup.create(Lists.newArrayList()))
                 .clinicalTranscriptsModel(ClinicalTranscriptModelTestFactory.createEmpty())
                 .build();
         assertNotNull(ConclusionAlgo.generateConclusion(minimal));
@@ -70,15 +73,38 @@ public class ConclusionAlgoTest {
         assertNotNull(ConclusionAlgo.generateConclusion(proper));
     }
 
+    @Test
+    public void generatesSameConclusionWithParallelExecutor() {
+        ActionabilityLookup actionabilityLookup = create(TypeAlteration.PURITY, "PURITY", Condition.OTHER, "low purity (XX%)");
+        actionabilityLookup = append(actionabilityLookup, TypeAlteration.POSITIVE, "HRD", Condition.ALWAYS, "HRD");
+        actionabilityLookup = append(actionabilityLookup, TypeAlteration.POSITIVE, "MSI", Condition.ALWAYS, "MSI");
+        actionabilityLookup = append(actionabilityLookup, TypeAlteration.POSITIVE, "High-TMB", Condition.ALWAYS, "TMB");
+        actionabilityLookup = append(actionabilityLookup, TypeAlteration.NO_ACTIONABLE, "NO_ACTIONABLE", Condition.OTHER, "no_actionable");
+
+        RoseData rose = ImmutableRoseData.builder()
+                .orange(TestOrangeFactory.createProperTestOrangeRecord())
+                .actionabilityLookup(actionabilityLookup)
+                .clinicalTranscriptsModel(ClinicalTranscriptModelTestFactory.createEmpty())
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ActionabilityConclusion parallel = ConclusionAlgo.generateConclusion(rose, executor);
+            assertEquals(ConclusionAlgo.generateConclusion(rose).conclusion(), parallel.conclusion());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void canGenerateCUPPAConclusion() {
         List<String> conclusion = Lists.newArrayList();
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap =
-                create("CUPPA", TypeAlteration.CUPPA, "CUPPA", Condition.OTHER, "Molecular Tissue of Origin classifier: XXXX.");
+        ActionabilityLookup actionabilityLookup =
+                create(TypeAlteration.CUPPA, "CUPPA", Condition.OTHER, "Molecular Tissue of Origin classifier: XXXX.");
 
         CuppaPrediction cuppaPrediction = TestCuppaFactory.builder().cancerType("Melanoma").likelihood(0.996).build();
 
-        ConclusionAlgo.generateCUPPAConclusion(conclusion, cuppaPrediction, actionabilityMap);
+        ConclusionAlgo.generateCUPPAConclusion(conclusion, cuppaPrediction, actionabilityLookup);
 
         assertEquals(1, conclusion.size());
         assertEquals(conclusion.get(0), "- Molecular Tissue of Origin classifier: Melanoma (likelihood: 99.6%).");
@@ -87,15 +113,14 @@ public class ConclusionAlgoTest {
     @Test
     public void canGenerateCUPPAConclusionInconclusive() {
         List<String> conclusion = Lists.newArrayList();
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap = create("CUPPA_INCONCLUSIVE",
-                TypeAlteration.CUPPA_INCONCLUSIVE,
+        ActionabilityLookup actionabilityLookup = create(TypeAlteration.CUPPA_INCONCLUSIVE,
                 "CUPPA_INCONCLUSIVE",
                 Condition.OTHER,
                 "Molecular Tissue of Origin classifier: Inconclusive (highest likelihood: xxx - xx%).");
 
         CuppaPrediction cuppaPrediction = TestCuppaFactory.builder().cancerType("Melanoma").likelihood(0.45).build();
 
-        ConclusionAlgo.generateCUPPAConclusion(conclusion, cuppaPrediction, actionabilityMap);
+        ConclusionAlgo.generateCUPPAConclusion(conclusion, cuppaPrediction, actionabilityLookup);
 
         assertEquals(1, conclusion.size());
         assertEquals(conclusion.get(0), "- Molecular Tissue of Origin classifier: Inconclusive.");
@@ -104,15 +129,14 @@ public class ConclusionAlgoTest {
     @Test
     public void canGenerateCUPPAConclusionInconclusiveWithLocation() {
         List<String> conclusion = Lists.newArrayList();
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap = create("CUPPA_INCONCLUSIVE",
-                TypeAlteration.CUPPA_INCONCLUSIVE,
+        ActionabilityLookup actionabilityLookup = create(TypeAlteration.CUPPA_INCONCLUSIVE,
                 "CUPPA_INCONCLUSIVE",
                 Condition.OTHER,
                 "Molecular Tissue of Origin classifier: Inconclusive (highest likelihood: xxx - xx%).");
 
         CuppaPrediction cuppaPrediction = TestCuppaFactory.builder().cancerType("Melanoma").likelihood(0.601).build();
 
-        ConclusionAlgo.generateCUPPAConclusion(conclusion, cuppaPrediction, actionabilityMap);
+        ConclusionAlgo.generateCUPPAConclusion(conclusion, cuppaPrediction, actionabilityLookup);
 
         assertEquals(1, conclusion.size());
         assertEquals(conclusion.get(0), "- Molecular Tissue of Origin classifier: Inconclusive (highest likelihood: Melanoma-60.1%).");
@@ -130,29 +154,28 @@ public class ConclusionAlgoTest {
         driverGenesMap.put("KRAS", createDriverGene("KRAS", DriverCategory.ONCO));
 
         List<String> conclusion = Lists.newArrayList();
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap =
-                create("CHEK2", TypeAlteration.INACTIVATION, "CHEK2", Condition.ONLY_HIGH, "CHEK2 inactivation");
-        actionabilityMap = append(actionabilityMap, "APC", TypeAlteration.ACTIVATING_MUTATION, "APC", Condition.HIGH_NO_ACTIONABLE, "APC");
-        actionabilityMap =
-                append(actionabilityMap, "BRCA2", TypeAlteration.INACTIVATION, "BRCA2", Condition.ONLY_HIGH, "BRCA2 inactivation");
-        actionabilityMap =
-                append(actionabilityMap, "BRCA1", TypeAlteration.INACTIVATION, "BRCA1", Condition.ONLY_HIGH, "BRCA1 inactivation");
-        actionabilityMap = append(actionabilityMap, "germline", TypeAlteration.GERMLINE, "germline", Condition.ONLY_HIGH, "germline");
-        actionabilityMap =
-                append(actionabilityMap, "NOT_BIALLELIC", TypeAlteration.NOT_BIALLELIC, "NOT_BIALLELIC", Condition.OTHER, "not biallelic");
-        actionabilityMap = append(actionabilityMap,
-                "TERT",
+        ActionabilityLookup actionabilityLookup =
+                create(TypeAlteration.INACTIVATION, "CHEK2", Condition.ONLY_HIGH, "CHEK2 inactivation");
+        actionabilityLookup = append(actionabilityLookup, TypeAlteration.ACTIVATING_MUTATION, "APC", Condition.HIGH_NO_ACTIONABLE, "APC");
+        actionabilityLookup =
+                append(actionabilityLookup, TypeAlteration.INACTIVATION, "BRCA2", Condition.ONLY_HIGH, "BRCA2 inactivation");
+        actionabilityLookup =
+                append(actionabilityLookup, TypeAlteration.INACTIVATION, "BRCA1", Condition.ONLY_HIGH, "BRCA1 inactivation");
+        actionabilityLookup = append(actionabilityLookup, TypeAlteration.GERMLINE, "germline", Condition.ONLY_HIGH, "germline");
+        actionabilityLookup =
+                append(actionabilityLookup, TypeAlteration.NOT_BIALLELIC, "NOT_BIALLELIC", Condition.OTHER, "not biallelic");
+        actionabilityLookup = append(actionabilityLookup,
                 TypeAlteration.PROMOTER_MUTATION,
                 "TERT",
                 Condition.HIGH_NO_ACTIONABLE,
                 "TERT promotor mutation");
-        actionabilityMap =
-                append(actionabilityMap, "KRAS", TypeAlteration.ACTIVATING_MUTATION, "KRAS", Condition.HIGH_NO_ACTIONABLE, "KRAS");
+        actionabilityLookup =
+                append(actionabilityLookup, TypeAlteration.ACTIVATING_MUTATION, "KRAS", Condition.HIGH_NO_ACTIONABLE, "KRAS");
         ChordRecord analysis = TestChordFactory.builder().hrdValue(0.8).hrStatus(ChordStatus.HR_DEFICIENT).build();
 
         ConclusionAlgo.generateVariantConclusion(conclusion,
                 reportableVariants,
-                actionabilityMap,
+                actionabilityLookup,
                 driverGenesMap,
                 Sets.newHashSet(),
                 Sets.newHashSet(),
@@ -172,13 +195,13 @@ public class ConclusionAlgoTest {
     public void canGenerateCNVConclusion() {
         Set<PurpleGainLoss> gainLoss = createTestGainsLosses();
         List<String> conclusion = Lists.newArrayList();
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap =
-                create("BRAF", TypeAlteration.AMPLIFICATION, "BRAF", Condition.ALWAYS, "BRAF");
-        actionabilityMap = append(actionabilityMap, "KRAS", TypeAlteration.AMPLIFICATION, "KRAS", Condition.ALWAYS, "KRAS");
-        actionabilityMap = append(actionabilityMap, "CDKN2A", TypeAlteration.LOSS, "CDKN2A", Condition.ALWAYS, "CDKN2A");
-        actionabilityMap = append(actionabilityMap, "EGFR", TypeAlteration.LOSS, "EGFR", Condition.ALWAYS, "EGFR");
+        ActionabilityLookup actionabilityLookup =
+                create(TypeAlteration.AMPLIFICATION, "BRAF", Condition.ALWAYS, "BRAF");
+        actionabilityLookup = append(actionabilityLookup, TypeAlteration.AMPLIFICATION, "KRAS", Condition.ALWAYS, "KRAS");
+        actionabilityLookup = append(actionabilityLookup, TypeAlteration.LOSS, "CDKN2A", Condition.ALWAYS, "CDKN2A");
+        actionabilityLookup = append(actionabilityLookup, TypeAlteration.LOSS, "EGFR", Condition.ALWAYS, "EGFR");
 
-        ConclusionAlgo.generateCNVConclusion(conclusion, gainLoss, actionabilityMap, Sets.newHashSet(), Sets.newHashSet(), true);
+        ConclusionAlgo.generateCNVConclusion(conclusion, gainLoss, actionabilityLookup, Sets.newHashSet(), Sets.newHashSet(), true);
 
         assertEquals(4, conclusion.size());
         assertTrue(conclusion.contains("- BRAF (copies: 4) BRAF"));
@@ -191,12 +214,12 @@ public class ConclusionAlgoTest {
     public void canGenerateFusionConclusion() {
         Set<LinxFusion> fusions = createTestFusions();
         List<String> conclusion = Lists.newArrayList();
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap =
-                create("BRAF", TypeAlteration.INTERNAL_DELETION, "BRAF", Condition.ALWAYS, "BRAF");
-        actionabilityMap = append(actionabilityMap, "MET", TypeAlteration.FUSION, "MET", Condition.ALWAYS, "MET");
-        actionabilityMap = append(actionabilityMap, "EGFR", TypeAlteration.KINASE_DOMAIN_DUPLICATION, "EGFR", Condition.ALWAYS, "EGFR");
+        ActionabilityLookup actionabilityLookup =
+                create(TypeAlteration.INTERNAL_DELETION, "BRAF", Condition.ALWAYS, "BRAF");
+        actionabilityLookup = append(actionabilityLookup, TypeAlteration.FUSION, "MET", Condition.ALWAYS, "MET");
+        actionabilityLookup = append(actionabilityLookup, TypeAlteration.KINASE_DOMAIN_DUPLICATION, "EGFR", Condition.ALWAYS, "EGFR");
 
-        ConclusionAlgo.generateFusionConclusion(conclusion, fusions, actionabilityMap, Sets.newHashSet(), Sets.newHashSet());
+        ConclusionAlgo.generateFusionConclusion(conclusion, fusions, actionabilityLookup, Sets.newHashSet(), Sets.newHashSet());
 
         assertEquals(4, conclusion.size());
         assertTrue(conclusion.contains("- BRAF - BRAF ( - ) BRAF"));
@@ -210,13 +233,13 @@ public class ConclusionAlgoTest {
         Set<HomozygousDisruption> homozygousDisruptions =
                 Sets.newHashSet(createHomozygousDisruption("PTEN"), createHomozygousDisruption("KRAS"));
         List<String> conclusion = Lists.newArrayList();
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap =
-                create("PTEN", TypeAlteration.INACTIVATION, "PTEN", Condition.ALWAYS, "PTEN");
-        actionabilityMap = append(actionabilityMap, "KRAS", TypeAlteration.INACTIVATION, "KRAS", Condition.ALWAYS, "KRAS");
+        ActionabilityLookup actionabilityLookup =
+                create(TypeAlteration.INACTIVATION, "PTEN", Condition.ALWAYS, "PTEN");
+        actionabilityLookup = append(actionabilityLookup, TypeAlteration.INACTIVATION, "KRAS", Condition.ALWAYS, "KRAS");
 
         ConclusionAlgo.generateHomozygousDisruptionConclusion(conclusion,
                 homozygousDisruptions,
-                actionabilityMap,
+                actionabilityLookup,
                 Sets.newHashSet(),
                 Sets.newHashSet());
 
@@ -230,12 +253,12 @@ public class ConclusionAlgoTest {
         Set<AnnotatedVirus> viruses = createTestVirusInterpreterEntries();
         List<LilacAllele> alleles = Lists.newArrayList();
         List<String> conclusion = Lists.newArrayList();
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap =
-                create("EBV", TypeAlteration.POSITIVE, "EBV", Condition.ONLY_HIGH, "EBV");
-        actionabilityMap = append(actionabilityMap, "HPV", TypeAlteration.POSITIVE, "HPV", Condition.ONLY_HIGH, "HPV");
-        actionabilityMap = append(actionabilityMap, "MCV", TypeAlteration.POSITIVE, "MCV", Condition.ONLY_HIGH, "MCV");
+        ActionabilityLookup actionabilityLookup =
+                create(TypeAlteration.POSITIVE, "EBV", Condition.ONLY_HIGH, "EBV");
+        actionabilityLookup = append(actionabilityLookup, TypeAlteration.POSITIVE, "HPV", Condition.ONLY_HIGH, "HPV");
+        actionabilityLookup = append(actionabilityLookup, TypeAlteration.POSITIVE, "MCV", Condition.ONLY_HIGH, "MCV");
 
-        ConclusionAlgo.generateVirusHLAConclusion(conclusion, viruses, alleles, actionabilityMap, Sets.newHashSet(), Sets.newHashSet());
+        ConclusionAlgo.generateVirusHLAConclusion(conclusion, viruses, alleles, actionabilityLookup, Sets.newHashSet(), Sets.newHashSet());
 
         assertEquals(2, conclusion.size());
         assertTrue(conclusion.contains("- MCV MCV"));
@@ -247,10 +270,10 @@ public class ConclusionAlgoTest {
         Set<AnnotatedVirus> viruses = Sets.newHashSet();
         List<LilacAllele> alleles = createTestLilacRecord().alleles();
         List<String> conclusion = Lists.newArrayList();
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap =
-                create("HLA-A*02", TypeAlteration.POSITIVE, "HLA-A*02", Condition.ALWAYS, "HLA-A*02 conclusion");
+        ActionabilityLookup actionabilityLookup =
+                create(TypeAlteration.POSITIVE, "HLA-A*02", Condition.ALWAYS, "HLA-A*02 conclusion");
 
-        ConclusionAlgo.generateVirusHLAConclusion(conclusion, viruses, alleles, actionabilityMap, Sets.newHashSet(), Sets.newHashSet());
+        ConclusionAlgo.generateVirusHLAConclusion(conclusion, viruses, alleles, actionabilityLookup, Sets.newHashSet(), Sets.newHashSet());
 
         assertEquals(1, conclusion.size());
         assertTrue(conclusion.contains("- HLA-A*02 HLA-A*02 conclusion"));
@@ -261,10 +284,10 @@ public class ConclusionAlgoTest {
         Set<AnnotatedVirus> viruses = createTestVirusInterpreterEntries();
         List<LilacAllele> alleles = createTestLilacRecord().alleles();
         List<String> conclusion = Lists.newArrayList();
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap =
-                create("HPV-16 | HLA-A*02", TypeAlteration.POSITIVE, "HPV-16 | HLA-A*02", Condition.ONLY_HIGH, "HPV HLA conclusion");
+        ActionabilityLookup actionabilityLookup =
+                create(TypeAlteration.POSITIVE, "HPV-16 | HLA-A*02", Condition.ONLY_HIGH, "HPV HLA conclusion");
 
-        ConclusionAlgo.generateVirusHLAConclusion(conclusion, viruses, alleles, actionabilityMap, Sets.newHashSet(), Sets.newHashSet());
+        ConclusionAlgo.generateVirusHLAConclusion(conclusion, viruses, alleles, actionabilityLookup, Sets.newHashSet(), Sets.newHashSet());
 
         assertEquals(1, conclusion.size());
         assertTrue(conclusion.contains("- HPV-16 | HLA-A*02 HPV HLA conclusion"));
@@ -273,12 +296,12 @@ public class ConclusionAlgoTest {
     @Test
     public void canGenerateHrdConclusion() {
         List<String> conclusion = Lists.newArrayList();
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap = create("HRD", TypeAlteration.POSITIVE, "HRD", Condition.ALWAYS, "HRD");
+        ActionabilityLookup actionabilityLookup = create(TypeAlteration.POSITIVE, "HRD", Condition.ALWAYS, "HRD");
 
         ChordRecord chord = TestChordFactory.builder().hrdValue(0.8).hrStatus(ChordStatus.HR_DEFICIENT).build();
         Set<String> hrd = Sets.newHashSet("BRCA1");
 
-        ConclusionAlgo.generateHrdConclusion(conclusion, chord, actionabilityMap, Sets.newHashSet(), Sets.newHashSet(), hrd);
+        ConclusionAlgo.generateHrdConclusion(conclusion, chord, actionabilityLookup, Sets.newHashSet(), Sets.newHashSet(), hrd);
 
         assertEquals(1, conclusion.size());
         assertEquals(conclusion.get(0), "- HRD (0.8) HRD");
@@ -287,10 +310,15 @@ public class ConclusionAlgoTest {
     @Test
     public void canGenerateHrpConclusion() {
         List<String> conclusion = Lists.newArrayList();
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap = create("HRD", TypeAlteration.POSITIVE, "HRD", Condition.ALWAYS, "HRD");
+        ActionabilityLookup actionabilityLookup = create(TypeAlteration.POSITIVE, "HRD", Condition.ALWAYS, "HRD");
 
         ChordRecord chord = TestChordFactory.builder().hrdValue(0.4).hrStatus(ChordStatus.HR_PROFICIENT).build();
-        ConclusionAlgo.generateHrdConclusion(conclusion, chord, actionabilityMap, Sets.newHashSet(), Sets.newHashSet(), Sets.newHashSet());
+        ConclusionAlgo.generateHrdConclusion(conclusion,
+                chord,
+                actionabilityLookup,
+                Sets.newHashSet(),
+                Sets.newHashSet(),
+                Sets.newHashSet());
 
         assertEquals(0, conclusion.size());
     }
@@ -298,12 +326,12 @@ public class ConclusionAlgoTest {
     @Test
     public void canGenerateMSIConclusion() {
         List<String> conclusion = Lists.newArrayList();
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap = create("MSI", TypeAlteration.POSITIVE, "MSI", Condition.ALWAYS, "MSI");
+        ActionabilityLookup actionabilityLookup = create(TypeAlteration.POSITIVE, "MSI", Condition.ALWAYS, "MSI");
 
         ConclusionAlgo.generateMSIConclusion(conclusion,
                 PurpleMicrosatelliteStatus.MSI,
                 4.5,
-                actionabilityMap,
+                actionabilityLookup,
                 Sets.newHashSet(),
                 Sets.newHashSet());
 
@@ -314,12 +342,12 @@ public class ConclusionAlgoTest {
     @Test
     public void canGenerateMSSConclusion() {
         List<String> conclusion = Lists.newArrayList();
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap = create("MSI", TypeAlteration.POSITIVE, "MSI", Condition.ALWAYS, "MSI");
+        ActionabilityLookup actionabilityLookup = create(TypeAlteration.POSITIVE, "MSI", Condition.ALWAYS, "MSI");
 
         ConclusionAlgo.generateMSIConclusion(conclusion,
                 PurpleMicrosatelliteStatus.MSS,
                 3.2,
-                actionabilityMap,
+                actionabilityLookup,
                 Sets.newHashSet(),
                 Sets.newHashSet());
 
@@ -329,13 +357,13 @@ public class ConclusionAlgoTest {
     @Test
     public void canGenerateTMBHighConclusion() {
         List<String> conclusion = Lists.newArrayList();
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap =
-                create("High-TMB", TypeAlteration.POSITIVE, "High-TMB", Condition.ALWAYS, "TMB");
+        ActionabilityLookup actionabilityLookup =
+                create(TypeAlteration.POSITIVE, "High-TMB", Condition.ALWAYS, "TMB");
 
         ConclusionAlgo.generateTMBConclusion(conclusion,
                 PurpleTumorMutationalStatus.HIGH,
                 17,
-                actionabilityMap,
+                actionabilityLookup,
                 Sets.newHashSet(),
                 Sets.newHashSet());
 
@@ -346,13 +374,13 @@ public class ConclusionAlgoTest {
     @Test
     public void canGenerateTMBLowConclusion() {
         List<String> conclusion = Lists.newArrayList();
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap =
-                create("High-TMB", TypeAlteration.POSITIVE, "High-TMB", Condition.ALWAYS, "TMB");
+        ActionabilityLookup actionabilityLookup =
+                create(TypeAlteration.POSITIVE, "High-TMB", Condition.ALWAYS, "TMB");
 
         ConclusionAlgo.generateTMBConclusion(conclusion,
                 PurpleTumorMutationalStatus.LOW,
                 9,
-                actionabilityMap,
+                actionabilityLookup,
                 Sets.newHashSet(),
                 Sets.newHashSet());
         assertEquals(0, conclusion.size());
@@ -361,10 +389,10 @@ public class ConclusionAlgoTest {
     @Test
     public void canGeneratePurityConclusionBelow() {
         List<String> conclusion = Lists.newArrayList();
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap =
-                create("PURITY", TypeAlteration.PURITY, "PURITY", Condition.OTHER, "low purity (XX%)");
+        ActionabilityLookup actionabilityLookup =
+                create(TypeAlteration.PURITY, "PURITY", Condition.OTHER, "low purity (XX%)");
 
-        ConclusionAlgo.generatePurityConclusion(conclusion, 0.16, true, actionabilityMap);
+        ConclusionAlgo.generatePurityConclusion(conclusion, 0.16, true, actionabilityLookup);
 
         assertEquals(1, conclusion.size());
         assertEquals(conclusion.get(0), "- low purity (16%)\n");
@@ -373,20 +401,20 @@ public class ConclusionAlgoTest {
     @Test
     public void canGeneratePurityConclusionAbove() {
         List<String> conclusion = Lists.newArrayList();
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap =
-                create("PURITY", TypeAlteration.PURITY, "PURITY", Condition.OTHER, "low purity (XX%)");
+        ActionabilityLookup actionabilityLookup =
+                create(TypeAlteration.PURITY, "PURITY", Condition.OTHER, "low purity (XX%)");
 
-        ConclusionAlgo.generatePurityConclusion(conclusion, 0.3, true, actionabilityMap);
+        ConclusionAlgo.generatePurityConclusion(conclusion, 0.3, true, actionabilityLookup);
         assertEquals(0, conclusion.size());
     }
 
     @Test
     public void canGeneratePurityConclusionReliable() {
         List<String> conclusion = Lists.newArrayList();
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap =
-                create("PURITY_UNRELIABLE", TypeAlteration.PURITY_UNRELIABLE, "PURITY_UNRELIABLE", Condition.OTHER, "unreliable");
+        ActionabilityLookup actionabilityLookup =
+                create(TypeAlteration.PURITY_UNRELIABLE, "PURITY_UNRELIABLE", Condition.OTHER, "unreliable");
 
-        ConclusionAlgo.generatePurityConclusion(conclusion, 0.3, false, actionabilityMap);
+        ConclusionAlgo.generatePurityConclusion(conclusion, 0.3, false, actionabilityLookup);
 
         assertEquals(1, conclusion.size());
         assertEquals(conclusion.get(0), "- unreliable\n");
@@ -395,10 +423,10 @@ public class ConclusionAlgoTest {
     @Test
     public void canGenerateTotalResultsOncogenic() {
         List<String> conclusion = Lists.newArrayList();
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap =
-                create("NO_ONCOGENIC", TypeAlteration.NO_ONCOGENIC, "NO_ONCOGENIC", Condition.OTHER, "no_oncogenic");
+        ActionabilityLookup actionabilityLookup =
+                create(TypeAlteration.NO_ONCOGENIC, "NO_ONCOGENIC", Condition.OTHER, "no_oncogenic");
 
-        ConclusionAlgo.generateTotalResults(conclusion, actionabilityMap, Sets.newHashSet(), Sets.newHashSet());
+        ConclusionAlgo.generateTotalResults(conclusion, actionabilityLookup, Sets.newHashSet(), Sets.newHashSet());
 
         assertEquals(1, conclusion.size());
         assertEquals(conclusion.get(0), "- no_oncogenic");
@@ -408,32 +436,33 @@ public class ConclusionAlgoTest {
     public void canGenerateTotalResultsActionable() {
         Set<String> oncogenic = Sets.newHashSet();
         List<String> conclusion = Lists.newArrayList();
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap =
-                create("NO_ACTIONABLE", TypeAlteration.NO_ACTIONABLE, "NO_ACTIONABLE", Condition.OTHER, "no_actionable");
+        ActionabilityLookup actionabilityLookup =
+                create(TypeAlteration.NO_ACTIONABLE, "NO_ACTIONABLE", Condition.OTHER, "no_actionable");
 
         oncogenic.add("fusion");
-        ConclusionAlgo.generateTotalResults(conclusion, actionabilityMap, oncogenic, Sets.newHashSet());
+        ConclusionAlgo.generateTotalResults(conclusion, actionabilityLookup, oncogenic, Sets.newHashSet());
 
         assertEquals(1, conclusion.size());
         assertEquals(conclusion.get(0), "- no_actionable");
     }
 
     @NotNull
-    private static Map<ActionabilityKey, ActionabilityEntry> create(@NotNull String gene, @NotNull TypeAlteration typeAlteration,
-            @NotNull String match, @NotNull Condition condition, @NotNull String conclusion) {
-        Map<ActionabilityKey, ActionabilityEntry> actionabilityMap = Maps.newHashMap();
-        return append(actionabilityMap, gene, typeAlteration, match, condition, conclusion);
+    private static ActionabilityLookup create(@NotNull TypeAlteration typeAlteration, @NotNull String match,
+            @NotNull Condition condition, @NotNull String conclusion) {
+        return append(ActionabilityLookup.create(Lists.newArrayList()), typeAlteration, match, condition, conclusion);
     }
 
     @NotNull
-    private static Map<ActionabilityKey, ActionabilityEntry> append(@NotNull Map<ActionabilityKey, ActionabilityEntry> actionabilityMap,
-            @NotNull String gene, @NotNull TypeAlteration typeAlteration, @NotNull String match, @NotNull Condition condition,
-            @NotNull String conclusion) {
-        ActionabilityKey key = ImmutableActionabilityKey.builder().match(gene).type(typeAlteration).build();
-        ActionabilityEntry entry =
-                ImmutableActionabilityEntry.builder().match(match).type(typeAlteration).condition(condition).conclusion(conclusion).build();
-        actionabilityMap.put(key, entry);
-        return actionabilityMap;
+    private static ActionabilityLookup append(@NotNull ActionabilityLookup actionabilityLookup, @NotNull TypeAlteration typeAlteration,
+            @NotNull String match, @NotNull Condition condition, @NotNull String conclusion) {
+        List<ActionabilityEntry> entries = Lists.newArrayList(actionabilityLookup.entries());
+        entries.add(ImmutableActionabilityEntry.builder()
+                .match(match)
+                .type(typeAlteration)
+                .condition(condition)
+                .conclusion(conclusion)
+                .build());
+        return ActionabilityLookup.create(entries);
     }
 
     @NotNull